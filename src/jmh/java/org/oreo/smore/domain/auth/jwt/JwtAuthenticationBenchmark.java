@@ -0,0 +1,60 @@
+package org.oreo.smore.domain.auth.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 인증 비용 벤치마크 (./gradlew jmh -PjmhIncludes=JwtAuthenticationBenchmark)
+ * - legacy: 요청마다 시크릿 디코딩 + 키/파서 생성 후 validateToken, getUserIdFromToken 두 번 파싱 (기존 JwtAuthenticationFilter)
+ * - singleParse: 미리 만든 키/파서로 한 번만 파싱 (캐시 미사용)
+ * - cached: 같은 토큰 반복 요청 시 검증 결과 캐시 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String ACCESS_SECRET =
+            "dGVzdC1hY2Nlc3MtdG9rZW4tc2VjcmV0LWtleS1mb3ItdGVzdGluZy1wdXJwb3NlLW9ubHk=";
+    private static final String REFRESH_SECRET =
+            "dGVzdC1yZWZyZXNoLXRva2VuLXNlY3JldC1rZXktZm9yLXRlc3RpbmctcHVycG9zZS1vbmx5";
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedProvider = new JwtTokenProvider(ACCESS_SECRET, REFRESH_SECRET, 900_000L, 604_800_000L, 0);
+        cachedProvider = new JwtTokenProvider(ACCESS_SECRET, REFRESH_SECRET, 900_000L, 604_800_000L, 10_000);
+        token = cachedProvider.createAccessToken("12345");
+        cachedProvider.resolveUserId(token, true);
+    }
+
+    @Benchmark
+    public String legacy() {
+        SecretKey validateKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ACCESS_SECRET));
+        Jwts.parser().verifyWith(validateKey).build().parseSignedClaims(token);
+
+        SecretKey subjectKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ACCESS_SECRET));
+        return Jwts.parser().verifyWith(subjectKey).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return uncachedProvider.resolveUserId(token, true).orElseThrow();
+    }
+
+    @Benchmark
+    public String cached() {
+        return cachedProvider.resolveUserId(token, true).orElseThrow();
+    }
+}
@@ -0,0 +1,96 @@
+package org.oreo.smore.domain.focusrecord;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 집중 기록 집계 벤치마크 (./gradlew jmh)
+ * - legacy: 엔티티 리스트를 시간대별 groupingBy + 박싱 평균 + 재정렬 후 집중 구간 계산 (기존 FocusRecordService)
+ * - onePass: 시간순 (timestamp, status)를 FocusRecordAggregator로 한 번 순회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FocusRecordAggregationBenchmark {
+
+    private static final ZoneOffset OFFSET = ZoneOffset.of("+09:00");
+    private static final int FOCUS_THRESHOLD = 80;
+
+    @Param({"10000", "100000"})
+    private int recordsPerUser;
+
+    private List<FocusRecord> entities;
+    private List<FocusSample> samples;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+
+        entities = new ArrayList<>(recordsPerUser);
+        samples = new ArrayList<>(recordsPerUser);
+        for (int i = 0; i < recordsPerUser; i++) {
+            Instant timestamp = base.plusSeconds(i * 120L);
+            int status = random.nextInt(101);
+            entities.add(FocusRecord.builder().userId(1L).timestamp(timestamp).status(status).build());
+            samples.add(new FocusSample(timestamp, status));
+        }
+        // DB에서 정렬 없이 가져온 상태를 흉내 내기 위해 섞어 둠 (기존 방식은 직접 정렬)
+        Collections.shuffle(entities, random);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        List<FocusRecord> records = new ArrayList<>(entities);
+
+        Map<Integer, List<FocusRecord>> groupedByHour = records.stream()
+                .collect(Collectors.groupingBy(r -> r.getTimestamp().atOffset(OFFSET).getHour()));
+        Map<Integer, Double> hourlyAverages = new HashMap<>();
+        Map<Integer, Long> recordCounts = new HashMap<>();
+        for (int hour = 0; hour < 24; hour++) {
+            List<FocusRecord> bucket = groupedByHour.getOrDefault(hour, Collections.emptyList());
+            recordCounts.put(hour, (long) bucket.size());
+            hourlyAverages.put(hour, bucket.stream().mapToInt(FocusRecord::getStatus).average().orElse(0.0));
+        }
+
+        records.sort(Comparator.comparing(FocusRecord::getTimestamp));
+        List<Integer> segments = new ArrayList<>();
+        int currentStreak = 0;
+        for (FocusRecord record : records) {
+            if (record.getStatus() >= FOCUS_THRESHOLD) {
+                currentStreak++;
+            } else if (currentStreak > 0) {
+                segments.add(currentStreak);
+                currentStreak = 0;
+            }
+        }
+        if (currentStreak > 0) {
+            segments.add(currentStreak);
+        }
+
+        blackhole.consume(hourlyAverages);
+        blackhole.consume(recordCounts);
+        blackhole.consume(segments.stream().mapToInt(Integer::intValue).average().orElse(0.0));
+    }
+
+    @Benchmark
+    public void onePass(Blackhole blackhole) {
+        FocusRecordAggregator aggregator = new FocusRecordAggregator(OFFSET);
+        for (FocusSample sample : samples) {
+            aggregator.accept(sample.timestamp(), sample.status());
+        }
+        aggregator.finish();
+
+        blackhole.consume(aggregator.average(9));
+        blackhole.consume(aggregator.averageStreakLength());
+    }
+}
@@ -0,0 +1,71 @@
+package org.oreo.smore.domain.studyroom;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스터디룸 검색 벤치마크 (./gradlew jmh -PjmhIncludes=StudyRoomSearchBenchmark)
+ * - likeScan: roomId 내림차순으로 전체 방을 훑으며 LOWER(title) LIKE '%검색어%' 비교 (선행 와일드카드 풀스캔과 같은 비용 구조)
+ * - index: StudyRoomSearchIndex n-gram 역색인 조회
+ * - 100k 방, 한 페이지(21건) 조회 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudyRoomSearchBenchmark {
+
+    private static final int ROOMS = 100_000;
+    private static final int PAGE_SIZE = 21;
+    private static final String[] SUBJECTS = {"자바", "파이썬", "토익", "토플", "알고리즘", "수능", "공무원", "회계", "디자인", "영어 회화"};
+    private static final String[] SUFFIXES = {"스터디", "모임", "같이 공부해요", "새벽반", "주말반", "인증방"};
+
+    @Param({"자바", "토플 새벽", "인증"})
+    private String query;
+
+    private List<StudyRoomSearchDocument> documentsDesc;
+    private StudyRoomSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<StudyRoomSearchDocument> documents = new ArrayList<>(ROOMS);
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            String title = SUBJECTS[random.nextInt(SUBJECTS.length)] + " " + SUFFIXES[random.nextInt(SUFFIXES.length)]
+                    + " " + random.nextInt(1000);
+            documents.add(new StudyRoomSearchDocument(roomId, title, null, null, StudyRoomCategory.SELF_STUDY));
+        }
+
+        index = new StudyRoomSearchIndex(null, true, 5000);
+        documents.forEach(index::index);
+        documentsDesc = documents.reversed();
+    }
+
+    @Benchmark
+    public void likeScan(Blackhole blackhole) {
+        String term = query.toLowerCase(Locale.ROOT);
+        List<Long> result = new ArrayList<>(PAGE_SIZE);
+        for (StudyRoomSearchDocument document : documentsDesc) {
+            if (document.title().toLowerCase(Locale.ROOT).contains(term)) {
+                result.add(document.roomId());
+                if (result.size() == PAGE_SIZE) {
+                    break;
+                }
+            }
+        }
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) {
+        blackhole.consume(index.search(query, null, Long.MAX_VALUE, PAGE_SIZE));
+    }
+}
@@ -33,7 +33,7 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        tokenService.checkNotExpired(refreshToken);
+        // 저장소 조회 한 번으로 존재/만료 확인 + userId
         Long userId = tokenService.getUserId(refreshToken);
 
         // 새 Access Token 세팅
@@ -27,12 +27,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1) 쿠키에서 accessToken 추출
         String token = extractTokenFromCookies(request);
 
-        // 2) 검증 및 SecurityContext 설정
-        if (token != null && tokenProvider.validateToken(token, true)) {
-            String userId = tokenProvider.getUserIdFromToken(token, true);
-            JwtAuthenticationToken auth =
-                    new JwtAuthenticationToken(userId, AuthorityUtils.NO_AUTHORITIES);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        // 2) 검증 및 SecurityContext 설정 (검증과 userId 추출을 한 번의 파싱으로)
+        if (token != null) {
+            tokenProvider.resolveUserId(token, true).ifPresent(userId -> {
+                JwtAuthenticationToken auth =
+                        new JwtAuthenticationToken(userId, AuthorityUtils.NO_AUTHORITIES);
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            });
         }
 
         filterChain.doFilter(request, response);
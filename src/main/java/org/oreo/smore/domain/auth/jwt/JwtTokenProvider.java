@@ -8,26 +8,44 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.access-token-secret}")
-    private String accessSecret;             // Base64로 인코딩된 시크릿
-    @Value("${jwt.refresh-token-secret}")
-    private String refreshSecret;            // Base64로 인코딩된 시크릿
+    // 시크릿 디코딩/키 생성/파서 생성은 기동 시 한 번만
+    private final SecretKey accessKey;
+    private final SecretKey refreshKey;
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+
     @Getter
-    @Value("${jwt.access-token-expiration-ms}")
-    private long accessTokenExpMs;
+    private final long accessTokenExpMs;
     @Getter
-    @Value("${jwt.refresh-token-expiration-ms}")
-    private long refreshTokenExpMs;
+    private final long refreshTokenExpMs;
+
+    // 매 요청마다 같은 accessToken을 다시 검증하지 않도록 검증 결과 캐시
+    private final TokenSubjectCache accessTokenCache;
+
+    public JwtTokenProvider(@Value("${jwt.access-token-secret}") String accessSecret,      // Base64로 인코딩된 시크릿
+                            @Value("${jwt.refresh-token-secret}") String refreshSecret,    // Base64로 인코딩된 시크릿
+                            @Value("${jwt.access-token-expiration-ms}") long accessTokenExpMs,
+                            @Value("${jwt.refresh-token-expiration-ms}") long refreshTokenExpMs,
+                            @Value("${jwt.claims-cache-size:10000}") int claimsCacheSize) {
+        this.accessKey = toKey(accessSecret);
+        this.refreshKey = toKey(refreshSecret);
+        this.accessParser = Jwts.parser().verifyWith(accessKey).build();
+        this.refreshParser = Jwts.parser().verifyWith(refreshKey).build();
+        this.accessTokenExpMs = accessTokenExpMs;
+        this.refreshTokenExpMs = refreshTokenExpMs;
+        this.accessTokenCache = new TokenSubjectCache(claimsCacheSize, System::currentTimeMillis);
+    }
 
     // Secret(String) → Key 변환 헬퍼
-    private Key toKey(String base64Secret) {
+    private static SecretKey toKey(String base64Secret) {
         byte[] keyBytes = Decoders.BASE64.decode(base64Secret);
         return Keys.hmacShaKeyFor(keyBytes);
     }
@@ -40,7 +58,7 @@ public class JwtTokenProvider {
                 .setSubject(userId)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(toKey(accessSecret), SignatureAlgorithm.HS256)
+                .signWith(accessKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -52,34 +70,46 @@ public class JwtTokenProvider {
                 .setSubject(userId)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(toKey(refreshSecret), SignatureAlgorithm.HS256)
+                .signWith(refreshKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 토큰 검증 + userId 추출을 한 번의 파싱으로
+     * - 유효하지 않으면 empty
+     * - accessToken은 검증 결과를 exp까지 캐시해 같은 토큰의 반복 요청은 서명 검증을 생략
+     */
+    public Optional<String> resolveUserId(String token, boolean isAccess) {
+        if (isAccess) {
+            String cached = accessTokenCache.get(token);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        try {
+            Claims claims = (isAccess ? accessParser : refreshParser)
+                    .parseSignedClaims(token)
+                    .getPayload();
+            String subject = claims.getSubject();
+            if (isAccess && subject != null && claims.getExpiration() != null) {
+                accessTokenCache.put(token, subject, claims.getExpiration().getTime());
+            }
+            return Optional.ofNullable(subject);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     // 토큰에서 userId 추출
     public String getUserIdFromToken(String token, boolean isAccess) {
-        Key key = isAccess ? toKey(accessSecret) : toKey(refreshSecret);
-        return Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return resolveUserId(token, isAccess)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     // 유효성 검증
     public boolean validateToken(String token, boolean isAccess) {
-        try {
-            Key key = isAccess ? toKey(accessSecret) : toKey(refreshSecret);
-
-            Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        return resolveUserId(token, isAccess).isPresent();
     }
 }
@@ -0,0 +1,57 @@
+package org.oreo.smore.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 검증된 토큰 -> subject(userId) 캐시 (Caffeine)
+ * - 서명 검증에 성공한 토큰만 저장, 각 항목은 토큰의 exp 시각에 만료 (항목별 expireAfter)
+ * - 최대 maxSize개, 넘치면 Caffeine 정책으로 제거 (maxSize 0이면 캐시 사용 안 함)
+ * - 인증마다 거치는 경로라 전역 락 없이 동시 조회
+ */
+final class TokenSubjectCache {
+
+    private final LongSupplier clock;
+    private final Cache<String, Entry> entries;
+
+    TokenSubjectCache(int maxSize, LongSupplier clock) {
+        this.clock = clock;
+        this.entries = maxSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String token, Entry entry) ->
+                        Duration.ofMillis(Math.max(0L, entry.expiresAtMillis() - clock.getAsLong()))))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()))
+                .build();
+    }
+
+    String get(String token) {
+        if (entries == null) {
+            return null;
+        }
+        Entry entry = entries.getIfPresent(token);
+        return entry != null ? entry.subject() : null;
+    }
+
+    void put(String token, String subject, long expiresAtMillis) {
+        if (entries == null || clock.getAsLong() >= expiresAtMillis) {
+            return;
+        }
+        entries.put(token, new Entry(subject, expiresAtMillis));
+    }
+
+    long size() {
+        if (entries == null) {
+            return 0;
+        }
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private record Entry(String subject, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,52 @@
+package org.oreo.smore.domain.auth.token;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.auth.token-store.mode", havingValue = "db", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final TokenRepository tokenRepository;
+
+    @Override
+    @Transactional
+    public void replace(Long userId, String refreshToken, Instant expiresAt) {
+        tokenRepository.deleteByUserId(userId);
+        tokenRepository.save(Token.builder()
+                .userId(userId)
+                .refreshToken(refreshToken)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> findUserId(String refreshToken) {
+        Optional<Token> token = tokenRepository.findByRefreshToken(refreshToken);
+        if (token.isPresent() && token.get().getExpiresAt().isBefore(Instant.now())) {
+            tokenRepository.delete(token.get());
+            return Optional.empty();
+        }
+        return token.map(Token::getUserId);
+    }
+
+    @Override
+    @Transactional
+    public void delete(String refreshToken) {
+        tokenRepository.findByRefreshToken(refreshToken)
+                .ifPresent(tokenRepository::delete);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByUserId(Long userId) {
+        tokenRepository.deleteByUserId(userId);
+    }
+}
@@ -0,0 +1,138 @@
+package org.oreo.smore.domain.auth.token;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis refresh token 저장소
+ * - auth:rt:{sha256(token)}  -> userId           (PX = 토큰 남은 수명, 만료 시 Redis가 삭제)
+ * - auth:rt:user:{userId}    -> 현재 토큰 해시     (사용자당 토큰 1개, 교체/로그아웃 시 이전 토큰 찾기)
+ * - 원문 토큰은 저장하지 않음, 교체/삭제는 스크립트로 원자적으로 처리
+ * - audit 설정 시 발급 내역을 tokens 테이블에 해시로 남김 (만료 후 RefreshTokenPurgeJob이 정리)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.auth.token-store.mode", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    static final String TOKEN_KEY_PREFIX = "auth:rt:";
+    static final String USER_KEY_PREFIX = "auth:rt:user:";
+
+    // 이전 토큰 키 삭제 + 새 토큰 키/사용자 키 설정
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            local previous = redis.call('GET', KEYS[1])
+            if previous then
+                redis.call('DEL', ARGV[4] .. previous)
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            if previous then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 토큰 키 삭제, 사용자 키가 같은 토큰을 가리키면 함께 삭제
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            local userId = redis.call('GET', KEYS[1])
+            if not userId then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            local userKey = ARGV[2] .. userId
+            if redis.call('GET', userKey) == ARGV[1] then
+                redis.call('DEL', userKey)
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> DELETE_USER_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+                redis.call('DEL', ARGV[1] .. current)
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TokenRepository tokenRepository;
+    private final boolean auditEnabled;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate,
+                                  TokenRepository tokenRepository,
+                                  @Value("${app.auth.token-store.audit-enabled:true}") boolean auditEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.tokenRepository = tokenRepository;
+        this.auditEnabled = auditEnabled;
+    }
+
+    @Override
+    public void replace(Long userId, String refreshToken, Instant expiresAt) {
+        long ttlMillis = Duration.between(Instant.now(), expiresAt).toMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        String hash = hash(refreshToken);
+        redisTemplate.execute(REPLACE_SCRIPT,
+                List.of(USER_KEY_PREFIX + userId, TOKEN_KEY_PREFIX + hash),
+                hash, userId.toString(), Long.toString(ttlMillis), TOKEN_KEY_PREFIX);
+
+        if (auditEnabled) {
+            audit(userId, hash, expiresAt);
+        }
+    }
+
+    // GET 한 번으로 확인 (만료된 토큰은 Redis TTL로 이미 사라짐)
+    @Override
+    public Optional<Long> findUserId(String refreshToken) {
+        String userId = redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + hash(refreshToken));
+        return Optional.ofNullable(userId).map(Long::valueOf);
+    }
+
+    @Override
+    public void delete(String refreshToken) {
+        String hash = hash(refreshToken);
+        redisTemplate.execute(DELETE_SCRIPT, List.of(TOKEN_KEY_PREFIX + hash), hash, USER_KEY_PREFIX);
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+        redisTemplate.execute(DELETE_USER_SCRIPT, List.of(USER_KEY_PREFIX + userId), TOKEN_KEY_PREFIX);
+    }
+
+    // 감사 로그 저장 실패는 로그인을 막지 않음
+    private void audit(Long userId, String hash, Instant expiresAt) {
+        try {
+            tokenRepository.save(Token.builder()
+                    .userId(userId)
+                    .refreshToken(hash)
+                    .expiresAt(expiresAt)
+                    .build());
+        } catch (Exception e) {
+            log.warn("⚠️ refresh token 감사 로그 저장 실패 - 사용자ID: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
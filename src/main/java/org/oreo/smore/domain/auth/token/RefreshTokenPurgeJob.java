@@ -0,0 +1,28 @@
+package org.oreo.smore.domain.auth.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 만료된 tokens 행 정리
+ * - db 모드: 다시 제시되지 않은 만료 토큰, redis 모드: 만료된 감사 로그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+    private final TokenRepository tokenRepository;
+
+    @Scheduled(cron = "${app.auth.token-store.purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        int deleted = tokenRepository.deleteAllByExpiresAtBefore(Instant.now());
+        if (deleted > 0) {
+            log.info("만료 refresh token 정리 - 삭제 행 수: {}", deleted);
+        }
+    }
+}
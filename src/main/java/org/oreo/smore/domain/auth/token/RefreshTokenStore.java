@@ -0,0 +1,22 @@
+package org.oreo.smore.domain.auth.token;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * refresh token 저장소 (app.auth.token-store.mode로 선택)
+ * - db: MySQL tokens 테이블 (기본값)
+ * - redis: 해시한 토큰을 TTL 키로 보관, tokens 테이블은 선택적 감사 로그
+ */
+public interface RefreshTokenStore {
+
+    // 사용자의 기존 refresh token을 무효화하고 새 토큰으로 교체
+    void replace(Long userId, String refreshToken, Instant expiresAt);
+
+    // 저장돼 있고 만료되지 않은 토큰의 userId
+    Optional<Long> findUserId(String refreshToken);
+
+    void delete(String refreshToken);
+
+    void deleteByUserId(Long userId);
+}
@@ -11,7 +11,10 @@ import java.time.Instant;
 @RequiredArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tokens")
+@Table(name = "tokens", indexes = {
+        // 만료 행 정리 (RefreshTokenPurgeJob)
+        @Index(name = "idx_tokens_expires_at", columnList = "expires_at")
+})
 public class Token {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,11 +1,20 @@
 package org.oreo.smore.domain.auth.token;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 
 public interface TokenRepository extends JpaRepository<Token, Long> {
     Optional<Token> findByRefreshToken(String refreshToken);
     void deleteByUserId(Long userId);
-}
 
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Token t WHERE t.expiresAt < :now")
+    int deleteAllByExpiresAtBefore(@Param("now") Instant now);
+}
@@ -3,7 +3,6 @@ package org.oreo.smore.domain.auth.token;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
@@ -11,58 +10,23 @@ import java.time.Instant;
 @Service
 @RequiredArgsConstructor
 public class TokenService {
-    private final TokenRepository tokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
-    @Transactional
     public void deleteByUserId(Long userId) {
-        tokenRepository.deleteByUserId(userId);
+        refreshTokenStore.deleteByUserId(userId);
     }
 
-    @Transactional
     public void deleteRefreshToken(String refreshToken) {
-        tokenRepository.findByRefreshToken(refreshToken)
-                .ifPresent(tokenRepository::delete);
+        refreshTokenStore.delete(refreshToken);
     }
 
-    @Transactional
-    public Token createRefreshToken(Long userId, String refreshToken, Instant expiresAt) {
-        Token token = Token.builder()
-                .userId(userId)
-                .refreshToken(refreshToken)
-                .expiresAt(expiresAt)
-                .build();
-        return tokenRepository.save(token);
-    }
-
-    @Transactional
-    public Token replaceRefreshToken(Long userId, String newRefreshToken, Instant expiresAt) {
-        deleteByUserId(userId);
-        return createRefreshToken(userId, newRefreshToken, expiresAt);
-    }
-
-    @Transactional
-    public void checkNotExpired(String refreshToken) {
-        Token token = loadTokenEntity(refreshToken);
-        if (token.getExpiresAt().isBefore(Instant.now())) {
-            tokenRepository.delete(token);
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
-        }
+    public void replaceRefreshToken(Long userId, String newRefreshToken, Instant expiresAt) {
+        refreshTokenStore.replace(userId, newRefreshToken, expiresAt);
     }
 
+    // 저장돼 있고 만료되지 않은 refresh token의 userId (없거나 만료면 403)
     public Long getUserId(String refreshToken) {
-        Token token = loadTokenEntity(refreshToken);
-        return token.getUserId();
-    }
-
-    private Token loadTokenEntity(String refreshToken) {
-        return tokenRepository.findByRefreshToken(refreshToken)
+        return refreshTokenStore.findUserId(refreshToken)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN));
     }
-
-    public void deleteByRefreshToken(String refreshToken) {
-        try {
-            Token token = loadTokenEntity(refreshToken);
-            tokenRepository.delete(token);
-        } catch (ResponseStatusException ignored) { }
-    }
-}
\ No newline at end of file
+}
@@ -37,9 +37,12 @@ public class ChatController {
                 return;
             }
 
-            // 메시지 타입 설정 (기본값: CHAT)
-            ChatMessageDTO.Response savedMessage = chatService.saveMessage(request, user);
-            log.info("메시지 DB 저장 완료 - 메시지 ID: {}", savedMessage.getMessageId());
+            // write-behind 모드면 ID만 발급하고 저장은 브로드캐스트 이후로 미룸
+            boolean writeBehind = chatService.isWriteBehindEnabled();
+            ChatMessageDTO.Response savedMessage = writeBehind
+                    ? chatService.prepareMessage(request, user)
+                    : chatService.saveMessage(request, user);
+            log.info("메시지 준비 완료 - 메시지 ID: {}, write-behind: {}", savedMessage.getMessageId(), writeBehind);
 
             // 브로드캐스트용 메시지 생성
             ChatMessageDTO.Broadcast broadcastMessage = ChatMessageDTO.Broadcast.builder()
@@ -58,6 +61,10 @@ public class ChatController {
             String destination = "/topic/study-rooms/" + savedMessage.getRoomId() + "/chat";
             messagingTemplate.convertAndSend(destination, broadcastMessage);
 
+            if (writeBehind) {
+                chatService.persistLater(savedMessage);
+            }
+
             log.info("✅ 메시지 브로드캐스트 완료 - 사용자: {}, 룸ID: {}",
                     user.getNickname(), request.getRoomId());
 
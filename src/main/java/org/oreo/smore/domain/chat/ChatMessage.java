@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.oreo.smore.domain.user.User;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -33,10 +34,11 @@ import java.time.LocalDateTime;
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class ChatMessage {
+public class ChatMessage implements Persistable<Long> {
 
+    // ChatMessageIdGenerator가 발급한 ID (동기 저장/write-behind 모두 같은 ID 체계 사용)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
     private Long id;
 
     @Column(name = "room_id", nullable = false)
@@ -63,8 +65,13 @@ public class ChatMessage {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // ID를 직접 지정하므로 save() 시 merge(SELECT) 대신 persist 하도록 신규 여부를 따로 관리
+    @Transient
+    private boolean isNew = true;
+
     @Builder
-    public ChatMessage(Long roomId, User user, String content, MessageType messageType) {
+    public ChatMessage(Long id, Long roomId, User user, String content, MessageType messageType) {
+        this.id = id;
         this.roomId = roomId;
         this.user = user;
         this.content = content;
@@ -79,8 +86,20 @@ public class ChatMessage {
         return this.deletedAt != null;
     }
 
-    public static ChatMessage createSystemMessage(Long roomId, String content, MessageType messageType) {
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public static ChatMessage createSystemMessage(Long id, Long roomId, String content, MessageType messageType) {
         return ChatMessage.builder()
+                .id(id)
                 .roomId(roomId)
                 .user(null) // 시스템 메시지는 user null
                 .content(content)
@@ -0,0 +1,77 @@
+package org.oreo.smore.domain.chat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 순서가 보장되는 채팅 메시지 ID 생성기
+ * - DB INSERT 전에 브로드캐스트할 수 있도록 서버에서 미리 ID를 발급
+ * - 41bit 타임스탬프(ms) + 10bit 노드 + 12bit 시퀀스 구조
+ * - 여러 서버가 함께 도는 브로커 모드(redis, relay)에서는 노드 번호를 반드시 지정해야 기동됨
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2025-01-01T00:00:00Z 기준
+    private static final long CUSTOM_EPOCH = 1735689600000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final String SINGLE_NODE_BROKER_MODE = "simple";
+
+    private final long nodeId;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public ChatMessageIdGenerator(ChatWriteBehindProperties properties,
+                                  @Value("${app.websocket.broker.mode:simple}") String brokerMode) {
+        this(resolveNodeId(properties.getNodeId(), brokerMode));
+    }
+
+    ChatMessageIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public long nextId() {
+        return nextId(System.currentTimeMillis());
+    }
+
+    synchronized long nextId(long now) {
+        // 시계가 뒤로 간 경우 마지막 타임스탬프를 계속 사용 (순서 역전 방지)
+        long timestamp = Math.max(now, lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 안에서 시퀀스 소진 -> 기다리지 않고 다음 ms 값을 앞당겨 사용
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+
+        return ((timestamp - CUSTOM_EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    // 노드 번호 미지정은 단일 서버(simple) 모드에서만 허용 -> 0번 사용
+    static long resolveNodeId(Long configuredNodeId, String brokerMode) {
+        if (configuredNodeId != null) {
+            return configuredNodeId;
+        }
+        if (!SINGLE_NODE_BROKER_MODE.equalsIgnoreCase(brokerMode)) {
+            throw new IllegalStateException("브로커 모드 " + brokerMode
+                    + "에서는 서버마다 다른 채팅 노드 ID(CHAT_NODE_ID)를 지정해야 합니다 (메시지 ID 충돌 방지)");
+        }
+        return 0L;
+    }
+}
@@ -15,20 +15,20 @@ import java.util.Optional;
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
-    // 키셋 페이지네이션으로 채팅 메시지 조회
-    @Query("SELECT cm FROM ChatMessage cm " +
+    // 키셋 페이지네이션 + 작성자 fetch join (페이지당 쿼리 1회)
+    @Query("SELECT cm FROM ChatMessage cm LEFT JOIN FETCH cm.user " +
             "WHERE cm.roomId = :roomId AND cm.deletedAt IS NULL " +
             "AND (:lastMessageId IS NULL OR cm.createdAt < :lastCreatedAt " +
             "     OR (cm.createdAt = :lastCreatedAt AND cm.id < :lastMessageId)) " +
             "ORDER BY cm.createdAt DESC, cm.id DESC")
-    Slice<ChatMessage> findMessagesByRoomIdWithKeyset(
+    Slice<ChatMessage> findMessagesWithUserByRoomIdWithKeyset(
             @Param("roomId") Long roomId,
             @Param("lastMessageId") Long lastMessageId,
             @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
             Pageable pageable);
 
     // 특정 시간 이후의 메시지 조회
-    @Query("SELECT cm FROM ChatMessage cm " +
+    @Query("SELECT cm FROM ChatMessage cm LEFT JOIN FETCH cm.user " +
             "WHERE cm.roomId = :roomId AND cm.deletedAt IS NULL " +
             "AND cm.createdAt >= :since " +
             "ORDER BY cm.createdAt ASC")
@@ -36,7 +36,7 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
                                          @Param("since") LocalDateTime since);
 
     // 채팅방의 최신 메시지 조회
-    @Query("SELECT cm FROM ChatMessage cm " +
+    @Query("SELECT cm FROM ChatMessage cm LEFT JOIN FETCH cm.user " +
             "WHERE cm.roomId = :roomId AND cm.deletedAt IS NULL " +
             "ORDER BY cm.createdAt DESC, cm.id DESC " +
             "LIMIT 1")
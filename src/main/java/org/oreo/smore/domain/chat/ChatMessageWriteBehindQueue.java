@@ -0,0 +1,238 @@
+package org.oreo.smore.domain.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 저장 대기열
+ * - 브로드캐스트가 끝난 메시지를 받아 별도 스레드에서 묶음 INSERT
+ * - 대기열이 가득 차면 offerTimeoutMs 만큼 기다리고, 그래도 자리가 없으면 호출 스레드에서 바로 저장 (백프레셔)
+ * - 애플리케이션 종료 시 남은 메시지를 모두 저장
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindQueue {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_messages (id, room_id, user_id, content, message_type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_BY_ID_SQL =
+            "SELECT room_id, user_id, content FROM chat_messages WHERE id = ?";
+
+    private final ChatWriteBehindProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ChatMessageDTO.Response> queue;
+
+    private final Timer flushTimer;
+    private final Counter persistedCounter;
+    private final Counter fallbackCounter;
+    private final Counter failedCounter;
+    private final Counter conflictCounter;
+
+    private volatile boolean running = false;
+    private Thread flushThread;
+
+    public ChatMessageWriteBehindQueue(ChatWriteBehindProperties properties,
+                                       JdbcTemplate jdbcTemplate,
+                                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("chat.writebehind.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.writebehind.flush")
+                .description("채팅 메시지 묶음 INSERT 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.persistedCounter = Counter.builder("chat.writebehind.persisted")
+                .description("write-behind로 저장된 메시지 수")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("chat.writebehind.fallback")
+                .description("대기열 포화로 동기 저장된 메시지 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.writebehind.failed")
+                .description("저장에 실패한 메시지 수")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("chat.writebehind.conflict")
+                .description("같은 ID로 다른 메시지가 이미 저장되어 있던 건수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        flushThread = new Thread(this::runFlushLoop, "chat-write-behind");
+        flushThread.setDaemon(true);
+        flushThread.start();
+        log.info("✅ 채팅 write-behind 저장 시작 - 대기열: {}, 배치: {}",
+                properties.getQueueCapacity(), properties.getBatchSize());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (!running) {
+            return;
+        }
+        // 새 메시지 수신 중단 -> flush 스레드는 대기열을 모두 비운 뒤 종료
+        running = false;
+        try {
+            flushThread.join(properties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // flush 스레드가 시간 안에 못 비운 메시지는 여기서 마저 저장
+        List<ChatMessageDTO.Response> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        log.info("✅ 채팅 write-behind 종료 - 종료 시 저장한 메시지: {}", remaining.size());
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    // 저장 대기열에 추가, 자리가 없으면 호출 스레드에서 바로 저장
+    public void enqueue(ChatMessageDTO.Response message) {
+        if (!running) {
+            flush(List.of(message));
+            return;
+        }
+        try {
+            if (queue.offer(message, properties.getOfferTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.warn("⚠️ 채팅 저장 대기열 포화 - 동기 저장으로 전환, 메시지 ID: {}", message.getMessageId());
+        fallbackCounter.increment();
+        flush(List.of(message));
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void runFlushLoop() {
+        List<ChatMessageDTO.Response> batch = new ArrayList<>(properties.getBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessageDTO.Response first = queue.poll(properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 남은 메시지는 shutdown()에서 처리
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("❌ 채팅 write-behind 처리 중 오류 발생", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<ChatMessageDTO.Response> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, message) -> {
+                ps.setLong(1, message.getMessageId());
+                ps.setLong(2, message.getRoomId());
+                if (message.getUserId() != null) {
+                    ps.setLong(3, message.getUserId());
+                } else {
+                    ps.setNull(3, Types.BIGINT);
+                }
+                ps.setString(4, message.getContent());
+                ps.setString(5, message.getMessageType().name());
+                ps.setTimestamp(6, Timestamp.valueOf(message.getCreatedAt()));
+            });
+            persistedCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            // 묶음 중 한 건 때문에 전체가 실패할 수 있으므로 한 건씩 재시도
+            log.warn("⚠️ 채팅 묶음 저장 실패 - 개별 저장으로 재시도, 건수: {}", batch.size(), e);
+            flushOneByOne(batch);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void flushOneByOne(List<ChatMessageDTO.Response> batch) {
+        for (ChatMessageDTO.Response message : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL,
+                        message.getMessageId(),
+                        message.getRoomId(),
+                        message.getUserId(),
+                        message.getContent(),
+                        message.getMessageType().name(),
+                        Timestamp.valueOf(message.getCreatedAt()));
+                persistedCounter.increment();
+            } catch (DuplicateKeyException e) {
+                if (isAlreadyPersisted(message)) {
+                    // 묶음 INSERT 도중 이미 저장된 같은 메시지 (재시도)
+                    log.debug("이미 저장된 채팅 메시지 - 메시지 ID: {}", message.getMessageId());
+                } else {
+                    // 같은 ID에 다른 메시지가 저장되어 있음 (노드 ID 중복 등) -> 유실로 집계
+                    conflictCounter.increment();
+                    failedCounter.increment();
+                    log.error("❌ 채팅 메시지 ID 충돌 - 메시지 ID: {}, 룸ID: {}",
+                            message.getMessageId(), message.getRoomId(), e);
+                }
+            } catch (DataAccessException e) {
+                failedCounter.increment();
+                log.error("❌ 채팅 메시지 저장 실패 - 메시지 ID: {}, 룸ID: {}",
+                        message.getMessageId(), message.getRoomId(), e);
+            }
+        }
+    }
+
+    // 같은 ID로 저장된 행이 이 메시지와 같은 내용인지 확인
+    private boolean isAlreadyPersisted(ChatMessageDTO.Response message) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_BY_ID_SQL, message.getMessageId());
+        if (rows.isEmpty()) {
+            return false;
+        }
+        Map<String, Object> row = rows.get(0);
+        Number roomId = (Number) row.get("room_id");
+        Number userId = (Number) row.get("user_id");
+        return roomId != null && roomId.longValue() == message.getRoomId()
+                && Objects.equals(userId != null ? userId.longValue() : null, message.getUserId())
+                && Objects.equals(row.get("content"), message.getContent());
+    }
+}
@@ -0,0 +1,299 @@
+package org.oreo.smore.domain.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방별 최근 메시지 Redis 캐시 (hot window)
+ * - chat:recent:{roomId}       ZSET  messageId -> createdAt(마이크로초)
+ * - chat:recent:{roomId}:msg   HASH  messageId -> 메시지 JSON
+ * - chat:recent:{roomId}:warm  DB에서 최신 메시지를 채워 넣은 상태인지 표시
+ * - chat:recent:{roomId}:gen   무효화 횟수, DB를 읽는 사이 무효화되면 읽은 결과로 채우지 않음
+ * 저장 시 항상 추가하고 capacity 개수만 유지, warm 표시가 있을 때만 조회에 사용
+ * 메시지가 삭제되면 방 전체를 무효화하고 다음 조회 때 DB에서 다시 채움
+ */
+@Slf4j
+@Component
+public class ChatRecentMessageCache {
+
+    private static final String KEY_PREFIX = "chat:recent:";
+
+    // 추가 후 capacity 초과분은 ZSET/HASH 양쪽에서 함께 제거
+    // KEYS[3], KEYS[4]가 있으면 채우기: ARGV 마지막 값이 DB를 읽기 전 무효화 횟수와 같을 때만 기록
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            local tail = 2
+            if KEYS[4] then
+                if (redis.call('GET', KEYS[4]) or '0') ~= ARGV[#ARGV] then
+                    return -1
+                end
+                tail = 3
+            end
+            for i = 1, #ARGV - tail, 3 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+                redis.call('HSET', KEYS[2], ARGV[i + 1], ARGV[i + 2])
+            end
+            local capacity = tonumber(ARGV[#ARGV - tail + 1])
+            local overflow = redis.call('ZCARD', KEYS[1]) - capacity
+            if overflow > 0 then
+                local old = redis.call('ZRANGE', KEYS[1], 0, overflow - 1)
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+                redis.call('HDEL', KEYS[2], unpack(old))
+            end
+            local ttl = tonumber(ARGV[#ARGV - tail + 2])
+            redis.call('EXPIRE', KEYS[1], ttl)
+            redis.call('EXPIRE', KEYS[2], ttl)
+            -- warm 표시는 채울 때만 설정 (캐시 본체보다 먼저 만료되도록)
+            if KEYS[3] then
+                redis.call('SET', KEYS[3], '1', 'EX', ttl)
+            end
+            return math.max(overflow, 0)
+            """, Long.class);
+
+    // 캐시 키 삭제 + 무효화 횟수 증가 (진행 중인 채우기가 이전 DB 결과를 쓰지 못하도록)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            local generation = redis.call('INCR', KEYS[4])
+            redis.call('EXPIRE', KEYS[4], tonumber(ARGV[1]))
+            return generation
+            """, Long.class);
+
+    // 같은 시각 메시지는 ID 역순 (키셋 페이지네이션과 동일한 정렬)
+    private static final Comparator<ChatMessageDTO.Response> NEWEST_FIRST =
+            Comparator.comparing(ChatMessageDTO.Response::getCreatedAt)
+                    .thenComparing(ChatMessageDTO.Response::getMessageId)
+                    .reversed();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final long ttlSeconds;
+
+    public ChatRecentMessageCache(StringRedisTemplate redisTemplate,
+                                  @Value("${app.chat.recent-cache.enabled:false}") boolean enabled,
+                                  @Value("${app.chat.recent-cache.capacity:100}") int capacity,
+                                  @Value("${app.chat.recent-cache.ttl-seconds:1800}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.ttlSeconds = ttlSeconds;
+
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    // 새 메시지 추가 (방이 아직 warm 상태가 아니어도 추가해 두고, 조회 시 DB 결과와 합쳐짐)
+    public void add(ChatMessageDTO.Response message) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<String> args = new ArrayList<>();
+            appendEntry(args, message);
+            args.add(String.valueOf(capacity));
+            args.add(String.valueOf(ttlSeconds));
+
+            Long roomId = message.getRoomId();
+            redisTemplate.execute(ADD_SCRIPT, List.of(zsetKey(roomId), hashKey(roomId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("⚠️ 최근 메시지 캐시 추가 실패 - 룸ID: {}, 메시지 ID: {}",
+                    message.getRoomId(), message.getMessageId(), e);
+        }
+    }
+
+    // 방 전체 무효화 (메시지 삭제, 채팅방 삭제 시)
+    public void evictRoom(Long roomId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(EVICT_SCRIPT,
+                    List.of(zsetKey(roomId), hashKey(roomId), warmKey(roomId), generationKey(roomId)),
+                    String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("⚠️ 최근 메시지 캐시 무효화 실패 - 룸ID: {}", roomId, e);
+        }
+    }
+
+    /**
+     * 최신 메시지 size개 조회 (createdAt DESC, id DESC)
+     * - 캐시에 담긴 범위를 넘는 요청이면 empty -> 호출 측에서 DB 조회
+     * - 결과 리스트는 다음 페이지 존재 여부 판단을 위해 최대 size + 1개
+     */
+    public Optional<List<ChatMessageDTO.Response>> getLatest(Long roomId, int size,
+                                                             Supplier<List<ChatMessageDTO.Response>> loader) {
+        if (!enabled || size + 1 > capacity) {
+            return Optional.empty();
+        }
+        try {
+            List<ChatMessageDTO.Response> window = loadWindow(roomId, loader);
+            return Optional.of(window.subList(0, Math.min(size + 1, window.size())));
+        } catch (Exception e) {
+            log.warn("⚠️ 최근 메시지 캐시 조회 실패 - DB 조회로 대체, 룸ID: {}", roomId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * since 이후 메시지 조회 (createdAt ASC)
+     * - 캐시가 since 시점까지 덮지 못하면 empty -> 호출 측에서 DB 조회
+     */
+    public Optional<List<ChatMessageDTO.Response>> getSince(Long roomId, LocalDateTime since,
+                                                            Supplier<List<ChatMessageDTO.Response>> loader) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            List<ChatMessageDTO.Response> window = loadWindow(roomId, loader);
+
+            // 꽉 찬 캐시의 가장 오래된 메시지가 since 이후라면 그보다 오래된 메시지가 DB에 있을 수 있음
+            if (window.size() >= capacity
+                    && window.get(window.size() - 1).getCreatedAt().isAfter(since)) {
+                return Optional.empty();
+            }
+
+            List<ChatMessageDTO.Response> result = new ArrayList<>();
+            for (int i = window.size() - 1; i >= 0; i--) {
+                ChatMessageDTO.Response message = window.get(i);
+                if (!message.getCreatedAt().isBefore(since)) {
+                    result.add(message);
+                }
+            }
+            return Optional.of(result);
+        } catch (Exception e) {
+            log.warn("⚠️ 최근 메시지 캐시 조회 실패 - DB 조회로 대체, 룸ID: {}", roomId, e);
+            return Optional.empty();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // warm 상태가 아니면 DB의 최신 capacity개로 채운 뒤 캐시 전체를 최신순으로 반환
+    private List<ChatMessageDTO.Response> loadWindow(Long roomId,
+                                                     Supplier<List<ChatMessageDTO.Response>> loader)
+            throws JsonProcessingException {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(warmKey(roomId)))) {
+            // DB를 읽기 전 무효화 횟수 (읽는 사이 무효화되면 채우지 않음)
+            String generation = Objects.requireNonNullElse(
+                    redisTemplate.opsForValue().get(generationKey(roomId)), "0");
+            List<ChatMessageDTO.Response> loaded = loader.get();
+            if (!warmUp(roomId, loaded, generation)) {
+                // 캐시에는 무효화 이후 추가분만 있을 수 있으므로 이번 조회는 DB 결과로 응답
+                List<ChatMessageDTO.Response> window = new ArrayList<>(loaded);
+                window.sort(NEWEST_FIRST);
+                return window;
+            }
+        }
+
+        Set<String> ids = redisTemplate.opsForZSet().reverseRange(zsetKey(roomId), 0, capacity - 1);
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> payloads = redisTemplate.opsForHash().multiGet(hashKey(roomId), new ArrayList<>(ids));
+        List<ChatMessageDTO.Response> window = new ArrayList<>(payloads.size());
+        for (Object payload : payloads) {
+            if (payload != null) {
+                window.add(objectMapper.readValue((String) payload, CachedMessage.class).toResponse());
+            }
+        }
+
+        window.sort(NEWEST_FIRST);
+        return window;
+    }
+
+    // 채웠으면 true, DB를 읽는 사이 무효화되어 기록하지 않았으면 false
+    private boolean warmUp(Long roomId, List<ChatMessageDTO.Response> messages, String generation)
+            throws JsonProcessingException {
+        List<String> args = new ArrayList<>();
+        for (ChatMessageDTO.Response message : messages) {
+            appendEntry(args, message);
+        }
+        args.add(String.valueOf(capacity));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(generation);
+
+        Long result = redisTemplate.execute(ADD_SCRIPT,
+                List.of(zsetKey(roomId), hashKey(roomId), warmKey(roomId), generationKey(roomId)), args.toArray());
+        if (result != null && result < 0) {
+            log.debug("최근 메시지 캐시 채움 건너뜀 (조회 중 무효화) - 룸ID: {}", roomId);
+            return false;
+        }
+        log.debug("최근 메시지 캐시 채움 - 룸ID: {}, 메시지 수: {}", roomId, messages.size());
+        return true;
+    }
+
+    private void appendEntry(List<String> args, ChatMessageDTO.Response message) throws JsonProcessingException {
+        args.add(String.valueOf(toScore(message.getCreatedAt())));
+        args.add(String.valueOf(message.getMessageId()));
+        args.add(objectMapper.writeValueAsString(CachedMessage.from(message)));
+    }
+
+    private long toScore(LocalDateTime createdAt) {
+        return ChronoUnit.MICROS.between(LocalDateTime.of(2020, 1, 1, 0, 0), Objects.requireNonNull(createdAt));
+    }
+
+    private String zsetKey(Long roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    private String hashKey(Long roomId) {
+        return KEY_PREFIX + roomId + ":msg";
+    }
+
+    private String warmKey(Long roomId) {
+        return KEY_PREFIX + roomId + ":warm";
+    }
+
+    private String generationKey(Long roomId) {
+        return KEY_PREFIX + roomId + ":gen";
+    }
+
+    // 응답 DTO의 createdAt은 초 단위 포맷이라, 정렬/커서용으로 원래 정밀도를 유지하는 별도 형태로 저장
+    record CachedMessage(Long messageId, Long roomId, Long userId, String content,
+                                 MessageType messageType, LocalDateTime createdAt,
+                                 ChatMessageDTO.UserInfo user) {
+
+        static CachedMessage from(ChatMessageDTO.Response message) {
+            return new CachedMessage(message.getMessageId(), message.getRoomId(), message.getUserId(),
+                    message.getContent(), message.getMessageType(), message.getCreatedAt(), message.getUser());
+        }
+
+        ChatMessageDTO.Response toResponse() {
+            return ChatMessageDTO.Response.builder()
+                    .messageId(messageId)
+                    .roomId(roomId)
+                    .userId(userId)
+                    .content(content)
+                    .messageType(messageType)
+                    .createdAt(createdAt)
+                    .user(user)
+                    .build();
+        }
+    }
+}
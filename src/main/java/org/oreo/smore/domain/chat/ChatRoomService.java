@@ -3,6 +3,7 @@ package org.oreo.smore.domain.chat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.studyroom.StudyRoom;
+import org.oreo.smore.global.common.AfterCommit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +17,7 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatRecentMessageCache chatRecentMessageCache;
 
     // StudyRoom 생성 시 ChatRoom 자동 생성
     @Transactional
@@ -67,6 +69,8 @@ public class ChatRoomService {
 
             // 1. 관련 채팅 메시지 소프트 삭제
             chatMessageRepository.softDeleteAllMessagesByRoomId(studyRoomId);
+            // 커밋 전에 지우면 다른 요청이 삭제 전 메시지로 다시 채울 수 있으므로 커밋 이후 무효화
+            AfterCommit.run(() -> chatRecentMessageCache.evictRoom(studyRoomId));
             log.info("✅ 채팅 메시지 소프트 삭제 완료 - StudyRoom ID: {}", studyRoomId);
 
             // 2. ChatRoom 비활성화
@@ -104,4 +108,4 @@ public class ChatRoomService {
                     studyRoomId, e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
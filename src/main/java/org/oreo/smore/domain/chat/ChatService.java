@@ -5,9 +5,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
+import org.oreo.smore.global.common.AfterCommit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +25,35 @@ public class ChatService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatMessageWriteBehindQueue chatMessageWriteBehindQueue;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final ChatUserInfoCache chatUserInfoCache;
 
+    public boolean isWriteBehindEnabled() {
+        return chatMessageWriteBehindQueue.isEnabled();
+    }
+
+    // write-behind 모드: DB 저장 전에 ID/시각을 발급해 바로 브로드캐스트할 수 있는 응답 생성
+    public ChatMessageDTO.Response prepareMessage(ChatMessageDTO.Request request, User user) {
+        ChatMessageDTO.UserInfo userInfo = chatUserInfoCache.get(user.getUserId());
 
+        return ChatMessageDTO.Response.builder()
+                .messageId(chatMessageIdGenerator.nextId())
+                .roomId(request.getRoomId())
+                .userId(user.getUserId())
+                .content(request.getContent())
+                .messageType(request.getMessageType() != null ? request.getMessageType() : MessageType.CHAT)
+                .createdAt(LocalDateTime.now())
+                .user(userInfo)
+                .build();
+    }
+
+    // 브로드캐스트가 끝난 메시지를 저장 대기열로 전달
+    public void persistLater(ChatMessageDTO.Response message) {
+        chatRecentMessageCache.add(message);
+        chatMessageWriteBehindQueue.enqueue(message);
+    }
 
     // 채팅 메시지 저장
     @Transactional
@@ -33,14 +62,15 @@ public class ChatService {
              log.info("메시지 저장 시작 - 사용자: {}, 룸ID: {}, 내용: {}",
                      user.getNickname(), request.getRoomId(), request.getContent());
 
-             // 사용자 존재 확인
-             User foundUser = userRepository.findById(user.getUserId())
-                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + user.getUserId()));
+             // 작성자 정보는 캐시에서, 엔티티에는 조회 없이 프록시만 연결
+             ChatMessageDTO.UserInfo userInfo = chatUserInfoCache.get(user.getUserId());
+             User userRef = userRepository.getReferenceById(user.getUserId());
 
              // ChatMessage 엔티티 생성
              ChatMessage chatMessage = ChatMessage.builder()
+                     .id(chatMessageIdGenerator.nextId())
                      .roomId(request.getRoomId())
-                     .user(foundUser)
+                     .user(userRef)
                      .content(request.getContent())
                      .messageType(request.getMessageType() != null ? request.getMessageType() : MessageType.CHAT)
                      .build();
@@ -50,7 +80,11 @@ public class ChatService {
              log.info("✅ 메시지 저장 완료 - 메시지 ID: {}", savedMessage.getId());
 
              // 응답 DTO 생성
-             return createMessageResponse(savedMessage, foundUser);
+             ChatMessageDTO.Response response = createMessageResponse(savedMessage, userInfo);
+
+             // 커밋 후 최근 메시지 캐시에 추가
+             AfterCommit.run(() -> chatRecentMessageCache.add(response));
+             return response;
 
          } catch (Exception e) {
              log.error("❌ 메시지 저장 중 오류 발생 - 사용자: {}, 룸ID: {}",
@@ -66,7 +100,19 @@ public class ChatService {
                 roomId, lastMessageId, size);
 
         Pageable pageable = PageRequest.of(0, size);
-        Slice<ChatMessage> messageSlice = chatMessageRepository.findMessagesByRoomIdWithKeyset(
+
+        // 첫 페이지는 최근 메시지 캐시에서 조회
+        if (lastMessageId == null) {
+            Optional<List<ChatMessageDTO.Response>> cached =
+                    chatRecentMessageCache.getLatest(roomId, size, () -> loadLatestFromDb(roomId));
+            if (cached.isPresent()) {
+                List<ChatMessageDTO.Response> messages = cached.get();
+                boolean hasNext = messages.size() > size;
+                return new SliceImpl<>(hasNext ? messages.subList(0, size) : messages, pageable, hasNext);
+            }
+        }
+
+        Slice<ChatMessage> messageSlice = chatMessageRepository.findMessagesWithUserByRoomIdWithKeyset(
                 roomId, lastMessageId, lastCreatedAt, pageable);
 
         return messageSlice.map(this::convertToResponseDTO);
@@ -76,6 +122,12 @@ public class ChatService {
     public List<ChatMessageDTO.Response> getRecentMessages(Long roomId, LocalDateTime since) {
         log.info("📱 최근 메시지 조회 - 룸ID: {}, 기준 시간: {}", roomId, since);
 
+        Optional<List<ChatMessageDTO.Response>> cached =
+                chatRecentMessageCache.getSince(roomId, since, () -> loadLatestFromDb(roomId));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         List<ChatMessage> recentMessages = chatMessageRepository.findRecentMessages(roomId, since);
 
         return recentMessages.stream()
@@ -86,6 +138,12 @@ public class ChatService {
     public Optional<ChatMessageDTO.Response> getLatestMessage(Long roomId) {
         log.info("🔍 최신 메시지 조회 - 룸ID: {}", roomId);
 
+        Optional<List<ChatMessageDTO.Response>> cached =
+                chatRecentMessageCache.getLatest(roomId, 1, () -> loadLatestFromDb(roomId));
+        if (cached.isPresent()) {
+            return cached.get().stream().findFirst();
+        }
+
         return chatMessageRepository.findLatestMessageByRoomId(roomId)
                 .map(this::convertToResponseDTO);
     }
@@ -100,6 +158,9 @@ public class ChatService {
             throw new IllegalArgumentException("메시지 삭제에 실패했습니다. 권한이 없거나 메시지를 찾을 수 없습니다.");
         }
 
+        // 삭제된 메시지가 캐시에서 다시 보이지 않도록 방 캐시 무효화
+        AfterCommit.run(() -> chatRecentMessageCache.evictRoom(roomId));
+
         log.info("✅ 메시지 삭제 완료 - 메시지 ID: {}", messageId);
     }
 
@@ -113,18 +174,18 @@ public class ChatService {
         return chatMessageRepository.countUserMessagesAfter(userId, since);
     }
 
+    // 캐시 채우기용 최신 메시지 조회
+    private List<ChatMessageDTO.Response> loadLatestFromDb(Long roomId) {
+        return chatMessageRepository.findMessagesWithUserByRoomIdWithKeyset(
+                        roomId, null, null, PageRequest.of(0, chatRecentMessageCache.getCapacity()))
+                .map(this::convertToResponseDTO)
+                .getContent();
+    }
+
+    // 조회 쿼리에서 작성자를 fetch join 하므로 추가 쿼리 없음
     private ChatMessageDTO.Response convertToResponseDTO(ChatMessage message) {
         User user = message.getUser();
-        ChatMessageDTO.UserInfo userInfo = null;
-
-        if (user != null) {
-            userInfo = ChatMessageDTO.UserInfo.builder()
-                    .userId(user.getUserId())
-                    .nickname(user.getNickname())
-                    .email(user.getEmail())
-                    .profileUrl(user.getProfileUrl())
-                    .build();
-        }
+        ChatMessageDTO.UserInfo userInfo = user != null ? ChatUserInfoCache.toUserInfo(user) : null;
 
         return ChatMessageDTO.Response.builder()
                 .messageId(message.getId())
@@ -137,18 +198,11 @@ public class ChatService {
                 .build();
     }
 
-    private ChatMessageDTO.Response createMessageResponse(ChatMessage savedMessage, User user) {
-        ChatMessageDTO.UserInfo userInfo = ChatMessageDTO.UserInfo.builder()
-                .userId(user.getUserId())
-                .nickname(user.getNickname())
-                .email(user.getEmail())
-                .profileUrl(user.getProfileUrl())
-                .build();
-
+    private ChatMessageDTO.Response createMessageResponse(ChatMessage savedMessage, ChatMessageDTO.UserInfo userInfo) {
         return ChatMessageDTO.Response.builder()
                 .messageId(savedMessage.getId())
                 .roomId(savedMessage.getRoomId())
-                .userId(savedMessage.getUser().getUserId())
+                .userId(userInfo.getUserId())
                 .content(savedMessage.getContent())
                 .messageType(savedMessage.getMessageType())
                 .createdAt(savedMessage.getCreatedAt())
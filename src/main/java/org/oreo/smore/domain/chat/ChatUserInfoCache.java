@@ -0,0 +1,89 @@
+package org.oreo.smore.domain.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.oreo.smore.global.common.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 채팅 작성자 정보(UserInfo) 인메모리 캐시
+ * - 메시지마다 users 테이블을 조회하지 않도록 userId별 projection 보관
+ * - LRU + TTL로 크기와 신선도 제한, 프로필 변경 시 UserService에서 evict
+ * - WebSocket 핸드셰이크도 이 캐시로 사용자 정보를 채움 (재접속 폭주 시 DB 조회 방지)
+ */
+@Slf4j
+@Component
+public class ChatUserInfoCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Map<Long, Entry> cache;
+
+    public ChatUserInfoCache(UserRepository userRepository,
+                             @Value("${app.chat.user-cache.max-size:10000}") int maxSize,
+                             @Value("${app.chat.user-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public ChatMessageDTO.UserInfo get(Long userId) {
+        Entry entry = cache.get(userId);
+        if (entry != null && !entry.isExpired(ttlMillis)) {
+            return entry.userInfo();
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        ChatMessageDTO.UserInfo userInfo = toUserInfo(user);
+        cache.put(userId, new Entry(userInfo, System.currentTimeMillis()));
+        return userInfo;
+    }
+
+    // 프로필 변경 반영: 트랜잭션 안이면 커밋 이후 삭제 (커밋 전 다른 요청이 이전 값을 다시 채우지 않도록)
+    public void evict(Long userId) {
+        AfterCommit.run(() -> remove(userId));
+    }
+
+    // WebSocket 세션에 보관할 사용자 스냅샷 (id/닉네임/이메일/프로필만 채운 분리 객체, 저장용 아님)
+    public static User toSessionUser(ChatMessageDTO.UserInfo userInfo) {
+        return User.builder()
+                .userId(userInfo.getUserId())
+                .nickname(userInfo.getNickname())
+                .email(userInfo.getEmail())
+                .profileUrl(userInfo.getProfileUrl())
+                .build();
+    }
+
+    public static ChatMessageDTO.UserInfo toUserInfo(User user) {
+        return ChatMessageDTO.UserInfo.builder()
+                .userId(user.getUserId())
+                .nickname(user.getNickname())
+                .email(user.getEmail())
+                .profileUrl(user.getProfileUrl())
+                .build();
+    }
+
+    private void remove(Long userId) {
+        cache.remove(userId);
+        log.debug("채팅 사용자 캐시 삭제 - 사용자 ID: {}", userId);
+    }
+
+    private record Entry(ChatMessageDTO.UserInfo userInfo, long loadedAt) {
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.oreo.smore.domain.chat;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 write-behind 저장 설정
+ * - enabled=false 이면 기존처럼 저장 후 브로드캐스트
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.chat.write-behind")
+public class ChatWriteBehindProperties {
+
+    // write-behind 모드 사용 여부
+    private boolean enabled = false;
+
+    // 대기열 최대 크기
+    private int queueCapacity = 10000;
+
+    // 한 번에 INSERT 할 최대 메시지 수
+    private int batchSize = 200;
+
+    // 대기열이 비어 있을 때 flush 스레드 대기 시간 (ms)
+    private long flushIntervalMs = 100;
+
+    // 대기열이 가득 찼을 때 자리가 날 때까지 기다리는 시간 (ms), 초과 시 동기 저장
+    private long offerTimeoutMs = 50;
+
+    // 종료 시 남은 메시지를 비우기 위해 기다리는 최대 시간 (ms)
+    private long shutdownTimeoutMs = 10000;
+
+    // 메시지 ID 생성기 노드 번호 (인스턴스마다 다르게, 0~1023), 비우면 단일 서버 모드에서만 0 사용
+    private Long nodeId;
+}
@@ -0,0 +1,150 @@
+package org.oreo.smore.domain.focusrecord;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * focus_records -> focus_hourly_stats 시간 집계 갱신
+ * - 집중 기록은 외부(분석 서버)에서 직접 INSERT되므로 record_id 기준으로 새 기록을 주기적으로 따라가며 반영
+ * - 새 기록이 속한 (사용자, UTC 시간) 칸만 해당 시간의 원본으로 다시 계산 (재처리해도 결과 동일)
+ * - 보관 기간이 지난 칸은 매시간 삭제 (슬라이딩 윈도우)
+ */
+@Slf4j
+@Component
+public class FocusHourlyMaterializer {
+
+    private final FocusRecordRepository focusRecordRepository;
+    private final FocusHourlyStatRepository focusHourlyStatRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long overlapRecords;
+    private final Duration retention;
+
+    // 집계에 반영된 마지막 record_id (-1: 아직 DB에서 읽지 않음)
+    private volatile long watermark = -1L;
+    // 기동 후 밀린 기록을 한 번 끝까지 따라잡았는지 (그 전에는 조회 시 원본 사용)
+    private volatile boolean caughtUp;
+
+    public FocusHourlyMaterializer(FocusRecordRepository focusRecordRepository,
+                                   FocusHourlyStatRepository focusHourlyStatRepository,
+                                   @Value("${app.focus.hourly.enabled:true}") boolean enabled,
+                                   @Value("${app.focus.hourly.batch-size:5000}") int batchSize,
+                                   @Value("${app.focus.hourly.overlap-records:500}") long overlapRecords,
+                                   @Value("${app.focus.hourly.retention-days:31}") long retentionDays) {
+        this.focusRecordRepository = focusRecordRepository;
+        this.focusHourlyStatRepository = focusHourlyStatRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.overlapRecords = overlapRecords;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    public boolean isReady() {
+        return enabled && caughtUp;
+    }
+
+    @Scheduled(initialDelayString = "${app.focus.hourly.initial-delay-ms:10000}",
+            fixedDelayString = "${app.focus.hourly.refresh-delay-ms:60000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("❌ 시간별 집중 집계 갱신 실패 - 마지막 record_id: {}", watermark, e);
+        }
+    }
+
+    // 새 기록을 끝까지 반영하고 갱신한 칸 수 반환
+    public int refresh() {
+        if (watermark < 0) {
+            Long stored = focusHourlyStatRepository.findMaxLastRecordId();
+            watermark = stored == null ? 0L : stored;
+        }
+
+        // 커밋 순서가 record_id 순서와 다를 수 있어 직전 구간 일부를 다시 확인
+        long after = Math.max(0L, watermark - overlapRecords);
+        int rebuilt = 0;
+
+        while (true) {
+            Instant from = retentionCutoff();
+            List<FocusRecordKey> keys = focusRecordRepository.findKeysAfter(after, from, PageRequest.of(0, batchSize));
+            if (keys.isEmpty()) {
+                break;
+            }
+
+            Map<HourCell, Long> cells = new LinkedHashMap<>();
+            for (FocusRecordKey key : keys) {
+                HourCell cell = new HourCell(key.userId(), key.timestamp().truncatedTo(ChronoUnit.HOURS));
+                cells.merge(cell, key.recordId(), Math::max);
+            }
+            cells.forEach((cell, lastRecordId) -> rebuild(cell.userId(), cell.hourStart(), lastRecordId));
+            rebuilt += cells.size();
+
+            after = keys.get(keys.size() - 1).recordId();
+            watermark = Math.max(watermark, after);
+            if (keys.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (!caughtUp) {
+            caughtUp = true;
+            log.info("✅ 시간별 집중 집계 따라잡기 완료 - 마지막 record_id: {}", watermark);
+        }
+        if (rebuilt > 0) {
+            log.debug("시간별 집중 집계 갱신 - 칸 수: {}, 마지막 record_id: {}", rebuilt, watermark);
+        }
+        return rebuilt;
+    }
+
+    // (사용자, 시간) 한 칸을 원본 기록으로 다시 계산해 저장
+    public void rebuild(Long userId, Instant hourStart, long lastRecordId) {
+        List<FocusSample> samples = focusRecordRepository.findSamplesBetween(
+                userId, hourStart, hourStart.plus(1, ChronoUnit.HOURS));
+
+        FocusHourlyStat stat = focusHourlyStatRepository.findByUserIdAndHourStart(userId, hourStart)
+                .orElseGet(() -> FocusHourlyStat.builder()
+                        .userId(userId)
+                        .hourStart(hourStart)
+                        .build());
+        stat.recalculate(samples, lastRecordId);
+
+        try {
+            focusHourlyStatRepository.save(stat);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 칸을 먼저 만든 경우 - 같은 원본으로 계산하므로 건너뜀
+            log.debug("시간별 집중 집계 중복 생성 건너뜀 - 사용자ID: {}, 시간: {}", userId, hourStart);
+        }
+    }
+
+    @Scheduled(cron = "${app.focus.hourly.expire-cron:0 5 * * * *}")
+    public void scheduledExpire() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = focusHourlyStatRepository.deleteAllByHourStartBefore(retentionCutoff());
+        if (deleted > 0) {
+            log.info("시간별 집중 집계 만료 삭제 - 삭제 칸 수: {}", deleted);
+        }
+    }
+
+    private Instant retentionCutoff() {
+        return Instant.now().minus(retention).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private record HourCell(Long userId, Instant hourStart) {
+    }
+}
@@ -0,0 +1,105 @@
+package org.oreo.smore.domain.focusrecord;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 사용자별 UTC 1시간 단위 집중 기록 집계 (focus_records 머티리얼라이즈)
+ * - 기록 수/상태 합으로 시간대별 평균, 앞/뒤 연속 집중 길이와 내부 구간으로 집중 구간 평균을 복원
+ */
+@Entity
+@Table(name = "focus_hourly_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_focus_hourly_stats_user_hour",
+                columnNames = {"user_id", "hour_start"}),
+        indexes = @Index(name = "idx_focus_hourly_stats_hour", columnList = "hour_start"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FocusHourlyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "focus_hourly_stat_id")
+    private Long focusHourlyStatId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // UTC 기준 정시
+    @Column(name = "hour_start", nullable = false)
+    private Instant hourStart;
+
+    @Column(name = "record_count", nullable = false)
+    private Integer recordCount;
+
+    @Column(name = "status_sum", nullable = false)
+    private Long statusSum;
+
+    // 시간 시작부터 이어진 집중 기록 수 (전부 집중이면 recordCount와 같음)
+    @Column(name = "leading_focused", nullable = false)
+    private Integer leadingFocused;
+
+    // 시간 끝까지 이어진 집중 기록 수
+    @Column(name = "trailing_focused", nullable = false)
+    private Integer trailingFocused;
+
+    // 앞/뒤 구간을 제외하고 시간 안에서 끝난 집중 구간 수와 길이 합
+    @Column(name = "inner_streak_count", nullable = false)
+    private Integer innerStreakCount;
+
+    @Column(name = "inner_streak_length", nullable = false)
+    private Integer innerStreakLength;
+
+    // 이 시간 집계에 반영된 마지막 record_id
+    @Column(name = "last_record_id", nullable = false)
+    private Long lastRecordId;
+
+    public boolean isAllFocused() {
+        return leadingFocused.equals(recordCount);
+    }
+
+    // 해당 시간의 기록(timestamp 오름차순)으로 값 전체를 다시 계산
+    public void recalculate(List<FocusSample> samples, long lastRecordId) {
+        int count = 0;
+        long sum = 0;
+        int leading = 0;
+        boolean inLeading = true;
+        int run = 0;
+        int innerCount = 0;
+        int innerLength = 0;
+
+        for (FocusSample sample : samples) {
+            int status = sample.status();
+            count++;
+            sum += status;
+
+            if (status >= FocusRecordAggregator.FOCUS_THRESHOLD) {
+                run++;
+                if (inLeading) {
+                    leading++;
+                }
+            } else {
+                // 첫 비집중 기록 전의 구간은 앞 구간(leading)이라 내부 구간에서 제외
+                if (!inLeading && run > 0) {
+                    innerCount++;
+                    innerLength += run;
+                }
+                inLeading = false;
+                run = 0;
+            }
+        }
+
+        this.recordCount = count;
+        this.statusSum = sum;
+        this.leadingFocused = leading;
+        this.trailingFocused = run;
+        this.innerStreakCount = innerCount;
+        this.innerStreakLength = innerLength;
+        this.lastRecordId = Math.max(this.lastRecordId == null ? 0L : this.lastRecordId, lastRecordId);
+    }
+}
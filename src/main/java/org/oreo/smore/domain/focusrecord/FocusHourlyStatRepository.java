@@ -0,0 +1,29 @@
+package org.oreo.smore.domain.focusrecord;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FocusHourlyStatRepository extends JpaRepository<FocusHourlyStat, Long> {
+
+    Optional<FocusHourlyStat> findByUserIdAndHourStart(Long userId, Instant hourStart);
+
+    List<FocusHourlyStat> findAllByUserIdAndHourStartGreaterThanEqualOrderByHourStartAsc(Long userId, Instant from);
+
+    // 재기동 시 이어서 처리할 위치 (집계에 반영된 마지막 record_id)
+    @Query("SELECT MAX(s.lastRecordId) FROM FocusHourlyStat s")
+    Long findMaxLastRecordId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FocusHourlyStat s WHERE s.hourStart < :cutoff")
+    int deleteAllByHourStartBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,103 @@
+package org.oreo.smore.domain.focusrecord;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * 집중 기록 한 번 순회 집계기
+ * - 시간순으로 들어오는 (timestamp, status)를 시간대별 누적과 집중 구간 계산에 동시에 반영
+ * - 기록마다 객체를 만들지 않도록 기본형 배열/필드만 사용
+ * - 정시 단위 오프셋이면 UTC 시간 집계(FocusHourlyStat)를 그대로 합쳐도 같은 결과
+ */
+final class FocusRecordAggregator {
+
+    static final int FOCUS_THRESHOLD = 80;
+
+    private static final int HOURS = 24;
+    private static final long SECONDS_PER_HOUR = 3600L;
+
+    private final int offsetSeconds;
+    private final long[] counts = new long[HOURS];
+    private final long[] statusSums = new long[HOURS];
+
+    // 연속 집중 구간 (status >= FOCUS_THRESHOLD 가 이어진 기록 수)
+    private int currentStreak;
+    private long streakCount;
+    private long streakLengthSum;
+
+    FocusRecordAggregator(ZoneOffset offset) {
+        this.offsetSeconds = offset.getTotalSeconds();
+    }
+
+    // timestamp 오름차순으로 호출해야 집중 구간이 올바르게 계산됨
+    void accept(Instant timestamp, int status) {
+        int hour = hourOf(timestamp);
+        counts[hour]++;
+        statusSums[hour] += status;
+
+        if (status >= FOCUS_THRESHOLD) {
+            currentStreak++;
+        } else if (currentStreak > 0) {
+            closeStreak();
+        }
+    }
+
+    // 시간 집계 한 칸 합치기 (hourStart 오름차순으로 호출, 정시 단위 오프셋에서만 사용)
+    void acceptHour(FocusHourlyStat stat) {
+        int recordCount = stat.getRecordCount();
+        if (recordCount == 0) {
+            return;
+        }
+        int hour = hourOf(stat.getHourStart());
+        counts[hour] += recordCount;
+        statusSums[hour] += stat.getStatusSum();
+
+        // 시간 전체가 집중이면 앞 시간에서 이어진 구간이 계속됨
+        if (stat.isAllFocused()) {
+            currentStreak += recordCount;
+            return;
+        }
+        currentStreak += stat.getLeadingFocused();
+        if (currentStreak > 0) {
+            closeStreak();
+        }
+        streakCount += stat.getInnerStreakCount();
+        streakLengthSum += stat.getInnerStreakLength();
+        currentStreak = stat.getTrailingFocused();
+    }
+
+    static boolean supportsHourlyStats(ZoneOffset offset) {
+        return offset.getTotalSeconds() % SECONDS_PER_HOUR == 0;
+    }
+
+    // 마지막 기록까지 이어진 집중 구간 마감
+    void finish() {
+        if (currentStreak > 0) {
+            closeStreak();
+        }
+    }
+
+    long count(int hour) {
+        return counts[hour];
+    }
+
+    double average(int hour) {
+        return counts[hour] == 0 ? 0.0 : (double) statusSums[hour] / counts[hour];
+    }
+
+    // 집중 구간 평균 길이 (기록 수 기준), 구간이 없으면 0
+    double averageStreakLength() {
+        return streakCount == 0 ? 0.0 : (double) streakLengthSum / streakCount;
+    }
+
+    private int hourOf(Instant timestamp) {
+        long localSeconds = timestamp.getEpochSecond() + offsetSeconds;
+        return (int) Math.floorMod(Math.floorDiv(localSeconds, SECONDS_PER_HOUR), (long) HOURS);
+    }
+
+    private void closeStreak() {
+        streakCount++;
+        streakLengthSum += currentStreak;
+        currentStreak = 0;
+    }
+}
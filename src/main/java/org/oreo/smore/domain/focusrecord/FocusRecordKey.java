@@ -0,0 +1,7 @@
+package org.oreo.smore.domain.focusrecord;
+
+import java.time.Instant;
+
+// 시간 집계 갱신용 projection (새로 들어온 기록이 어느 사용자/시간에 속하는지만 조회)
+public record FocusRecordKey(Long recordId, Long userId, Instant timestamp) {
+}
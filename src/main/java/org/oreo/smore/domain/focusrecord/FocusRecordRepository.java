@@ -1,10 +1,39 @@
 package org.oreo.smore.domain.focusrecord;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface FocusRecordRepository extends JpaRepository<FocusRecord, Long> {
     List<FocusRecord> findByUserIdAndTimestampAfter(Long userId, Instant after);
+
+    // 집계용: 엔티티 대신 (timestamp, status)만 시간순으로 스트리밍 (트랜잭션 안에서 사용 후 close)
+    @Query("SELECT new org.oreo.smore.domain.focusrecord.FocusSample(r.timestamp, r.status) " +
+            "FROM FocusRecord r " +
+            "WHERE r.userId = :userId AND r.timestamp > :after " +
+            "ORDER BY r.timestamp ASC")
+    Stream<FocusSample> streamSamplesAfter(@Param("userId") Long userId, @Param("after") Instant after);
+
+    // 시간 집계 갱신용: record_id 순으로 새 기록의 (사용자, 시각)만 조회
+    @Query("SELECT new org.oreo.smore.domain.focusrecord.FocusRecordKey(r.recordId, r.userId, r.timestamp) " +
+            "FROM FocusRecord r " +
+            "WHERE r.recordId > :afterRecordId AND r.timestamp >= :from " +
+            "ORDER BY r.recordId ASC")
+    List<FocusRecordKey> findKeysAfter(@Param("afterRecordId") Long afterRecordId,
+                                       @Param("from") Instant from,
+                                       Pageable pageable);
+
+    // 한 시간 구간 [from, to)의 기록을 시간순으로 조회
+    @Query("SELECT new org.oreo.smore.domain.focusrecord.FocusSample(r.timestamp, r.status) " +
+            "FROM FocusRecord r " +
+            "WHERE r.userId = :userId AND r.timestamp >= :from AND r.timestamp < :to " +
+            "ORDER BY r.timestamp ASC")
+    List<FocusSample> findSamplesBetween(@Param("userId") Long userId,
+                                         @Param("from") Instant from,
+                                         @Param("to") Instant to);
 }
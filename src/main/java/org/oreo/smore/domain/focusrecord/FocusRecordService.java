@@ -7,21 +7,22 @@ import org.oreo.smore.domain.focusrecord.dto.FocusRecordsResponse.FocusTrackDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class FocusRecordService {
 
     private static final int WINDOW_HOURS = 2;
-    private static final int FOCUS_THRESHOLD = 80;
     private static final double MINUTES_PER_SEGMENT = 2.0;
 
     private static final List<String> HOUR_LABELS = IntStream.range(0, 24)
@@ -30,18 +31,24 @@ public class FocusRecordService {
 
     private final FocusRecordRepository focusRecordRepository;
     private final FocusFeedbackService focusFeedbackService;
+    private final FocusHourlyStatRepository focusHourlyStatRepository;
+    private final FocusHourlyMaterializer focusHourlyMaterializer;
 
 
+    @Transactional(readOnly = true)
     public FocusRecordsResponse getFocusRecords(Long userId, String timeZoneOffset) {
         ZoneOffset clientOffset = ZoneOffset.of(timeZoneOffset);
 
-        List<FocusRecord> records = loadLastMonthRecords(userId);
-        HourlyStats stats = calculateHourlyStats(records, clientOffset);
+        FocusRecordAggregator aggregator = useHourlyStats(clientOffset)
+                ? aggregateLastMonthFromHourlyStats(userId, clientOffset)
+                : aggregateLastMonth(userId, clientOffset);
+        HourlyStats stats = HourlyStats.from(aggregator);
 
         FocusTrackDto trackDto = buildFocusTrack(stats);
         FocusTimeDto bestWindow = findWindow(stats, true);
         FocusTimeDto worstWindow = findWindow(stats, false);
-        int averageDurationMinutes = calculateAverageFocusDuration(records);
+        int averageDurationMinutes =
+                (int) Math.round(aggregator.averageStreakLength() * MINUTES_PER_SEGMENT);
 
         String feedback = generateFeedback(bestWindow, worstWindow, averageDurationMinutes, trackDto);
 
@@ -51,44 +58,44 @@ public class FocusRecordService {
         return new FocusRecordsResponse(insights);
     }
 
-    private List<FocusRecord> loadLastMonthRecords(Long userId) {
+    // 최근 한 달 기록을 시간순으로 한 번만 순회하며 시간대별 평균과 집중 구간을 함께 계산
+    private FocusRecordAggregator aggregateLastMonth(Long userId, ZoneOffset offset) {
         Instant oneMonthAgo = LocalDateTime.now()
                 .minusMonths(1)
                 .toInstant(ZoneOffset.UTC);
 
-        List<FocusRecord> records =
-                focusRecordRepository.findByUserIdAndTimestampAfter(userId, oneMonthAgo);
+        FocusRecordAggregator aggregator = new FocusRecordAggregator(offset);
+        try (Stream<FocusSample> samples = focusRecordRepository.streamSamplesAfter(userId, oneMonthAgo)) {
+            samples.forEach(sample -> aggregator.accept(sample.timestamp(), sample.status()));
+        }
+        aggregator.finish();
+        return aggregator;
+    }
 
-        return records;
+    // 시간 집계가 준비됐고 정시 단위 오프셋이면 원본 대신 최대 ~744개 시간 칸으로 계산
+    private boolean useHourlyStats(ZoneOffset offset) {
+        return focusHourlyMaterializer.isReady() && FocusRecordAggregator.supportsHourlyStats(offset);
     }
 
-    private HourlyStats calculateHourlyStats(
-            List<FocusRecord> records, ZoneOffset offset) {
-
-        Map<Integer, List<FocusRecord>> groupedByHour = records.stream()
-                .collect(Collectors.groupingBy(
-                        r -> r.getTimestamp().atOffset(offset).getHour()
-                ));
-
-        Map<Integer, Double> hourlyAverages = new HashMap<>();
-        Map<Integer, Long> recordCounts = new HashMap<>();
-
-        for (int hour = 0; hour < 24; hour++) {
-            List<FocusRecord> bucket = groupedByHour.getOrDefault(hour, Collections.emptyList());
-            recordCounts.put(hour, (long) bucket.size());
-            double avgStatus = bucket.stream()
-                    .mapToInt(FocusRecord::getStatus)
-                    .average()
-                    .orElse(0.0);
-            hourlyAverages.put(hour, avgStatus);
-        }
-        return new HourlyStats(hourlyAverages, recordCounts);
+    // UTC 시간 칸을 클라이언트 시간대로 다시 묶음 (최근 기록은 갱신 주기만큼 늦게 반영)
+    private FocusRecordAggregator aggregateLastMonthFromHourlyStats(Long userId, ZoneOffset offset) {
+        Instant oneMonthAgo = LocalDateTime.now()
+                .minusMonths(1)
+                .toInstant(ZoneOffset.UTC)
+                .truncatedTo(ChronoUnit.HOURS);
+
+        FocusRecordAggregator aggregator = new FocusRecordAggregator(offset);
+        focusHourlyStatRepository
+                .findAllByUserIdAndHourStartGreaterThanEqualOrderByHourStartAsc(userId, oneMonthAgo)
+                .forEach(aggregator::acceptHour);
+        aggregator.finish();
+        return aggregator;
     }
 
     private FocusTrackDto buildFocusTrack(HourlyStats stats) {
         List<Integer> roundedScores = HOUR_LABELS.stream()
                 .map(Integer::parseInt)
-                .map(hour -> (int) Math.round(stats.hourlyAverages().get(hour)))
+                .map(hour -> (int) Math.round(stats.hourlyAverages()[hour]))
                 .toList();
 
         return new FocusTrackDto(HOUR_LABELS, roundedScores);
@@ -125,43 +132,14 @@ public class FocusRecordService {
         double sum = 0;
         for (int offset = 0; offset < WINDOW_HOURS; offset++) {
             int hour = startHour + offset;
-            if (stats.recordCounts().get(hour) == 0L) {
+            if (stats.recordCounts()[hour] == 0L) {
                 return OptionalDouble.empty();
             }
-            sum += stats.hourlyAverages().get(hour);
+            sum += stats.hourlyAverages()[hour];
         }
         return OptionalDouble.of(sum / WINDOW_HOURS);
     }
 
-    private int calculateAverageFocusDuration(List<FocusRecord> records) {
-        records.sort(Comparator.comparing(FocusRecord::getTimestamp));
-
-        List<Integer> segments = new ArrayList<>();
-        int currentStreak = 0;
-
-        for (FocusRecord record : records) {
-            if (record.getStatus() >= FOCUS_THRESHOLD) {
-                currentStreak++;
-            } else if (currentStreak > 0) {
-                segments.add(currentStreak);
-                currentStreak = 0;
-            }
-        }
-        if (currentStreak > 0) {
-            segments.add(currentStreak);
-        }
-
-        if (segments.isEmpty()) {
-            return 0;
-        }
-        double averageSegments = segments.stream()
-                .mapToInt(Integer::intValue)
-                .average()
-                .orElse(0.0);
-
-        return (int) Math.round(averageSegments * MINUTES_PER_SEGMENT);
-    }
-
     private String generateFeedback(
             FocusTimeDto best, FocusTimeDto worst,
             int avgDuration, FocusTrackDto track) {
@@ -171,8 +149,17 @@ public class FocusRecordService {
     }
 
     private record HourlyStats(
-            Map<Integer, Double> hourlyAverages,
-            Map<Integer, Long> recordCounts
+            double[] hourlyAverages,
+            long[] recordCounts
     ) {
+        static HourlyStats from(FocusRecordAggregator aggregator) {
+            double[] averages = new double[24];
+            long[] counts = new long[24];
+            for (int hour = 0; hour < 24; hour++) {
+                averages[hour] = aggregator.average(hour);
+                counts[hour] = aggregator.count(hour);
+            }
+            return new HourlyStats(averages, counts);
+        }
     }
 }
@@ -0,0 +1,7 @@
+package org.oreo.smore.domain.focusrecord;
+
+import java.time.Instant;
+
+// 집계용 집중 기록 projection (엔티티 대신 필요한 두 컬럼만 조회)
+public record FocusSample(Instant timestamp, Integer status) {
+}
@@ -12,7 +12,26 @@ import java.time.LocalDateTime;
 
 @Slf4j
 @Entity
-@Table(name= "participants")
+@Table(
+        name = "participants",
+        indexes = {
+                // 방별 현재 참가자 조회/집계 (COUNT는 인덱스만으로 처리)
+                @Index(
+                        name = "idx_participants_room_active",
+                        columnList = "room_id, left_at, is_banned"
+                ),
+                // 방 + 사용자 활성 참가 확인 (입장 중복 확인, 퇴장/강퇴 대상 조회)
+                @Index(
+                        name = "idx_participants_room_user_active",
+                        columnList = "room_id, user_id, left_at"
+                ),
+                // 사용자별 최근 참여 방 (room_id까지 포함해 테이블 접근 없이 처리)
+                @Index(
+                        name = "idx_participants_user_joined",
+                        columnList = "user_id, joined_at DESC, room_id"
+                )
+        }
+)
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
@@ -1,5 +1,6 @@
 package org.oreo.smore.domain.participant;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,8 +22,9 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     @Query("SELECT p FROM Participant p WHERE p.roomId = :roomId AND p.leftAt IS NULL AND p.isBanned = false")
     List<Participant> findActiveParticipantsByRoomId(@Param("roomId") Long roomId);
 
-    // 특정 사용자가 참가한 모든 방 조회 (취근 참가 순)
-    List<Participant> findByUserIdOrderByJoinedAtDesc(Long userId);
+    // 특정 사용자가 참가한 방 ID (최근 참가 순, idx_participants_user_joined만으로 처리)
+    @Query("SELECT p.roomId FROM Participant p WHERE p.userId = :userId ORDER BY p.joinedAt DESC")
+    List<Long> findRecentRoomIdsByUserId(@Param("userId") Long userId, Pageable pageable);
     
     // 특정 방의 현재 참가자 수 조회
     @Query("SELECT COUNT(p) FROM Participant p WHERE p.roomId = :roomId AND p.leftAt IS NULL AND p.isBanned = false")
@@ -43,12 +45,4 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     List<Participant> findAllByRoomIdAndUserIdAndLeftAtIsNull(Long roomId, Long userId);
 
     List<Participant> findAllByRoomIdAndLeftAtIsNull(Long roomId);
-
-    // 여러 방의 참가자 수를 한 번의 쿼리로 가져옴
-    @Query("SELECT p.roomId, COUNT(p) FROM Participant p " +
-            "WHERE p.roomId IN :roomIds " +
-            "AND p.leftAt IS NULL " +
-            "AND p.isBanned = false " +
-            "GROUP BY p.roomId")
-    List<Object[]> countActiveParticipantsByRoomIds(@Param("roomIds") List<Long> roomIds);
 }
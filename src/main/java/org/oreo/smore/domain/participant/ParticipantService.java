@@ -5,18 +5,24 @@ import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.participant.dto.*;
 import org.oreo.smore.domain.participant.exception.ParticipantException;
 import org.oreo.smore.domain.studyroom.StudyRoom;
+import org.oreo.smore.domain.studyroom.StudyRoomPopularityRanking;
 import org.oreo.smore.domain.studyroom.StudyRoomRepository;
 import org.oreo.smore.domain.studytime.StudyTime;
 import org.oreo.smore.domain.studytime.StudyTimeRepository;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,14 +34,22 @@ public class ParticipantService {
     private final StudyRoomRepository studyRoomRepository;
     private final UserRepository userRepository;
     private final StudyTimeRepository studyTimeRepository;
+    private final RoomPresenceRegistry roomPresenceRegistry;
+    private final StudyRoomPopularityRanking popularityRanking;
 
     // 참가자 등록
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public Participant joinRoom(Long roomId, Long userId) {
         log.info("참가자 등록 시작 - 방ID: {}, 사용자ID: {} ", roomId, userId);
 
-        // 방 존재 여부 확인
-        StudyRoom studyRoom = validateStudyRoomExists(roomId);
+        // 방 존재 여부 확인 + 방 행 잠금 (동시 입장 시 정원 초과 방지, 커밋 시 해제)
+        StudyRoom studyRoom = studyRoomRepository.findByIdForUpdate(roomId)
+                .orElseThrow(() -> {
+                    log.error("존재하지 않는 방 - 방ID: {}", roomId);
+                    return new ParticipantException.StudyRoomNotFoundException(
+                            String.format("방 %d를 찾을 수 없습니다", roomId));
+                });
 
         // 이미 참가중인지 확인
         Participant existingParticipant = checkExistingParticipant(roomId, userId);
@@ -45,8 +59,9 @@ public class ParticipantService {
             return existingParticipant;
         }
 
-        // 방 최대 인원 확인
-        validateRoomCapacity(studyRoom);
+        // 방 최대 인원 확인 + 자리 확보
+        // (open-in-view로 이미 로딩된 StudyRoom은 잠금 조회로도 갱신되지 않으므로 엔티티 값 대신 조건부 UPDATE 결과로 판단)
+        admitToRoom(studyRoom);
 
         // 참가자 엔티티 생성
         Participant participant = Participant.builder()
@@ -55,34 +70,33 @@ public class ParticipantService {
                 .build();
 
         Participant savedParticipant = participantRepository.save(participant);
+        roomPresenceRegistry.upsert(savedParticipant);
+        popularityRanking.refresh(roomId);
 
-        long currentCount = participantRepository.countActiveParticipantsByRoomId(roomId);
-        log.info("✅ 참가자 등록 완료 - 방ID: {}, 사용자ID: {}, 현재 참가자 수: {}/{}",
-                roomId, userId, currentCount, studyRoom.getMaxParticipants());
+        log.info("✅ 참가자 등록 완료 - 방ID: {}, 사용자ID: {}, 최대 인원: {}",
+                roomId, userId, studyRoom.getMaxParticipants());
 
         return savedParticipant;
     }
 
     // 참가자 퇴장 처리
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public void leaveRoom(Long roomId, Long userId) {
         log.info("참가자 퇴장 시작 - 방ID: {}, 사용자ID: {} ", roomId, userId);
 
         Participant participant = findActiveParticipant(roomId, userId);
         participant.leave();
+        studyRoomRepository.decrementParticipants(roomId, 1);
+        roomPresenceRegistry.remove(roomId, userId);
+        popularityRanking.refresh(roomId);
 
-        long remainingCount = participantRepository.countActiveParticipantsByRoomId(roomId);
-        log.info("✅ 참가자 퇴장 완료 - 방ID: {}, 사용자ID: {}, 남은 참가자 수: {}",
-                roomId, userId, remainingCount);
+        log.info("✅ 참가자 퇴장 완료 - 방ID: {}, 사용자ID: {}", roomId, userId);
     }
 
-    // 활성화된 참가자 조회
+    // 활성화된 참가자 조회 (방 전체 목록 대신 단건 조회)
     private Participant findActiveParticipant(Long roomId, Long userId) {
-        List<Participant> activeParticipants = participantRepository.findActiveParticipantsByRoomId(roomId);
-
-        return activeParticipants.stream()
-                .filter(p -> p.getUserId().equals(userId))
-                .findFirst()
+        return participantRepository.findActiveParticipant(roomId, userId)
                 .orElseThrow(() -> {
                     log.error("활성 참가자를 찾을 수 없음 - 방ID: {}, 사용자ID: {}", roomId, userId);
                     return new ParticipantException.ParticipantNotFoundException(
@@ -91,25 +105,20 @@ public class ParticipantService {
     }
 
 
-    // 방 최대 인원 검증
-    private void validateRoomCapacity(StudyRoom studyRoom) {
-        long currentCount = participantRepository.countActiveParticipantsByRoomId(studyRoom.getRoomId());
+    // 방 최대 인원 검증 + current_participants 증가
+    private void admitToRoom(StudyRoom studyRoom) {
+        int admitted = studyRoomRepository.admitParticipant(studyRoom.getRoomId());
 
-        if (currentCount >= studyRoom.getMaxParticipants()) {
-            log.warn("방 정원 초과 - 방ID: {}, 현재: {}, 최대: {}",
-                    studyRoom.getRoomId(), currentCount, studyRoom.getMaxParticipants());
+        if (admitted == 0) {
+            log.warn("방 정원 초과 - 방ID: {}, 최대: {}",
+                    studyRoom.getRoomId(), studyRoom.getMaxParticipants());
             throw new ParticipantException.RoomFullException(
-                    String.format("방이 가득함 (%d/%d)", currentCount, studyRoom.getMaxParticipants()));
+                    String.format("방이 가득함 (최대 %d명)", studyRoom.getMaxParticipants()));
         }
-
     }
 
     private Participant checkExistingParticipant(Long roomId, Long userId) {
-        List<Participant> activeParticipants = getActiveParticipants(roomId);
-
-        Participant existing = activeParticipants.stream()
-                .filter(p -> p.getUserId().equals(userId))
-                .findFirst()
+        Participant existing = participantRepository.findActiveParticipant(roomId, userId)
                 .orElse(null);
 
         if (existing != null) {
@@ -131,11 +140,9 @@ public class ParticipantService {
         }
     }
 
-    // 사용자가 특정 방에 참가중인지 확인
+    // 사용자가 특정 방에 참가중인지 확인 (강퇴/재입장 판단용이라 다른 서버 변경까지 보이도록 DB 조회)
     public boolean isUserInRoom(Long roomId, Long userId) {
-        List<Participant> activeParticipants = getActiveParticipants(roomId);
-        boolean isInRoom = activeParticipants.stream()
-                .anyMatch(p -> p.getUserId().equals(userId));
+        boolean isInRoom = participantRepository.findActiveParticipant(roomId, userId).isPresent();
 
         log.debug("사용자 방 참가 여부 - 방ID: {}, 사용자ID: {}, 참가중: {}", roomId, userId, isInRoom);
         return isInRoom;
@@ -150,12 +157,18 @@ public class ParticipantService {
 
     }
 
+    // 정원 판단용 현재 참가자 수 (study_rooms.current_participants)
     public long getActiveParticipantCount(Long roomId) {
-        long count = participantRepository.countActiveParticipantsByRoomId(roomId);
+        long count = studyRoomRepository.findCurrentParticipantsById(roomId).orElse(0);
         log.debug("현재 참가자 수 - 방ID: {}, 참가자 수: {}명", roomId, count);
         return count;
     }
 
+    // 화면/로그 표시용 참가자 수 (서버 로컬 레지스트리, 다른 서버 변경은 TTL 내 늦게 반영될 수 있음)
+    public long getDisplayParticipantCount(Long roomId) {
+        return roomPresenceRegistry.count(roomId);
+    }
+
     // 스터디룸 존재 여부 검증
     private StudyRoom validateStudyRoomExists(Long roomId) {
         return studyRoomRepository.findById(roomId)
@@ -168,52 +181,63 @@ public class ParticipantService {
 
     // 참가자 음소거 설정
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public void muteParticipant(Long roomId, Long userId) {
         log.info("참가자 음소거 설정 - 방ID: {}, 사용자ID: {}", roomId, userId);
 
         Participant participant = findActiveParticipant(roomId, userId);
         participant.mute();
+        roomPresenceRegistry.upsert(participant);
 
         log.info("✅ 참가자 음소거 설정 완료 - 방ID: {}, 사용자ID: {}", roomId, userId);
     }
 
     // 참가자 음소거 해제
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public void unmuteParticipant(Long roomId, Long userId) {
         log.info("참가자 음소거 해제 - 방ID: {}, 사용자ID: {}", roomId, userId);
 
         Participant participant = findActiveParticipant(roomId, userId);
         participant.unmute();
+        roomPresenceRegistry.upsert(participant);
 
         log.info("✅ 참가자 음소거 해제 완료 - 방ID: {}, 사용자ID: {}", roomId, userId);
     }
 
     // 참가자 강퇴
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public void banParticipant(Long roomId, Long userId) {
         log.warn("참가자 강퇴 시작 - 방ID: {}, 사용자ID: {}", roomId, userId);
 
         Participant participant = findActiveParticipant(roomId, userId);
         participant.ban();
+        studyRoomRepository.decrementParticipants(roomId, 1);
+        roomPresenceRegistry.remove(roomId, userId);
+        popularityRanking.refresh(roomId);
 
-        long remainingCount = participantRepository.countActiveParticipantsByRoomId(roomId);
-        log.warn("⚠️ 참가자 강퇴 완료 - 방ID: {}, 사용자ID: {}, 남은 참가자 수: {}",
-                roomId, userId, remainingCount);
+        log.warn("⚠️ 참가자 강퇴 완료 - 방ID: {}, 사용자ID: {}", roomId, userId);
     }
 
     // 방장 나가면 방 삭제
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public void deleteAllParticipantsByRoom(Long roomId) {
         log.warn("방 삭제로 인한 참가 이력 삭제 - 방ID: {}", roomId);
 
-        long participantCount = participantRepository.countActiveParticipantsByRoomId(roomId);
+        long participantCount = studyRoomRepository.findById(roomId)
+                .map(StudyRoom::getCurrentParticipants)
+                .orElse(0);
 //        participantRepository.deleteByRoomId(roomId);
+        roomPresenceRegistry.removeRoom(roomId);
 
         log.warn("⚠️ 참가 이력 삭제 완료 - 방ID: {}, 삭제된 참가자 수: {}", roomId, participantCount);
     }
 
 
-    // 통합 상태 조회 메서드
+    // 통합 상태 조회 메서드 (참가/퇴장/음소거/강퇴 시 캐시 무효화)
+    @Cacheable(value = "room:participants", key = "#roomId", sync = true)
     public ParticipantStatusResponse getParticipantStatus(Long roomId) {
         log.info("참가자 상태 조회 시작 - 방ID: {}", roomId);
 
@@ -234,9 +258,26 @@ public class ParticipantService {
                     .build();
         }
 
+        // 사용자 정보와 오늘 공부 시간을 참가자 수와 관계없이 한 번에 조회
+        List<Long> userIds = activeParticipants.stream()
+                .map(Participant::getUserId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        Map<Long, Integer> todayStudyTimes = getTodayStudyTimes(userIds);
+
         // 참가자 정보 변환
         List<ParticipantInfo> participantInfos = activeParticipants.stream()
-                .map(participant -> convertToParticipantInfo(participant, studyRoom))
+                .map(participant -> {
+                    User user = users.get(participant.getUserId());
+                    if (user == null) {
+                        log.error("사용자를 찾을 수 없음 - 사용자ID: {}", participant.getUserId());
+                        throw new RuntimeException("사용자를 찾을 수 없습니다: " + participant.getUserId());
+                    }
+                    return toParticipantInfo(participant, studyRoom, user,
+                            todayStudyTimes.getOrDefault(participant.getUserId(), 0));
+                })
                 .collect(Collectors.toList());
 
         // 방 정보 구성
@@ -263,12 +304,16 @@ public class ParticipantService {
                     return new RuntimeException("사용자를 찾을 수 없습니다: " + participant.getUserId());
                 });
 
-        // 방장 여부 확인
-        boolean isOwner = studyRoom.getUserId().equals(participant.getUserId());
-
         // 실제 공부 시간 정보 조회
         int todayStudyTime = getTodayStudyTime(participant.getUserId());
-        int targetStudyTime = user.getGoalStudyTime();
+
+        return toParticipantInfo(participant, studyRoom, user, todayStudyTime);
+    }
+
+    private ParticipantInfo toParticipantInfo(Participant participant, StudyRoom studyRoom,
+                                              User user, int todayStudyTime) {
+        // 방장 여부 확인
+        boolean isOwner = studyRoom.getUserId().equals(participant.getUserId());
 
         return ParticipantInfo.builder()
                 .userId(participant.getUserId())
@@ -277,33 +322,42 @@ public class ParticipantService {
                 .audioEnabled(participant.isAudioEnabled())
                 .videoEnabled(participant.isVideoEnabled())
                 .todayStudyTime(todayStudyTime)
-                .targetStudyTime(targetStudyTime)
+                .targetStudyTime(user.getGoalStudyTime())
                 .build();
     }
 
     // 오늘 공부 시간 조회 로직
     private int getTodayStudyTime(Long userId) {
+        return getTodayStudyTimes(List.of(userId)).getOrDefault(userId, 0);
+    }
+
+    // 여러 사용자의 오늘 공부 시간(초)을 쿼리 한 번으로 계산
+    private Map<Long, Integer> getTodayStudyTimes(List<Long> userIds) {
+        Map<Long, Integer> todayStudySeconds = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return todayStudySeconds;
+        }
+
         try {
             // 오늘 공부 시간 계산
             LocalDate today = LocalDate.now();
             LocalDateTime startOfDay = today.atStartOfDay();
             LocalDateTime endOfDay = today.atTime(23, 59, 59);
+            LocalDateTime now = LocalDateTime.now();
 
-            List<StudyTime> allRecords = studyTimeRepository.findAllByUserIdAndCreatedAtBetween(
-                    userId,
+            List<StudyTime> allRecords = studyTimeRepository.findAllByUserIdInAndCreatedAtBetween(
+                    userIds,
                     startOfDay.minusDays(1),  // 하루 전까지도 시작할 수 있으므로
                     endOfDay.plusDays(1)      // 자정 넘어가는 케이스도 포함
             );
 
-            int todayStudySeconds = 0;
-
             for (StudyTime record : allRecords) {
                 LocalDateTime start = record.getCreatedAt();
                 LocalDateTime end = record.getDeletedAt();
 
                 if (end == null) {
                     // 아직 진행 중인 공부 세션은 현재 시간까지로 계산
-                    end = LocalDateTime.now();
+                    end = now;
                 }
 
                 // 오늘 날짜 범위와 겹치는 구간만 계산
@@ -311,16 +365,17 @@ public class ParticipantService {
                 LocalDateTime effectiveEnd = end.isAfter(endOfDay) ? endOfDay : end;
 
                 if (!effectiveStart.isAfter(effectiveEnd)) {
-                    todayStudySeconds += Duration.between(effectiveStart, effectiveEnd).getSeconds();
+                    int seconds = (int) Duration.between(effectiveStart, effectiveEnd).getSeconds();
+                    todayStudySeconds.merge(record.getUserId(), seconds, Integer::sum);
                 }
             }
 
-            log.debug("오늘 공부시간 조회 완료 - 사용자ID: {}, 시간: {}초", userId, todayStudySeconds);
+            log.debug("오늘 공부시간 조회 완료 - 사용자 수: {}, 기록 수: {}", userIds.size(), allRecords.size());
             return todayStudySeconds;
 
         } catch (Exception e) {
-            log.error("오늘 공부시간 조회 실패 - 사용자ID: {}, 오류: {}", userId, e.getMessage());
-            return 0;
+            log.error("오늘 공부시간 조회 실패 - 사용자ID: {}, 오류: {}", userIds, e.getMessage());
+            return new HashMap<>();
         }
     }
 
@@ -379,6 +434,7 @@ public class ParticipantService {
 
     // 개인 미디어 상태 변경
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public UpdatePersonalStatusResponse updatePersonalMediaStatus(Long roomId, Long userId,
                                                                   Boolean audioEnabled, Boolean videoEnabled) {
         log.info("개인 미디어 상태 변경 시작 - 방ID: {}, 사용자ID: {}, 오디오: {}, 비디오: {}",
@@ -399,6 +455,7 @@ public class ParticipantService {
 
         // 미디어 상태 업데이트
         participant.updateMediaStatus(audioEnabled, videoEnabled, "본인");
+        roomPresenceRegistry.upsert(participant);
 
         // 사용자 정보 조회 (닉네임 등)
         User user = userRepository.findById(userId)
@@ -423,6 +480,7 @@ public class ParticipantService {
 
     // 개인 오디오만 상태 변경
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public UpdatePersonalStatusResponse updatePersonalAudioStatus(Long roomId, Long userId, Boolean audioEnabled) {
         log.info("개인 오디오 상태 변경 - 방ID: {}, 사용자ID: {}, 오디오: {}", roomId, userId, audioEnabled);
 
@@ -440,6 +498,7 @@ public class ParticipantService {
 
     // 개인 비디오만 상태 변경
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public UpdatePersonalStatusResponse updatePersonalVideoStatus(Long roomId, Long userId, Boolean videoEnabled) {
         log.info("개인 비디오 상태 변경 - 방ID: {}, 사용자ID: {}, 비디오: {}", roomId, userId, videoEnabled);
 
@@ -457,6 +516,7 @@ public class ParticipantService {
 
     // 미디어 상태 토글
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public UpdatePersonalStatusResponse toggleAudioStatus(Long roomId, Long userId) {
         log.info("마이크 상태 토글 - 방ID: {}, 사용자ID: {}", roomId, userId);
 
@@ -467,6 +527,7 @@ public class ParticipantService {
     }
 
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public UpdatePersonalStatusResponse toggleVideoStatus(Long roomId, Long userId) {
         log.info("카메라 상태 토글 - 방ID: {}, 사용자ID: {}", roomId, userId);
 
@@ -478,6 +539,7 @@ public class ParticipantService {
 
     // 전체 음소거 설정 (방장만)
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public MuteAllResponse muteAllParticipants(Long roomId, Long ownerId) {
         log.info("전체 음소거 설정 시작 - 방ID: {}, 방장ID: {}", roomId, ownerId);
 
@@ -521,6 +583,7 @@ public class ParticipantService {
 
         studyRoom.enableAllMute();
         studyRoomRepository.save(studyRoom);
+        roomPresenceRegistry.evictRoom(roomId);
 
         // 응답 생성
         MuteAllResponse response = MuteAllResponse.builder()
@@ -540,6 +603,7 @@ public class ParticipantService {
 
     // 전체 음소거 해제 (방장만)
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public MuteAllResponse unmuteAllParticipants(Long roomId, Long ownerId) {
         log.info("전체 음소거 해제 시작 - 방ID: {}, 방장ID: {}", roomId, ownerId);
 
@@ -586,6 +650,7 @@ public class ParticipantService {
             unmutedCount++;
             log.debug("참가자 음소거 해제 - 사용자ID: {}", participant.getUserId());
         }
+        roomPresenceRegistry.evictRoom(roomId);
 
         // StudyRoom 전체 음소거 상태 해제
         studyRoom.disableAllMute();
@@ -609,6 +674,7 @@ public class ParticipantService {
 
     // 전체 음소거 토글
     @Transactional
+    @CacheEvict(value = "room:participants", key = "#roomId")
     public MuteAllResponse toggleMuteAll(Long roomId, Long ownerId) {
         log.info("전체 음소거 토글 - 방ID: {}, 방장ID: {}", roomId, ownerId);
 
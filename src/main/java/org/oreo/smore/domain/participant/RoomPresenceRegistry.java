@@ -0,0 +1,164 @@
+package org.oreo.smore.domain.participant;
+
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.global.common.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방별 현재 참가자(presence) 인메모리 레지스트리
+ * - roomId -> (userId -> 오디오/비디오 상태), 화면/로그 표시용 참가 여부/인원 수를 SELECT 없이 처리
+ * - 다른 서버 변경이 TTL 동안 보이지 않으므로 입장/강퇴/정원 판단에는 사용하지 않음 (DB 조회)
+ * - 처음 조회될 때 DB에서 채우고, 참가/퇴장/강퇴/음소거 시 커밋 이후 갱신
+ * - 다른 서버에서 일어난 변경은 ttlSeconds 경과 후 DB에서 다시 채우면서 반영 (DB가 원본)
+ * - 빈 방, 만료된 방, 삭제된 방의 항목은 보관하지 않음
+ */
+@Slf4j
+@Component
+public class RoomPresenceRegistry {
+
+    private final ParticipantRepository participantRepository;
+    private final long ttlMillis;
+
+    private final Map<Long, RoomPresence> rooms = new ConcurrentHashMap<>();
+    // DB에서 채우는 동안 들어온 변경을 감지하기 위한 방별 변경 횟수 (보관 중인 방 또는 채우는 중인 방만 유지)
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public RoomPresenceRegistry(ParticipantRepository participantRepository,
+                                @Value("${app.participant.presence.ttl-seconds:10}") long ttlSeconds) {
+        this.participantRepository = participantRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public boolean contains(Long roomId, Long userId) {
+        return load(roomId).members().containsKey(userId);
+    }
+
+    public Optional<PresenceState> get(Long roomId, Long userId) {
+        return Optional.ofNullable(load(roomId).members().get(userId));
+    }
+
+    public int count(Long roomId) {
+        return load(roomId).members().size();
+    }
+
+    // 참가/미디어 상태 변경 반영 (트랜잭션 안이면 커밋 이후)
+    public void upsert(Participant participant) {
+        PresenceState state = PresenceState.from(participant);
+        Long roomId = participant.getRoomId();
+        AfterCommit.run(() -> {
+            touch(roomId);
+            RoomPresence room = rooms.get(roomId);
+            if (room != null) {
+                room.members().put(state.userId(), state);
+            }
+        });
+    }
+
+    // 퇴장/강퇴 반영
+    public void remove(Long roomId, Long userId) {
+        AfterCommit.run(() -> {
+            touch(roomId);
+            RoomPresence room = rooms.get(roomId);
+            if (room != null) {
+                room.members().remove(userId);
+                if (room.members().isEmpty()) {
+                    forget(roomId, room);
+                }
+            }
+        });
+    }
+
+    // 전체 음소거처럼 여러 참가자가 한 번에 바뀌면 다음 조회 때 DB에서 다시 채움
+    public void evictRoom(Long roomId) {
+        AfterCommit.run(() -> {
+            touch(roomId);
+            rooms.remove(roomId);
+            log.debug("참가자 레지스트리 무효화 - 방ID: {}", roomId);
+        });
+    }
+
+    // 방 삭제 시 방 항목과 변경 횟수까지 제거
+    public void removeRoom(Long roomId) {
+        AfterCommit.run(() -> {
+            rooms.remove(roomId);
+            versions.remove(roomId);
+            log.debug("참가자 레지스트리 방 제거 - 방ID: {}", roomId);
+        });
+    }
+
+    // 한동안 조회되지 않아 만료된 방 정리
+    @Scheduled(initialDelayString = "${app.participant.presence.sweep-delay-ms:60000}",
+            fixedDelayString = "${app.participant.presence.sweep-delay-ms:60000}")
+    public void sweepExpired() {
+        rooms.forEach((roomId, room) -> {
+            if (room.isExpired(ttlMillis)) {
+                forget(roomId, room);
+            }
+        });
+    }
+
+    private RoomPresence load(Long roomId) {
+        RoomPresence cached = rooms.get(roomId);
+        if (cached != null) {
+            if (!cached.isExpired(ttlMillis)) {
+                return cached;
+            }
+            rooms.remove(roomId, cached);
+        }
+
+        AtomicLong counter = versions.computeIfAbsent(roomId, id -> new AtomicLong());
+        long version = counter.get();
+        List<Participant> activeParticipants = participantRepository.findActiveParticipantsByRoomId(roomId);
+
+        Map<Long, PresenceState> members = new ConcurrentHashMap<>();
+        for (Participant participant : activeParticipants) {
+            members.put(participant.getUserId(), PresenceState.from(participant));
+        }
+        RoomPresence loaded = new RoomPresence(members, System.currentTimeMillis());
+
+        // 빈 방이거나 조회하는 사이 변경(또는 방 제거)이 있었다면 이번 결과만 사용하고 보관하지 않음
+        if (members.isEmpty()) {
+            versions.remove(roomId, counter);
+        } else if (versions.get(roomId) == counter && counter.get() == version) {
+            rooms.put(roomId, loaded);
+        }
+        log.debug("참가자 레지스트리 로드 - 방ID: {}, 참가자 수: {}", roomId, members.size());
+        return loaded;
+    }
+
+    // 보관 중인 방에만 변경 횟수를 남김 (채우는 중인 조회는 자신이 만든 카운터로 변경을 감지)
+    private void touch(Long roomId) {
+        AtomicLong counter = versions.get(roomId);
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+    }
+
+    // 방 항목을 지우고, 같은 카운터를 쓰던 로드가 결과를 보관하지 못하도록 변경 횟수도 함께 제거
+    private void forget(Long roomId, RoomPresence room) {
+        if (rooms.remove(roomId, room)) {
+            versions.remove(roomId);
+        }
+    }
+
+    public record PresenceState(Long userId, boolean audioEnabled, boolean videoEnabled) {
+        static PresenceState from(Participant participant) {
+            return new PresenceState(participant.getUserId(),
+                    participant.isAudioEnabled(), participant.isVideoEnabled());
+        }
+    }
+
+    private record RoomPresence(Map<Long, PresenceState> members, long loadedAt) {
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
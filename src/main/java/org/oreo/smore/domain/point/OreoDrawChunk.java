@@ -0,0 +1,53 @@
+package org.oreo.smore.domain.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 오레오 뽑기 기록 (64회 단위 비트 묶음)
+ * - chunkNo번째 묶음의 i번째 비트 = 사용자의 (chunkNo * 64 + i)번째 뽑기 결과 (1: O, 0: RE)
+ */
+@Entity
+@Table(name = "oreo_draw_chunks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_oreo_draw_chunks_user_chunk",
+                columnNames = {"user_id", "chunk_no"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OreoDrawChunk {
+
+    public static final int SIZE = Long.SIZE;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chunk_id", nullable = false)
+    private Long chunkId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "chunk_no", nullable = false)
+    private Long chunkNo;
+
+    @Column(name = "bits", nullable = false)
+    private Long bits;
+
+    // 채워진 결과 수 (1~64)
+    @Column(name = "size", nullable = false)
+    private Integer size;
+
+    public void set(int position, boolean oreo) {
+        if (oreo) {
+            bits |= 1L << position;
+        } else {
+            bits &= ~(1L << position);
+        }
+        size = Math.max(size, position + 1);
+    }
+
+    public boolean isOreo(int position) {
+        return (bits >>> position & 1L) == 1L;
+    }
+}
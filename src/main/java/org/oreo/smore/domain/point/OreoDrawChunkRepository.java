@@ -0,0 +1,12 @@
+package org.oreo.smore.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OreoDrawChunkRepository extends JpaRepository<OreoDrawChunk, Long> {
+
+    List<OreoDrawChunk> findAllByUserIdAndChunkNoBetweenOrderByChunkNoAsc(Long userId, Long fromChunkNo, Long toChunkNo);
+}
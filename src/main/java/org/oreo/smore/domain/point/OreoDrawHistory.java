@@ -0,0 +1,164 @@
+package org.oreo.smore.domain.point;
+
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.point.dto.response.OreoDrawHistoryResponse;
+import org.oreo.smore.domain.point.dto.response.OreoDrawHistoryResponse.DrawEntry;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오레오 뽑기 기록 관리
+ * - 전체 결과는 oreo_draw_chunks에 64회 단위 비트로 저장하고 페이지 단위로 조회
+ * - users.level에는 기본 오레오 + 최근 levelWindow회 결과만 남겨 프로필 크기를 일정하게 유지
+ */
+@Slf4j
+@Component
+public class OreoDrawHistory {
+
+    static final String BASE = "O";
+    static final String OREO = "O";
+    static final String CREAM = "RE";
+
+    private final OreoDrawChunkRepository oreoDrawChunkRepository;
+    private final UserRepository userRepository;
+    private final UserPointBalanceRepository userPointBalanceRepository;
+    private final int levelWindow;
+
+    public OreoDrawHistory(OreoDrawChunkRepository oreoDrawChunkRepository,
+                           UserRepository userRepository,
+                           UserPointBalanceRepository userPointBalanceRepository,
+                           @Value("${app.point.draw.level-window:50}") int levelWindow) {
+        this.oreoDrawChunkRepository = oreoDrawChunkRepository;
+        this.userRepository = userRepository;
+        this.userPointBalanceRepository = userPointBalanceRepository;
+        this.levelWindow = levelWindow;
+    }
+
+    /**
+     * 뽑기 결과 기록 후 갱신된 level 반환
+     * - user는 UserRepository.findByIdForUpdate로 잠근 엔티티여야 함: 잠금을 쥔 동안만 drawCount/level을 읽고 씀
+     */
+    @Transactional
+    public String append(User user, List<String> results) {
+        moveLegacyLevel(user);
+
+        long start = user.getDrawCount();
+        write(user.getUserId(), start, results);
+
+        List<String> recent = new ArrayList<>(parseResults(user.getLevel()));
+        recent.addAll(results);
+        user.setDrawCount(start + results.size());
+        user.setLevel(buildLevel(recent));
+        return user.getLevel();
+    }
+
+    // 이전 방식(level에 전체 결과를 이어 붙임)으로 쌓인 결과를 기록으로 옮김, 옮겼으면 true
+    @Transactional
+    public boolean migrateLegacyLevel(Long userId) {
+        // 뽑기와 동시에 옮기지 않도록 잔액 행 잠금 (뽑기 차감과 같은 행) + 사용자 행 잠금
+        userPointBalanceRepository.findByIdForUpdate(userId);
+        return userRepository.findByIdForUpdate(userId)
+                .map(this::moveLegacyLevel)
+                .orElse(false);
+    }
+
+    @Transactional(readOnly = true)
+    public OreoDrawHistoryResponse page(Long userId, long totalDraws, int page, int size) {
+        // 최신 뽑기부터: [from, to) 구간을 역순으로
+        long to = totalDraws - (long) page * size;
+        long from = Math.max(0L, to - size);
+        if (to <= 0) {
+            return new OreoDrawHistoryResponse(totalDraws, page, size, List.of());
+        }
+
+        Map<Long, OreoDrawChunk> chunks = new HashMap<>();
+        oreoDrawChunkRepository.findAllByUserIdAndChunkNoBetweenOrderByChunkNoAsc(
+                        userId, from / OreoDrawChunk.SIZE, (to - 1) / OreoDrawChunk.SIZE)
+                .forEach(chunk -> chunks.put(chunk.getChunkNo(), chunk));
+
+        List<DrawEntry> draws = new ArrayList<>((int) (to - from));
+        for (long index = to - 1; index >= from; index--) {
+            OreoDrawChunk chunk = chunks.get(index / OreoDrawChunk.SIZE);
+            int position = (int) (index % OreoDrawChunk.SIZE);
+            if (chunk == null || position >= chunk.getSize()) {
+                continue;
+            }
+            draws.add(new DrawEntry(index + 1, chunk.isOreo(position) ? OREO : CREAM));
+        }
+        return new OreoDrawHistoryResponse(totalDraws, page, size, draws);
+    }
+
+    private boolean moveLegacyLevel(User user) {
+        if (user.getDrawCount() > 0 || user.getLevel() == null || user.getLevel().length() <= BASE.length()) {
+            return false;
+        }
+        List<String> legacy = parseResults(user.getLevel());
+        write(user.getUserId(), 0L, legacy);
+        user.setDrawCount((long) legacy.size());
+        user.setLevel(buildLevel(legacy));
+        log.info("오레오 뽑기 기록 이전 - 사용자ID: {}, 뽑기 수: {}", user.getUserId(), legacy.size());
+        return true;
+    }
+
+    private void write(Long userId, long start, List<String> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        long firstChunkNo = start / OreoDrawChunk.SIZE;
+        long lastChunkNo = (start + results.size() - 1) / OreoDrawChunk.SIZE;
+
+        Map<Long, OreoDrawChunk> chunks = new HashMap<>();
+        oreoDrawChunkRepository.findAllByUserIdAndChunkNoBetweenOrderByChunkNoAsc(userId, firstChunkNo, lastChunkNo)
+                .forEach(chunk -> chunks.put(chunk.getChunkNo(), chunk));
+
+        for (int i = 0; i < results.size(); i++) {
+            long index = start + i;
+            OreoDrawChunk chunk = chunks.computeIfAbsent(index / OreoDrawChunk.SIZE, chunkNo -> OreoDrawChunk.builder()
+                    .userId(userId)
+                    .chunkNo(chunkNo)
+                    .bits(0L)
+                    .size(0)
+                    .build());
+            chunk.set((int) (index % OreoDrawChunk.SIZE), OREO.equals(results.get(i)));
+        }
+        oreoDrawChunkRepository.saveAll(chunks.values());
+    }
+
+    // 기본 오레오 + 최근 levelWindow회 결과
+    private String buildLevel(List<String> results) {
+        StringBuilder level = new StringBuilder(BASE);
+        for (int i = Math.max(0, results.size() - levelWindow); i < results.size(); i++) {
+            level.append(results.get(i));
+        }
+        return level.toString();
+    }
+
+    // "O" + (O | RE)* 형식의 level을 결과 목록으로 (알 수 없는 문자는 무시)
+    static List<String> parseResults(String level) {
+        List<String> results = new ArrayList<>();
+        if (level == null) {
+            return results;
+        }
+        int i = level.startsWith(BASE) ? BASE.length() : 0;
+        while (i < level.length()) {
+            if (level.startsWith(CREAM, i)) {
+                results.add(CREAM);
+                i += CREAM.length();
+            } else {
+                if (level.startsWith(OREO, i)) {
+                    results.add(OREO);
+                }
+                i++;
+            }
+        }
+        return results;
+    }
+}
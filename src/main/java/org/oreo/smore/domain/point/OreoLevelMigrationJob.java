@@ -0,0 +1,44 @@
+package org.oreo.smore.domain.point;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 level에 전체 뽑기 결과가 쌓여 있는 사용자를 뽑기 기록(oreo_draw_chunks)으로 이전
+ * - 이전 후 level은 최근 결과만 남음, 대상이 없으면 조회 1회로 끝남
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OreoLevelMigrationJob implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final OreoDrawHistory oreoDrawHistory;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> userIds = userRepository.findUserIdsWithLegacyLevel();
+        if (userIds.isEmpty()) {
+            return;
+        }
+        log.info("오레오 뽑기 기록 이전 시작 - 사용자 수: {}", userIds.size());
+
+        int migrated = 0;
+        for (Long userId : userIds) {
+            try {
+                if (oreoDrawHistory.migrateLegacyLevel(userId)) {
+                    migrated++;
+                }
+            } catch (Exception e) {
+                log.error("❌ 오레오 뽑기 기록 이전 실패 - 사용자ID: {}", userId, e);
+            }
+        }
+        log.info("✅ 오레오 뽑기 기록 이전 완료 - 대상: {}, 이전: {}", userIds.size(), migrated);
+    }
+}
@@ -6,7 +6,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "points")
+@Table(name = "points",
+        indexes = @Index(name = "idx_points_user_id", columnList = "user_id, point_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,90 @@
+package org.oreo.smore.domain.point;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * user_point_balance 백필 / 정합성 검사 작업
+ * - 기동 시 잔액 테이블이 비어 있으면 원장 합계로 전체 사용자 백필 (최초 1회)
+ * - 매일 잔액을 원장과 비교해 불일치를 기록하고, 일치하면 스냅샷을 남김 (repair 설정 시 원장 기준으로 복구)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointBalanceReconciliationJob implements ApplicationRunner {
+
+    private final PointRepository pointRepository;
+    private final UserPointBalanceRepository userPointBalanceRepository;
+    private final PointLedger pointLedger;
+
+    @Value("${app.point.balance.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${app.point.balance.reconcile-enabled:false}")
+    private boolean reconcileEnabled;
+
+    @Value("${app.point.balance.repair:false}")
+    private boolean repair;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!backfillOnStartup || userPointBalanceRepository.count() > 0) {
+            return;
+        }
+        backfillAll();
+    }
+
+    public void backfillAll() {
+        List<Long> userIds = pointRepository.findDistinctUserIds();
+        log.info("포인트 잔액 백필 시작 - 사용자 수: {}", userIds.size());
+
+        int created = 0;
+        for (Long userId : userIds) {
+            try {
+                if (pointLedger.initializeBalance(userId)) {
+                    created++;
+                }
+            } catch (Exception e) {
+                log.error("❌ 포인트 잔액 백필 실패 - 사용자ID: {}", userId, e);
+            }
+        }
+        log.info("✅ 포인트 잔액 백필 완료 - 사용자 수: {}, 생성 행 수: {}", userIds.size(), created);
+    }
+
+    @Scheduled(cron = "${app.point.balance.reconcile-cron:0 0 5 * * *}")
+    public void scheduledReconcile() {
+        if (reconcileEnabled) {
+            reconcileAll();
+        }
+    }
+
+    // 전체 사용자 정합성 검사, 불일치 사용자 수 반환
+    public int reconcileAll() {
+        List<Long> userIds = pointRepository.findDistinctUserIds();
+        int mismatchedUsers = 0;
+
+        for (Long userId : userIds) {
+            try {
+                PointLedger.ReconcileResult result = pointLedger.reconcile(userId, repair);
+                if (result.matched()) {
+                    continue;
+                }
+                mismatchedUsers++;
+                log.warn("⚠️ 포인트 잔액 불일치 - 사용자ID: {}, 잔액: {}, 원장: {}, 복구: {}",
+                        userId, result.balance(), result.ledger(), repair);
+            } catch (Exception e) {
+                log.error("❌ 포인트 잔액 검사 실패 - 사용자ID: {}", userId, e);
+            }
+        }
+
+        log.info("포인트 잔액 정합성 검사 완료 - 사용자 수: {}, 불일치: {}", userIds.size(), mismatchedUsers);
+        return mismatchedUsers;
+    }
+}
@@ -0,0 +1,39 @@
+package org.oreo.smore.domain.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검증된 잔액 스냅샷 (감사용)
+ * - lastPointId까지의 원장 합계가 balance임을 정합성 검사 시점에 확인한 기록
+ * - 다음 검사는 마지막 스냅샷 이후 원장만 더해서 비교
+ */
+@Entity
+@Table(name = "point_balance_snapshots",
+        indexes = @Index(name = "idx_point_balance_snapshots_user", columnList = "user_id, snapshot_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointBalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id", nullable = false)
+    private Long snapshotId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "balance", nullable = false)
+    private Long balance;
+
+    @Column(name = "last_point_id", nullable = false)
+    private Long lastPointId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
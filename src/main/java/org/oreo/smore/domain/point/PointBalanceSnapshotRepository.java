@@ -0,0 +1,12 @@
+package org.oreo.smore.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, Long> {
+
+    Optional<PointBalanceSnapshot> findTopByUserIdOrderBySnapshotIdDesc(Long userId);
+}
@@ -2,13 +2,16 @@ package org.oreo.smore.domain.point;
 
 import lombok.RequiredArgsConstructor;
 import org.oreo.smore.domain.point.dto.response.TotalPointsResponse;
+import org.oreo.smore.domain.point.dto.response.OreoDrawHistoryResponse;
 import org.oreo.smore.domain.point.dto.response.OreoDrawResponse;
+import org.oreo.smore.domain.point.dto.response.OreoDrawsResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -37,4 +40,25 @@ public class PointController {
         }
         return ResponseEntity.ok(pointService.drawOreo(userId));
     }
+
+    @PostMapping("/v1/points/{userId}/draws")
+    public ResponseEntity<OreoDrawsResponse> drawOreos(@PathVariable Long userId,
+                                                       @RequestParam(defaultValue = "1") int count,
+                                                       Authentication authentication) {
+        if (authentication != null && Long.parseLong(authentication.getPrincipal().toString()) != userId) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN); // userId가 다르면 403
+        }
+        return ResponseEntity.ok(pointService.drawOreos(userId, count));
+    }
+
+    @GetMapping("/v1/points/{userId}/draws")
+    public ResponseEntity<OreoDrawHistoryResponse> getDrawHistory(@PathVariable Long userId,
+                                                                  @RequestParam(defaultValue = "0") int page,
+                                                                  @RequestParam(defaultValue = "50") int size,
+                                                                  Authentication authentication) {
+        if (authentication != null && Long.parseLong(authentication.getPrincipal().toString()) != userId) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN); // userId가 다르면 403
+        }
+        return ResponseEntity.ok(pointService.getDrawHistory(userId, page, size));
+    }
 }
@@ -0,0 +1,134 @@
+package org.oreo.smore.domain.point;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * 포인트 원장(points) + 잔액(user_point_balance) 관리
+ * - 포인트 적립/차감은 반드시 record()로: 원장 INSERT와 잔액 갱신을 한 트랜잭션에서 처리
+ * - 잔액 조회는 PK 1건, 잔액 행이 없는 사용자(도입 이전 데이터)만 원장 합계로 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLedger {
+
+    private final PointRepository pointRepository;
+    private final UserPointBalanceRepository userPointBalanceRepository;
+    private final PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    @Transactional(readOnly = true)
+    public long getBalance(Long userId) {
+        return userPointBalanceRepository.findBalanceByUserId(userId)
+                .orElseGet(() -> pointRepository.sumDeltaByUserId(userId));
+    }
+
+    /**
+     * 원장에 기록하고 갱신된 잔액 반환
+     * - debit()과 같은 순서로 잔액 행을 먼저 갱신(잠금)한 뒤 원장 INSERT
+     */
+    @Transactional
+    public long record(Long userId, int delta, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        if (userPointBalanceRepository.addDelta(userId, delta, now) == 0) {
+            // 잔액 행이 없던 기존 사용자 -> 원장 합계로 만든 뒤(동시 생성이면 먼저 만든 행 사용) 한 번 더 반영
+            userPointBalanceRepository.insertIfAbsent(userId, pointRepository.sumDeltaByUserId(userId), now);
+            userPointBalanceRepository.addDelta(userId, delta, now);
+        }
+
+        pointRepository.save(Point.builder()
+                .userId(userId)
+                .delta(delta)
+                .reason(reason)
+                .timestamp(now)
+                .build());
+        return userPointBalanceRepository.findBalanceByUserId(userId).orElseThrow();
+    }
+
+    /**
+     * 잔액이 amount 이상일 때만 차감하고 원장에 기록
+     * - 같은 사용자의 동시 차감은 잔액 행 UPDATE에서 직렬화되어 음수 잔액이 생기지 않음
+     * - 잔액이 부족하면 아무것도 기록하지 않고 empty 반환
+     */
+    @Transactional
+    public OptionalLong debit(Long userId, int amount, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = userPointBalanceRepository.debitIfSufficient(userId, amount, now);
+
+        if (updated == 0 && !userPointBalanceRepository.existsById(userId)) {
+            // 잔액 행이 없던 기존 사용자 -> 원장 합계로 만든 뒤(동시 생성이면 먼저 만든 행 사용) 한 번 더 시도
+            userPointBalanceRepository.insertIfAbsent(userId, pointRepository.sumDeltaByUserId(userId), now);
+            updated = userPointBalanceRepository.debitIfSufficient(userId, amount, now);
+        }
+        if (updated == 0) {
+            return OptionalLong.empty();
+        }
+
+        pointRepository.save(Point.builder()
+                .userId(userId)
+                .delta(-amount)
+                .reason(reason)
+                .timestamp(now)
+                .build());
+        return OptionalLong.of(userPointBalanceRepository.findBalanceByUserId(userId).orElseThrow());
+    }
+
+    // 잔액 행이 없으면 원장 합계로 생성 (백필용), 생성 여부 반환
+    @Transactional
+    public boolean initializeBalance(Long userId) {
+        if (userPointBalanceRepository.existsById(userId)) {
+            return false;
+        }
+        return userPointBalanceRepository.insertIfAbsent(
+                userId, pointRepository.sumDeltaByUserId(userId), LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * 잔액을 원장과 비교
+     * - 기대값 = 마지막 스냅샷 잔액 + 스냅샷 이후 원장 합계 (스냅샷이 없으면 전체 합계)
+     * - 일치하면 새 스냅샷을 남기고, 불일치면 repair 여부에 따라 잔액을 원장 기준으로 맞춤
+     */
+    @Transactional
+    public ReconcileResult reconcile(Long userId, boolean repair) {
+        // 검사 중 같은 사용자의 적립/차감이 끼어들지 않도록 잔액 행부터 잠금
+        Optional<UserPointBalance> balanceRow = userPointBalanceRepository.findByIdForUpdate(userId);
+
+        Optional<PointBalanceSnapshot> lastSnapshot =
+                pointBalanceSnapshotRepository.findTopByUserIdOrderBySnapshotIdDesc(userId);
+        long fromPointId = lastSnapshot.map(PointBalanceSnapshot::getLastPointId).orElse(0L);
+        long expected = lastSnapshot.map(PointBalanceSnapshot::getBalance).orElse(0L)
+                + pointRepository.sumDeltaByUserIdAfter(userId, fromPointId);
+        long lastPointId = pointRepository.findMaxPointIdByUserId(userId);
+
+        if (balanceRow.isEmpty()) {
+            return new ReconcileResult(userId, null, expected, false);
+        }
+
+        UserPointBalance balance = balanceRow.get();
+        long actual = balance.getBalance();
+        boolean matched = actual == expected;
+
+        if (!matched && repair) {
+            balance.setBalance(expected);
+            balance.setUpdatedAt(LocalDateTime.now());
+        }
+        if ((matched || repair) && lastPointId > fromPointId) {
+            pointBalanceSnapshotRepository.save(PointBalanceSnapshot.builder()
+                    .userId(userId)
+                    .balance(expected)
+                    .lastPointId(lastPointId)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return new ReconcileResult(userId, actual, expected, matched);
+    }
+
+    public record ReconcileResult(Long userId, Long balance, long ledger, boolean matched) {
+    }
+}
@@ -4,8 +4,20 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface PointRepository extends JpaRepository<Point, Long> {
 
     @Query("select coalesce(sum(p.delta), 0) from Point p where p.userId = :userId")
     long sumDeltaByUserId(@Param("userId") Long userId);
+
+    // 정합성 검사용: 마지막 스냅샷 이후 원장 합계
+    @Query("select coalesce(sum(p.delta), 0) from Point p where p.userId = :userId and p.pointId > :afterPointId")
+    long sumDeltaByUserIdAfter(@Param("userId") Long userId, @Param("afterPointId") Long afterPointId);
+
+    @Query("select coalesce(max(p.pointId), 0) from Point p where p.userId = :userId")
+    long findMaxPointIdByUserId(@Param("userId") Long userId);
+
+    @Query("select distinct p.userId from Point p")
+    List<Long> findDistinctUserIds();
 }
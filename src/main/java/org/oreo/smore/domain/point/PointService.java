@@ -1,63 +1,99 @@
 package org.oreo.smore.domain.point;
 
-import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.oreo.smore.domain.point.dto.response.OreoDrawHistoryResponse;
+import org.oreo.smore.domain.point.dto.response.OreoDrawsResponse;
 import org.oreo.smore.domain.point.dto.response.TotalPointsResponse;
 import org.oreo.smore.domain.point.dto.response.OreoDrawResponse;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.LocalDateTime;
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
-    private final PointRepository pointRepository;
+    private static final int DRAW_COST = 100;
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
+
+    private final PointLedger pointLedger;
     private final UserRepository userRepository;
+    private final OreoDrawHistory oreoDrawHistory;
+
+    @Value("${app.point.draw.max-count:10}")
+    private int maxDrawCount;
 
-    @Cacheable(value = "user:totalPoints", key = "#userId")
+    @Cacheable(value = "user:totalPoints", key = "#userId", sync = true)
     @Transactional(readOnly = true)
     public TotalPointsResponse getTotalPoints(Long userId) {
-        return new TotalPointsResponse(pointRepository.sumDeltaByUserId(userId));
+        return new TotalPointsResponse(pointLedger.getBalance(userId));
     }
 
-    @CacheEvict(value = "user:totalPoints", key = "#userId")
+    @Caching(evict = {
+            @CacheEvict(value = "user:totalPoints", key = "#userId"),
+            @CacheEvict(value = "user:profile", key = "#userId")
+    })
     @Transactional
     public OreoDrawResponse drawOreo(Long userId) {
-        long totalPoints = pointRepository.sumDeltaByUserId(userId);
+        OreoDrawsResponse draws = draw(userId, 1);
+        return new OreoDrawResponse(draws.getResults().get(0), draws.getUpdatedLevel(), draws.getUpdatedPoints());
+    }
 
-        if (totalPoints < 100) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "포인트가 부족합니다.");
+    // N회 뽑기: 포인트 차감/원장 기록/레벨 갱신을 한 번에 처리 (전부 성공하거나 전부 취소)
+    @Caching(evict = {
+            @CacheEvict(value = "user:totalPoints", key = "#userId"),
+            @CacheEvict(value = "user:profile", key = "#userId")
+    })
+    @Transactional
+    public OreoDrawsResponse drawOreos(Long userId, int count) {
+        if (count < 1 || count > maxDrawCount) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "뽑기 횟수는 1~" + maxDrawCount + "회만 가능합니다.");
         }
+        return draw(userId, count);
+    }
 
+    // 뽑기 기록 페이지 조회 (최신순)
+    @Transactional(readOnly = true)
+    public OreoDrawHistoryResponse getDrawHistory(Long userId, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "page는 0 이상, size는 1~" + MAX_HISTORY_PAGE_SIZE + "만 가능합니다.");
+        }
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자가 존재하지 않습니다."));
+        return oreoDrawHistory.page(userId, user.getDrawCount(), page, size);
+    }
 
-        // 포인트 차감
-        Point usedPoint = Point.builder()
-                .userId(userId)
-                .delta(-100)
-                .reason("오레오 뽑기")
-                .timestamp(LocalDateTime.now())
-                .build();
-        pointRepository.save(usedPoint);
+    private OreoDrawsResponse draw(Long userId, int count) {
+        // 잔액 확인과 차감을 조건부 UPDATE 한 번으로 (동시 요청이 함께 통과해 초과 차감되지 않음)
+        String reason = count == 1 ? "오레오 뽑기" : "오레오 뽑기 " + count + "회";
+        long updatedPoints = pointLedger.debit(userId, DRAW_COST * count, reason)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "포인트가 부족합니다."));
 
         // 결과 랜덤 생성
-        String result = new Random().nextBoolean() ? "O" : "RE";
-
-        // user.level에 붙이기
-        user.setLevel(user.getLevel() + result);
-        userRepository.save(user);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(random.nextBoolean() ? OreoDrawHistory.OREO : OreoDrawHistory.CREAM);
+        }
 
-        long updatedPoints = totalPoints - 100;
+        // 뽑기 기록 저장 + level에는 최근 결과만 유지 (사용자가 없으면 예외로 차감까지 롤백)
+        // 사용자 행을 잠가 프로필 수정 등 다른 쓰기와 draw_count/level을 동시에 고치지 않도록 함
+        User user = userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자가 존재하지 않습니다."));
+        String updatedLevel = oreoDrawHistory.append(user, results);
 
-        return new OreoDrawResponse(result, user.getLevel(), updatedPoints);
+        return new OreoDrawsResponse(results, updatedLevel, updatedPoints);
     }
 }
@@ -0,0 +1,30 @@
+package org.oreo.smore.domain.point;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 현재 포인트 잔액 (points 원장 합계를 유지하는 행)
+ * - points INSERT와 같은 트랜잭션에서 delta만큼 갱신, 조회는 PK 1건
+ */
+@Entity
+@Table(name = "user_point_balance")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPointBalance {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "balance", nullable = false)
+    private Long balance;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
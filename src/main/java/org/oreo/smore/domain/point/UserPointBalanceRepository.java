@@ -0,0 +1,51 @@
+package org.oreo.smore.domain.point;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface UserPointBalanceRepository extends JpaRepository<UserPointBalance, Long> {
+
+    @Query("SELECT b.balance FROM UserPointBalance b WHERE b.userId = :userId")
+    Optional<Long> findBalanceByUserId(@Param("userId") Long userId);
+
+    // 잔액 행이 있으면 delta 반영, 없으면 0 반환 -> 호출 측에서 원장 합계로 초기화
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserPointBalance b SET b.balance = b.balance + :delta, b.updatedAt = :now " +
+            "WHERE b.userId = :userId")
+    int addDelta(@Param("userId") Long userId,
+                 @Param("delta") long delta,
+                 @Param("now") LocalDateTime now);
+
+    // 잔액 행이 없을 때만 생성 (동시 첫 기록이 겹쳐도 중복 키 오류 없이 먼저 만든 행이 남음), 생성하면 1
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO user_point_balance (user_id, balance, updated_at) " +
+            "VALUES (:userId, :balance, :now)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("balance") long balance,
+                       @Param("now") LocalDateTime now);
+
+    // 잔액이 충분할 때만 차감 (조건부 UPDATE 한 번으로 확인과 차감을 원자적으로), 부족하거나 행이 없으면 0
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserPointBalance b SET b.balance = b.balance - :amount, b.updatedAt = :now " +
+            "WHERE b.userId = :userId AND b.balance >= :amount")
+    int debitIfSufficient(@Param("userId") Long userId,
+                          @Param("amount") long amount,
+                          @Param("now") LocalDateTime now);
+
+    // 정합성 검사 중 잔액 변경 차단 (원장 합계와 같은 시점 값을 비교하기 위해)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT b FROM UserPointBalance b WHERE b.userId = :userId")
+    Optional<UserPointBalance> findByIdForUpdate(@Param("userId") Long userId);
+}
@@ -0,0 +1,28 @@
+package org.oreo.smore.domain.point.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OreoDrawHistoryResponse {
+    private long totalDraws;
+
+    private int page;
+
+    private int size;
+
+    // 최신 뽑기부터
+    private List<DrawEntry> draws;
+
+    @Getter
+    @AllArgsConstructor
+    public static class DrawEntry {
+        // 1부터 시작하는 뽑기 순번
+        private long drawNo;
+
+        private String result;
+    }
+}
@@ -0,0 +1,16 @@
+package org.oreo.smore.domain.point.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OreoDrawsResponse {
+    private List<String> results;
+
+    private String updatedLevel;
+
+    private long updatedPoints;
+}
@@ -2,8 +2,10 @@ package org.oreo.smore.domain.point.dto.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class TotalPointsResponse {
 
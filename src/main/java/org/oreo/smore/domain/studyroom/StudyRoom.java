@@ -2,7 +2,9 @@ package org.oreo.smore.domain.studyroom;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.oreo.smore.domain.chat.ChatRoom;
 import org.oreo.smore.domain.user.User;
 
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate // 참가자 수는 원자적 UPDATE로만 바뀌므로 엔티티 저장 시 변경된 컬럼만 씀
 public class StudyRoom {
 
     @Id
@@ -39,6 +42,11 @@ public class StudyRoom {
     @Column(name = "max_participants", nullable = false)
     private Integer maxParticipants = 6;
 
+    // 활성 참가자 수 (participants 집계 비정규화, 입장/퇴장/강퇴 시 ±1, 주기적으로 재집계)
+    @ColumnDefault("0")
+    @Column(name = "current_participants", nullable = false)
+    private Integer currentParticipants = 0;
+
     @Column(name = "thumbnail_url")
     private String thumbnailUrl;
 
@@ -81,6 +89,11 @@ public class StudyRoom {
     // soft delete용
     public void delete() {
         this.deletedAt = LocalDateTime.now();
+        this.currentParticipants = 0;
+    }
+
+    public int getCurrentParticipants() {
+        return currentParticipants != null ? currentParticipants : 0;
     }
 
     // LiveKit 방 ID 설정
@@ -0,0 +1,19 @@
+package org.oreo.smore.domain.studyroom;
+
+/**
+ * 인기순 랭킹 구성용 방 정보 (참가자 수/정원/카테고리)
+ */
+public record StudyRoomCapacity(
+        Long roomId,
+        Integer currentParticipants,
+        Integer maxParticipants,
+        StudyRoomCategory category
+) {
+    public long participantCount() {
+        return currentParticipants != null ? currentParticipants : 0;
+    }
+
+    public boolean hasRoomFor(long participantCount) {
+        return maxParticipants == null || participantCount < maxParticipants;
+    }
+}
@@ -23,6 +23,9 @@ public class StudyRoomCreationService {
     private final StudyRoomRepository studyRoomRepository;
     private final ChatRoomService chatRoomService;
     private final CloudStorageManager cloudStorageManager;
+    private final StudyRoomSearchIndex searchIndex;
+    private final StudyRoomPopularityRanking popularityRanking;
+    private final StudyRoomListPageCache listPageCache;
 
     @Transactional
     public CreateStudyRoomResponse createStudyRoom(Long userId, CreateStudyRoomRequest request) {
@@ -75,6 +78,11 @@ public class StudyRoomCreationService {
             }
 
 
+            // 검색 색인 반영 (커밋 이후)
+            searchIndex.upsert(savedStudyRoom);
+            popularityRanking.refresh(savedStudyRoom.getRoomId());
+            listPageCache.invalidateAll();
+
             // 응답 생성
             CreateStudyRoomResponse response = CreateStudyRoomResponse.from(savedStudyRoom);
 
@@ -0,0 +1,168 @@
+package org.oreo.smore.domain.studyroom;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.studyroom.dto.StudyRoomInfoReadResponse;
+import org.oreo.smore.global.common.AfterCommit;
+import org.oreo.smore.global.common.CursorPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 스터디룸 목록 페이지 캐시 (검색어 없는 전체/카테고리 목록)
+ * - (cursor, limit, category, sort) 단위로 방 목록을 짧게 보관
+ * - 참가자 수는 캐시에 두지 않고 응답 시 실시간 값(인기순 랭킹, 없으면 current_participants 컬럼)으로 보정
+ * - hideFullRooms 목록은 구성 자체가 참가자 수에 따라 바뀌므로 캐시 대상이 아님 (StudyRoomService에서 바로 조회)
+ * - 방 생성/삭제 시 커밋 이후 전체 무효화, 다른 서버의 생성/삭제는 ttl 안에서만 늦게 보임
+ */
+@Slf4j
+@Component
+public class StudyRoomListPageCache {
+
+    private final StudyRoomPopularityRanking popularityRanking;
+    private final StudyRoomRepository roomRepository;
+    private final boolean enabled;
+    private final Cache<PageKey, CachedPage> pages;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter patched;
+    private final Timer staleness;
+
+    public StudyRoomListPageCache(StudyRoomPopularityRanking popularityRanking,
+                                  StudyRoomRepository roomRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.studyroom.list-cache.enabled:true}") boolean enabled,
+                                  @Value("${app.studyroom.list-cache.ttl-ms:3000}") long ttlMs,
+                                  @Value("${app.studyroom.list-cache.maximum-size:1000}") long maximumSize) {
+        this.popularityRanking = popularityRanking;
+        this.roomRepository = roomRepository;
+        this.enabled = enabled;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+
+        this.hits = Counter.builder("studyroom.list.cache")
+                .tag("result", "hit")
+                .description("스터디룸 목록 페이지 캐시 적중")
+                .register(meterRegistry);
+        this.misses = Counter.builder("studyroom.list.cache")
+                .tag("result", "miss")
+                .description("스터디룸 목록 페이지 캐시 미적중 (DB 조회)")
+                .register(meterRegistry);
+        this.patched = Counter.builder("studyroom.list.cache.patched")
+                .description("캐시된 페이지에서 참가자 수가 바뀌어 보정된 방 수")
+                .register(meterRegistry);
+        this.staleness = Timer.builder("studyroom.list.cache.staleness")
+                .description("캐시 적중 시 페이지가 만들어진 뒤 지난 시간")
+                .register(meterRegistry);
+    }
+
+    public CursorPage<StudyRoomInfoReadResponse> get(PageKey key,
+                                                     Supplier<CursorPage<StudyRoomInfoReadResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        boolean[] loaded = {false};
+        CachedPage cached = pages.get(key, k -> {
+            loaded[0] = true;
+            return CachedPage.from(loader.get());
+        });
+
+        if (loaded[0]) {
+            misses.increment();
+            return cached.toPage(cached.content());
+        }
+
+        hits.increment();
+        staleness.record(System.currentTimeMillis() - cached.loadedAt(), TimeUnit.MILLISECONDS);
+        return cached.toPage(patchCounts(cached.content()));
+    }
+
+    // 방 생성/삭제 반영 (트랜잭션 안이면 커밋 이후)
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            pages.invalidateAll();
+            log.debug("스터디룸 목록 페이지 캐시 무효화");
+        });
+    }
+
+    private List<StudyRoomInfoReadResponse> patchCounts(List<StudyRoomInfoReadResponse> content) {
+        if (content.isEmpty()) {
+            return content;
+        }
+        Map<Long, Long> counts = liveCounts(content.stream().map(StudyRoomInfoReadResponse::getRoomId).toList());
+
+        List<StudyRoomInfoReadResponse> result = new ArrayList<>(content.size());
+        for (StudyRoomInfoReadResponse dto : content) {
+            long count = counts.getOrDefault(dto.getRoomId(), 0L);
+            if (dto.getCurrentParticipants() == null || dto.getCurrentParticipants() != count) {
+                patched.increment();
+                result.add(dto.withCurrentParticipants(count));
+            } else {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, Long> liveCounts(List<Long> roomIds) {
+        if (popularityRanking.isAvailable()) {
+            try {
+                Map<Long, Long> counts = popularityRanking.counts(roomIds);
+                if (counts.size() == roomIds.size()) {
+                    return counts;
+                }
+            } catch (Exception e) {
+                log.debug("인기순 랭킹 참가자 수 조회 실패 (DB 사용) - 오류: {}", e.getMessage());
+            }
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : roomRepository.findCurrentParticipantsByRoomIdIn(roomIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    public record PageKey(long cursor, int limit, String category, String sort) {
+        public static PageKey of(long cursor, int limit, String category, String sort) {
+            return new PageKey(cursor, limit,
+                    category == null || category.isBlank() ? "" : category.toUpperCase(),
+                    sort == null ? "" : sort.toLowerCase());
+        }
+    }
+
+    private record CachedPage(List<StudyRoomInfoReadResponse> content, boolean hasNext, Long nextCursor,
+                              long loadedAt) {
+        static CachedPage from(CursorPage<StudyRoomInfoReadResponse> page) {
+            return new CachedPage(List.copyOf(page.getContent()), page.isHasNext(), page.getNextCursor(),
+                    System.currentTimeMillis());
+        }
+
+        CursorPage<StudyRoomInfoReadResponse> toPage(List<StudyRoomInfoReadResponse> pageContent) {
+            CursorPage<StudyRoomInfoReadResponse> page = new CursorPage<>();
+            page.setContent(pageContent);
+            page.setHasNext(hasNext);
+            page.setNextCursor(nextCursor);
+            return page;
+        }
+    }
+}
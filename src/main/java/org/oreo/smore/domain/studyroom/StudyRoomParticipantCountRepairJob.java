@@ -0,0 +1,57 @@
+package org.oreo.smore.domain.studyroom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * study_rooms.current_participants 재집계
+ * - 입장/퇴장/강퇴 시 ±1로 유지하지만 중복 퇴장 요청, 서버 중단 등으로 어긋날 수 있어 participants 원본으로 주기적으로 맞춤
+ * - roomId 구간 단위로 나눠 갱신 (한 번에 잡는 행 잠금 범위 제한), 값이 다른 방만 UPDATE
+ */
+@Slf4j
+@Component
+public class StudyRoomParticipantCountRepairJob {
+
+    private final StudyRoomRepository roomRepository;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public StudyRoomParticipantCountRepairJob(StudyRoomRepository roomRepository,
+                                              @Value("${app.studyroom.participant-count.repair-enabled:true}") boolean enabled,
+                                              @Value("${app.studyroom.participant-count.repair-batch-size:1000}") int batchSize) {
+        this.roomRepository = roomRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${app.studyroom.participant-count.repair-initial-delay-ms:30000}",
+            fixedDelayString = "${app.studyroom.participant-count.repair-delay-ms:300000}")
+    public void scheduledRepair() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            repair();
+        } catch (Exception e) {
+            log.error("❌ 스터디룸 참가자 수 재집계 실패", e);
+        }
+    }
+
+    // 어긋난 방 수 반환
+    public int repair() {
+        long maxRoomId = roomRepository.findMaxRoomId();
+        int repaired = 0;
+        for (long from = 0; from < maxRoomId; from += batchSize) {
+            repaired += roomRepository.repairParticipantCounts(from, Math.min(from + batchSize, maxRoomId));
+        }
+
+        if (repaired > 0) {
+            log.warn("⚠️ 스터디룸 참가자 수 보정 - 어긋난 방 수: {}", repaired);
+        } else {
+            log.debug("스터디룸 참가자 수 재집계 완료 - 어긋난 방 없음");
+        }
+        return repaired;
+    }
+}
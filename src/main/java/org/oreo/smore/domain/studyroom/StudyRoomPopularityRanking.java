@@ -0,0 +1,376 @@
+package org.oreo.smore.domain.studyroom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.global.common.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 스터디룸 인기순 랭킹 (Redis sorted set)
+ * - score = 참가자 수 * 10^10 + roomId -> (참가자 수 DESC, roomId DESC) 전체 순서, score 자체가 다음 페이지 커서
+ * - 전체/빈자리 있는 방(open) x 전체/카테고리별 집합을 함께 유지해 hideFullRooms, 카테고리 필터도 집합에서 바로 페이징
+ * - 입장/퇴장/강퇴/웹훅 퇴장/생성은 커밋 이후 해당 방만 다시 계산, 삭제는 집합에서 제거
+ * - 정기 재구성으로 누락/Redis 유실 복구 (서버 간 락으로 한 서버만 재구성, 재구성 중 갱신된 방은 교체 후 다시 반영)
+ * - 한 번도 구성되지 않았으면 available=false, 조회 실패 시에는 호출 측에서 기존 방식으로 대체
+ */
+@Slf4j
+@Component
+public class StudyRoomPopularityRanking {
+
+    static final long SCORE_SCALE = 10_000_000_000L;
+    private static final String KEY_PREFIX = "room:popular:";
+
+    private static final String REBUILD_LOCK_KEY = KEY_PREFIX + "rebuild:lock";
+    private static final String REBUILD_DIRTY_KEY = KEY_PREFIX + "rebuild:dirty";
+    private static final String READY_KEY = KEY_PREFIX + "ready";
+
+    // 전체/카테고리 집합은 항상 갱신, open 집합은 빈자리 여부에 따라 추가/제거
+    // 재구성 중(락 존재)이면 교체 후 다시 반영하도록 방 ID를 dirty 집합에 기록
+    static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            if ARGV[3] == '1' then
+                redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1])
+                redis.call('ZADD', KEYS[4], ARGV[2], ARGV[1])
+            else
+                redis.call('ZREM', KEYS[3], ARGV[1])
+                redis.call('ZREM', KEYS[4], ARGV[1])
+            end
+            if redis.call('EXISTS', KEYS[5]) == 1 then
+                redis.call('SADD', KEYS[6], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // 모든 집합에서 제거 (마지막 두 키는 재구성 락, dirty 집합)
+    static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 2
+            for i = 1, n do
+                redis.call('ZREM', KEYS[i], ARGV[1])
+            end
+            if redis.call('EXISTS', KEYS[n + 1]) == 1 then
+                redis.call('SADD', KEYS[n + 2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // 락을 아직 쥐고 있을 때만 임시 키를 한 번에 교체 (임시 키가 없으면 빈 집합이므로 삭제)
+    // KEYS = 실제 키 n개, 임시 키 n개, 락, 준비 표시 / ARGV = n, 락 토큰
+    static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            local n = tonumber(ARGV[1])
+            if redis.call('GET', KEYS[2 * n + 1]) ~= ARGV[2] then
+                for i = 1, n do
+                    redis.call('DEL', KEYS[n + i])
+                end
+                return 0
+            end
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[n + i]) == 1 then
+                    redis.call('RENAME', KEYS[n + i], KEYS[i])
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            redis.call('SET', KEYS[2 * n + 2], '1')
+            return 1
+            """, Long.class);
+
+    // 재구성 중 갱신된 방 ID를 꺼내고 비움
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local members = redis.call('SMEMBERS', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return members
+            """, List.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final StudyRoomRepository roomRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration rebuildLockTtl;
+
+    private volatile boolean available;
+
+    public StudyRoomPopularityRanking(StringRedisTemplate redisTemplate,
+                                      StudyRoomRepository roomRepository,
+                                      @Value("${app.studyroom.popular.enabled:true}") boolean enabled,
+                                      @Value("${app.studyroom.popular.batch-size:5000}") int batchSize,
+                                      @Value("${app.studyroom.popular.rebuild-lock-ttl-ms:120000}") long rebuildLockTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.roomRepository = roomRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.rebuildLockTtl = Duration.ofMillis(rebuildLockTtlMs);
+    }
+
+    public boolean isAvailable() {
+        return enabled && available;
+    }
+
+    /**
+     * score가 cursor보다 작은 방을 인기순으로 최대 limit개
+     * - cursor는 이전 페이지 마지막 방의 score (첫 페이지는 Long.MAX_VALUE)
+     */
+    public List<RankedRoom> page(StudyRoomCategory category, boolean hideFullRooms, long cursor, int limit) {
+        String key = key(category, hideFullRooms);
+        double max = cursor == Long.MAX_VALUE ? Double.POSITIVE_INFINITY : cursor - 1;
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeByScoreWithScores(key, 0, max, 0, limit);
+        if (tuples == null) {
+            return List.of();
+        }
+
+        List<RankedRoom> result = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                result.add(RankedRoom.of(Long.parseLong(tuple.getValue()), tuple.getScore().longValue()));
+            }
+        }
+        return result;
+    }
+
+    // 랭킹에 기록된 현재 참가자 수 (랭킹에 없는 방은 결과에서 빠짐)
+    public Map<Long, Long> counts(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Double> scores = redisTemplate.opsForZSet()
+                .score(key(null, false), roomIds.stream().map(String::valueOf).toArray());
+        Map<Long, Long> counts = new HashMap<>();
+        if (scores == null) {
+            return counts;
+        }
+        for (int i = 0; i < roomIds.size() && i < scores.size(); i++) {
+            Double score = scores.get(i);
+            if (score != null) {
+                counts.put(roomIds.get(i), score.longValue() / SCORE_SCALE);
+            }
+        }
+        return counts;
+    }
+
+    // 참가자 수 변경 반영 (트랜잭션 안이면 커밋 이후 current_participants를 다시 읽어 반영)
+    public void refresh(Long roomId) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            try {
+                refreshNow(roomId);
+            } catch (Exception e) {
+                log.warn("⚠️ 인기순 랭킹 갱신 실패 - 방ID: {}, 오류: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    // 방 삭제 반영
+    public void remove(Long roomId) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            try {
+                removeNow(roomId);
+            } catch (Exception e) {
+                log.warn("⚠️ 인기순 랭킹 제거 실패 - 방ID: {}, 오류: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    // 기동 직후 1회, 이후 주기적으로 DB 기준 재구성
+    @Scheduled(initialDelayString = "${app.studyroom.popular.initial-delay-ms:5000}",
+            fixedDelayString = "${app.studyroom.popular.rebuild-delay-ms:300000}")
+    public void scheduledRebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 교체 전 실패면 기존 집합이 그대로 남아 있고 개별 갱신도 계속되므로 available은 유지
+            log.error("❌ 인기순 랭킹 재구성 실패 (기존 랭킹 유지)", e);
+        }
+    }
+
+    /**
+     * 삭제되지 않은 전체 방을 이 서버 전용 임시 키에 쌓은 뒤 한 번에 교체
+     * - 락을 얻은 서버만 재구성, 나머지는 다른 서버가 구성한 랭킹이 있는지만 확인
+     * - DB를 읽은 뒤 교체 전까지 다른 서버에서 반영된 갱신은 dirty 집합에 남으므로 교체 후 DB 기준으로 다시 반영
+     */
+    public void rebuild() {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, rebuildLockTtl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            if (!available && Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                available = true;
+                log.info("✅ 다른 서버가 구성한 인기순 랭킹 사용");
+            }
+            return;
+        }
+
+        try {
+            // 이전 재구성이 남긴 기록은 이번 DB 조회에 이미 포함됨
+            redisTemplate.delete(REBUILD_DIRTY_KEY);
+            Map<String, Set<ZSetOperations.TypedTuple<String>>> sets = load();
+
+            List<String> liveKeys = allKeys();
+            String stagingSuffix = ":rebuild:" + token;
+            List<String> scriptKeys = new ArrayList<>(liveKeys);
+            for (String key : liveKeys) {
+                String staging = key + stagingSuffix;
+                scriptKeys.add(staging);
+                Set<ZSetOperations.TypedTuple<String>> tuples = sets.get(key);
+                if (tuples != null && !tuples.isEmpty()) {
+                    redisTemplate.opsForZSet().add(staging, tuples);
+                }
+            }
+            scriptKeys.add(REBUILD_LOCK_KEY);
+            scriptKeys.add(READY_KEY);
+
+            Long swapped = redisTemplate.execute(SWAP_SCRIPT, scriptKeys, Integer.toString(liveKeys.size()), token);
+            if (swapped == null || swapped == 0L) {
+                log.warn("⚠️ 인기순 랭킹 재구성 중 락 만료 - 교체하지 않음");
+                return;
+            }
+
+            int replayed = replayDirty();
+
+            if (!available) {
+                available = true;
+                log.info("✅ 인기순 랭킹 구성 완료 - 방 수: {}, 재반영: {}",
+                        sets.getOrDefault(key(null, false), Set.of()).size(), replayed);
+            }
+        } finally {
+            releaseLock(token);
+        }
+    }
+
+    // DB 전체를 roomId 순으로 배치 조회해 키별 집합 구성
+    private Map<String, Set<ZSetOperations.TypedTuple<String>>> load() {
+        Map<String, Set<ZSetOperations.TypedTuple<String>>> sets = new HashMap<>();
+        long after = 0L;
+        while (true) {
+            List<StudyRoomCapacity> batch = roomRepository.findCapacitiesAfter(after, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (StudyRoomCapacity capacity : batch) {
+                long count = capacity.participantCount();
+                ZSetOperations.TypedTuple<String> tuple = ZSetOperations.TypedTuple.of(
+                        capacity.roomId().toString(), (double) score(count, capacity.roomId()));
+                for (String key : keys(capacity, count)) {
+                    sets.computeIfAbsent(key, k -> new HashSet<>()).add(tuple);
+                }
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+            after = batch.get(batch.size() - 1).roomId();
+        }
+        return sets;
+    }
+
+    // 재구성 중 갱신/삭제된 방을 DB 기준으로 다시 반영
+    private int replayDirty() {
+        List<?> dirty = redisTemplate.execute(DRAIN_SCRIPT, List.of(REBUILD_DIRTY_KEY));
+        if (dirty == null) {
+            return 0;
+        }
+        for (Object member : dirty) {
+            Long roomId = Long.valueOf(member.toString());
+            try {
+                refreshNow(roomId);
+            } catch (Exception e) {
+                log.warn("⚠️ 인기순 랭킹 재반영 실패 - 방ID: {}, 오류: {}", roomId, e.getMessage());
+            }
+        }
+        return dirty.size();
+    }
+
+    private void releaseLock(String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(REBUILD_LOCK_KEY), token);
+        } catch (Exception e) {
+            // 락 TTL이 지나면 자동으로 풀림
+            log.warn("⚠️ 인기순 랭킹 재구성 락 해제 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    private void refreshNow(Long roomId) {
+        Optional<StudyRoomCapacity> capacity = roomRepository.findCapacityById(roomId);
+        if (capacity.isEmpty()) {
+            removeNow(roomId);
+            return;
+        }
+        write(capacity.get(), capacity.get().participantCount());
+    }
+
+    private void write(StudyRoomCapacity capacity, long count) {
+        boolean open = capacity.hasRoomFor(count);
+        redisTemplate.execute(UPDATE_SCRIPT,
+                List.of(key(null, false), key(capacity.category(), false),
+                        key(null, true), key(capacity.category(), true),
+                        REBUILD_LOCK_KEY, REBUILD_DIRTY_KEY),
+                capacity.roomId().toString(),
+                Long.toString(score(count, capacity.roomId())),
+                open ? "1" : "0");
+    }
+
+    private void removeNow(Long roomId) {
+        List<String> keys = allKeys();
+        keys.add(REBUILD_LOCK_KEY);
+        keys.add(REBUILD_DIRTY_KEY);
+        redisTemplate.execute(REMOVE_SCRIPT, keys, roomId.toString());
+    }
+
+    private List<String> keys(StudyRoomCapacity capacity, long count) {
+        if (capacity.hasRoomFor(count)) {
+            return List.of(key(null, false), key(capacity.category(), false),
+                    key(null, true), key(capacity.category(), true));
+        }
+        return List.of(key(null, false), key(capacity.category(), false));
+    }
+
+    private static List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(key(null, false));
+        keys.add(key(null, true));
+        for (StudyRoomCategory category : StudyRoomCategory.values()) {
+            keys.add(key(category, false));
+            keys.add(key(category, true));
+        }
+        return keys;
+    }
+
+    static long score(long count, long roomId) {
+        return count * SCORE_SCALE + roomId;
+    }
+
+    // room:popular:{all|카테고리}[:open]
+    static String key(StudyRoomCategory category, boolean openOnly) {
+        String scope = category == null ? "all" : category.name();
+        return KEY_PREFIX + scope + (openOnly ? ":open" : "");
+    }
+
+    public record RankedRoom(Long roomId, long participantCount, long score) {
+        static RankedRoom of(Long roomId, long score) {
+            return new RankedRoom(roomId, score / SCORE_SCALE, score);
+        }
+    }
+}
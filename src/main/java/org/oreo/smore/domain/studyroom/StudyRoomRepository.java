@@ -2,11 +2,19 @@ package org.oreo.smore.domain.studyroom;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,11 +29,18 @@ public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
     // 특정 카테고리 스터디룸을 최근 생성된 순으로 조회
     List<StudyRoom> findAllByCategoryAndDeletedAtIsNullOrderByCreatedAtDesc(StudyRoomCategory category);
 
-    // cursor 기반 페이징을 위한 메서드
+    // cursor 기반 페이징을 위한 메서드 (생성자 닉네임용 user 함께 조회)
+    @EntityGraph(attributePaths = "user")
     Slice<StudyRoom> findAll(Specification<StudyRoom> spec, Pageable pageable);
 
     Optional<StudyRoom> findByLiveKitRoomId(String liveKitRoomId);
 
+    // 입장 처리 중 방 행 잠금 (같은 방 입장을 직렬화해 정원 확인과 참가자 INSERT를 원자적으로)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT sr FROM StudyRoom sr WHERE sr.roomId = :roomId")
+    Optional<StudyRoom> findByIdForUpdate(@Param("roomId") Long roomId);
+
     @Query("SELECT DISTINCT sr FROM StudyRoom sr " +
             "LEFT JOIN FETCH sr.user " +
             "WHERE sr.deletedAt IS NULL " +
@@ -35,4 +50,91 @@ public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
             @Param("cursor") Long cursor,
             Pageable pageable
     );
+
+    // hideFullRooms: 빈자리 있는 방만 조회 (정원 필터를 쿼리에서 적용해 페이지가 limit만큼 채워지도록)
+    @Query("SELECT DISTINCT sr FROM StudyRoom sr " +
+            "LEFT JOIN FETCH sr.user " +
+            "WHERE sr.deletedAt IS NULL " +
+            "AND sr.roomId < :cursor " +
+            "AND sr.currentParticipants < sr.maxParticipants " +
+            "ORDER BY sr.roomId DESC")
+    List<StudyRoom> findOpenWithUserFetchJoin(
+            @Param("cursor") Long cursor,
+            Pageable pageable
+    );
+
+    // 검색 색인 결과 일괄 조회 (순서는 호출 쪽에서 맞춤)
+    @Query("SELECT sr FROM StudyRoom sr " +
+            "LEFT JOIN FETCH sr.user " +
+            "WHERE sr.roomId IN :roomIds " +
+            "AND sr.deletedAt IS NULL")
+    List<StudyRoom> findAllWithUserByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+
+    @Query("SELECT sr FROM StudyRoom sr " +
+            "LEFT JOIN FETCH sr.user " +
+            "WHERE sr.roomId IN :roomIds " +
+            "AND sr.deletedAt IS NULL " +
+            "AND sr.currentParticipants < sr.maxParticipants")
+    List<StudyRoom> findAllOpenWithUserByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+
+    // 검색 색인 구성용 (roomId 오름차순 배치)
+    @Query("SELECT new org.oreo.smore.domain.studyroom.StudyRoomSearchDocument(" +
+            "sr.roomId, sr.title, sr.tag, sr.description, sr.category) " +
+            "FROM StudyRoom sr " +
+            "WHERE sr.deletedAt IS NULL " +
+            "AND sr.roomId > :afterRoomId " +
+            "ORDER BY sr.roomId ASC")
+    List<StudyRoomSearchDocument> findSearchDocumentsAfter(@Param("afterRoomId") long afterRoomId, Pageable pageable);
+
+    // 인기순 랭킹 구성용 (roomId 오름차순 배치)
+    @Query("SELECT new org.oreo.smore.domain.studyroom.StudyRoomCapacity(" +
+            "sr.roomId, sr.currentParticipants, sr.maxParticipants, sr.category) " +
+            "FROM StudyRoom sr " +
+            "WHERE sr.deletedAt IS NULL " +
+            "AND sr.roomId > :afterRoomId " +
+            "ORDER BY sr.roomId ASC")
+    List<StudyRoomCapacity> findCapacitiesAfter(@Param("afterRoomId") long afterRoomId, Pageable pageable);
+
+    @Query("SELECT new org.oreo.smore.domain.studyroom.StudyRoomCapacity(" +
+            "sr.roomId, sr.currentParticipants, sr.maxParticipants, sr.category) " +
+            "FROM StudyRoom sr " +
+            "WHERE sr.roomId = :roomId " +
+            "AND sr.deletedAt IS NULL")
+    Optional<StudyRoomCapacity> findCapacityById(@Param("roomId") Long roomId);
+
+    // 방의 현재 참가자 수 (current_participants 컬럼, 영속성 컨텍스트와 무관하게 DB 현재값)
+    @Query("SELECT sr.currentParticipants FROM StudyRoom sr WHERE sr.roomId = :roomId")
+    Optional<Integer> findCurrentParticipantsById(@Param("roomId") Long roomId);
+
+    // 여러 방의 현재 참가자 수 (current_participants 컬럼)
+    @Query("SELECT sr.roomId, sr.currentParticipants FROM StudyRoom sr WHERE sr.roomId IN :roomIds")
+    List<Object[]> findCurrentParticipantsByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+
+    // 활성 참가자 수 증감 (행 단위 원자적 UPDATE, 0 아래로 내려가지 않음)
+    // 정원이 남아 있을 때만 +1 (영속성 컨텍스트의 값과 무관하게 DB 현재값으로 판단, 반영 행 수 0이면 만석)
+    @Modifying
+    @Query("UPDATE StudyRoom sr SET sr.currentParticipants = sr.currentParticipants + 1 " +
+            "WHERE sr.roomId = :roomId AND sr.currentParticipants < sr.maxParticipants")
+    int admitParticipant(@Param("roomId") Long roomId);
+
+    @Modifying
+    @Query("UPDATE StudyRoom sr SET sr.currentParticipants = " +
+            "CASE WHEN sr.currentParticipants > :count THEN sr.currentParticipants - :count ELSE 0 END " +
+            "WHERE sr.roomId = :roomId")
+    int decrementParticipants(@Param("roomId") Long roomId, @Param("count") int count);
+
+    // participants 기준 재집계 (roomId 구간 단위, 값이 다른 방만 갱신)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StudyRoom sr SET sr.currentParticipants = " +
+            "CAST((SELECT COUNT(p) FROM Participant p " +
+            "      WHERE p.roomId = sr.roomId AND p.leftAt IS NULL AND p.isBanned = false) AS Integer) " +
+            "WHERE sr.deletedAt IS NULL " +
+            "AND sr.roomId > :fromRoomId AND sr.roomId <= :toRoomId " +
+            "AND sr.currentParticipants <> (SELECT COUNT(p2) FROM Participant p2 " +
+            "      WHERE p2.roomId = sr.roomId AND p2.leftAt IS NULL AND p2.isBanned = false)")
+    int repairParticipantCounts(@Param("fromRoomId") long fromRoomId, @Param("toRoomId") long toRoomId);
+
+    @Query("SELECT COALESCE(MAX(sr.roomId), 0) FROM StudyRoom sr")
+    long findMaxRoomId();
 }
@@ -0,0 +1,17 @@
+package org.oreo.smore.domain.studyroom;
+
+/**
+ * 검색 색인용 방 정보 (제목/태그/설명/카테고리)
+ */
+public record StudyRoomSearchDocument(
+        Long roomId,
+        String title,
+        String tag,
+        String description,
+        StudyRoomCategory category
+) {
+    public static StudyRoomSearchDocument from(StudyRoom room) {
+        return new StudyRoomSearchDocument(room.getRoomId(), room.getTitle(), room.getTag(),
+                room.getDescription(), room.getCategory());
+    }
+}
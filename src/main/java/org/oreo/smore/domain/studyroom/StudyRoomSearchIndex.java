@@ -0,0 +1,317 @@
+package org.oreo.smore.domain.studyroom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.global.common.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 스터디룸 검색 색인 (제목/태그/설명, 서버 내부 n-gram 역색인)
+ * - 글자 단위 1-gram/2-gram -> roomId 집합, 한글처럼 띄어쓰기와 무관하게 부분 문자열 검색
+ * - 검색: 검색어의 n-gram 중 가장 짧은 posting을 roomId 내림차순으로 훑으며 원문 포함 여부 확인 (LIKE '%검색어%'와 같은 결과)
+ * - 이 서버의 생성/삭제는 커밋 이후 즉시 반영, 다른 서버에서 생성된 방은 주기적으로 roomId 기준 따라잡기,
+ *   다른 서버의 삭제는 정기 재구성 전까지 남지만 조회 단계에서 deletedAt으로 걸러짐
+ * - 따라잡기는 watermark보다 catchUpOverlap만큼 앞에서 시작 (roomId 발급 순서와 커밋 순서가 달라 늦게 커밋된 방 보정)
+ * - 재구성 중 이 서버에서 반영된 변경은 기록해 두었다가 새 색인으로 교체한 뒤 다시 적용
+ */
+@Slf4j
+@Component
+public class StudyRoomSearchIndex {
+
+    private final StudyRoomRepository roomRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long catchUpOverlap;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, TreeSet<Long>> postings = new HashMap<>();
+    private Map<Long, Entry> entries = new HashMap<>();
+
+    // 재구성 중 반영된 변경 (재구성 중이 아니면 null, 쓰기 락 안에서만 접근)
+    private List<Change> changesDuringRebuild;
+
+    // 색인에 반영된 가장 큰 roomId
+    private volatile long watermark;
+    private volatile boolean ready;
+
+    public StudyRoomSearchIndex(StudyRoomRepository roomRepository,
+                                @Value("${app.studyroom.search.enabled:true}") boolean enabled,
+                                @Value("${app.studyroom.search.batch-size:5000}") int batchSize,
+                                @Value("${app.studyroom.search.catch-up-overlap:1000}") long catchUpOverlap) {
+        this.roomRepository = roomRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.catchUpOverlap = catchUpOverlap;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 검색어를 포함하는 방 ID (roomId < cursor, 내림차순, 최대 limit개)
+     * - category가 null이면 전체 카테고리
+     */
+    public List<Long> search(String query, StudyRoomCategory category, long cursor, int limit) {
+        String term = normalize(query);
+        if (term.isBlank()) {
+            return List.of();
+        }
+        Set<String> grams = grams(term);
+
+        lock.readLock().lock();
+        try {
+            TreeSet<Long> driver = null;
+            for (String gram : grams) {
+                TreeSet<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                if (driver == null || posting.size() < driver.size()) {
+                    driver = posting;
+                }
+            }
+            if (driver == null) {
+                return List.of();
+            }
+
+            List<Long> result = new ArrayList<>(limit);
+            Iterator<Long> candidates = driver.headSet(cursor, false).descendingIterator();
+            while (candidates.hasNext() && result.size() < limit) {
+                Long roomId = candidates.next();
+                Entry entry = entries.get(roomId);
+                if (entry != null
+                        && (category == null || category == entry.category())
+                        && entry.text().contains(term)) {
+                    result.add(roomId);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 방 생성/수정 반영 (트랜잭션 안이면 커밋 이후)
+    public void upsert(StudyRoom room) {
+        StudyRoomSearchDocument document = StudyRoomSearchDocument.from(room);
+        AfterCommit.run(() -> index(document));
+    }
+
+    // 방 삭제 반영
+    public void remove(Long roomId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                removeLocked(roomId);
+                if (changesDuringRebuild != null) {
+                    changesDuringRebuild.add(new Change(roomId, null));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 다른 서버에서 생성된 방 따라잡기 (첫 실행은 전체 색인)
+    @Scheduled(initialDelayString = "${app.studyroom.search.initial-delay-ms:5000}",
+            fixedDelayString = "${app.studyroom.search.catch-up-delay-ms:5000}")
+    public void scheduledCatchUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!ready) {
+                rebuild();
+            } else {
+                catchUp();
+            }
+        } catch (Exception e) {
+            log.error("❌ 스터디룸 검색 색인 갱신 실패 - 마지막 roomId: {}", watermark, e);
+        }
+    }
+
+    // 다른 서버의 삭제/수정까지 맞추기 위한 정기 재구성
+    @Scheduled(cron = "${app.studyroom.search.rebuild-cron:0 */10 * * * *}")
+    public void scheduledRebuild() {
+        if (!enabled || !ready) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ 스터디룸 검색 색인 재구성 실패", e);
+        }
+    }
+
+    // 삭제되지 않은 전체 방으로 새 색인을 만든 뒤 교체
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            swap(load());
+        } finally {
+            // DB 조회 실패 시 기록 중단
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private Snapshot load() {
+        Map<String, TreeSet<Long>> newPostings = new HashMap<>();
+        Map<Long, Entry> newEntries = new HashMap<>();
+        long after = 0L;
+        while (true) {
+            List<StudyRoomSearchDocument> batch = roomRepository.findSearchDocumentsAfter(after, PageRequest.of(0, batchSize));
+            for (StudyRoomSearchDocument document : batch) {
+                addTo(newPostings, newEntries, document);
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+            after = batch.get(batch.size() - 1).roomId();
+        }
+        return new Snapshot(newPostings, newEntries);
+    }
+
+    private void swap(Snapshot snapshot) {
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            postings = snapshot.postings();
+            entries = snapshot.entries();
+            long maxRoomId = snapshot.entries().keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+            watermark = Math.max(watermark, maxRoomId);
+
+            // DB를 읽는 동안 이 서버에서 반영된 생성/수정/삭제를 새 색인에 순서대로 다시 적용
+            replayed = changesDuringRebuild.size();
+            for (Change change : changesDuringRebuild) {
+                removeLocked(change.roomId());
+                if (change.document() != null) {
+                    addTo(postings, entries, change.document());
+                }
+            }
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (!ready) {
+            ready = true;
+            log.info("✅ 스터디룸 검색 색인 생성 완료 - 방 수: {}, 재적용: {}", snapshot.entries().size(), replayed);
+        }
+    }
+
+    // watermark 근처 이후 생성된 방 반영 (catchUpOverlap 구간은 다시 읽어 늦게 커밋된 방을 보정)
+    public int catchUp() {
+        int indexed = 0;
+        long after = Math.max(0L, watermark - catchUpOverlap);
+        while (true) {
+            List<StudyRoomSearchDocument> batch = roomRepository.findSearchDocumentsAfter(after, PageRequest.of(0, batchSize));
+            batch.forEach(this::index);
+            indexed += batch.size();
+            if (batch.size() < batchSize) {
+                return indexed;
+            }
+            after = batch.get(batch.size() - 1).roomId();
+        }
+    }
+
+    void index(StudyRoomSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.roomId());
+            addTo(postings, entries, document);
+            watermark = Math.max(watermark, document.roomId());
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new Change(document.roomId(), document));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long roomId) {
+        Entry entry = entries.remove(roomId);
+        if (entry == null) {
+            return;
+        }
+        for (String gram : entry.grams()) {
+            TreeSet<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(roomId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static void addTo(Map<String, TreeSet<Long>> postings, Map<Long, Entry> entries,
+                              StudyRoomSearchDocument document) {
+        // 필드 사이에 줄바꿈을 넣어 필드 경계를 넘는 일치를 막음
+        List<String> fields = new ArrayList<>(3);
+        for (String field : new String[]{document.title(), document.tag(), document.description()}) {
+            if (field != null && !field.isBlank()) {
+                fields.add(normalize(field));
+            }
+        }
+
+        Set<String> grams = new HashSet<>();
+        fields.forEach(field -> grams.addAll(grams(field)));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new TreeSet<>()).add(document.roomId());
+        }
+        entries.put(document.roomId(), new Entry(String.join("\n", fields), document.category(), grams));
+    }
+
+    // 1글자 검색어는 1-gram, 그 외에는 2-gram
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text.length() == 1) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (!Character.isWhitespace(current)) {
+                grams.add(String.valueOf(current));
+            }
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 조합형(NFD) 한글 입력도 같은 글자로 보도록 NFC + 소문자
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String text, StudyRoomCategory category, Set<String> grams) {
+    }
+
+    private record Snapshot(Map<String, TreeSet<Long>> postings, Map<Long, Entry> entries) {
+    }
+
+    // document가 null이면 삭제
+    private record Change(Long roomId, StudyRoomSearchDocument document) {
+    }
+}
@@ -1,13 +1,13 @@
 package org.oreo.smore.domain.studyroom;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.chat.ChatRoomService;
 import org.oreo.smore.domain.chat.StudyRoomNotificationService;
-import org.oreo.smore.domain.participant.Participant;
 import org.oreo.smore.domain.participant.ParticipantRepository;
 import org.oreo.smore.domain.studyroom.dto.RecentStudyRoomsResponse;
 import org.oreo.smore.domain.studyroom.dto.StudyRoomDetailResponse;
@@ -31,6 +31,8 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class StudyRoomService {
+    private static final int RECENT_ROOM_SCAN_SIZE = 20;
+
     private final StudyRoomRepository roomRepository;
     private final ParticipantRepository participantRepository;
     private final UserRepository userRepo;
@@ -38,6 +40,9 @@ public class StudyRoomService {
     private final LiveKitRoomService liveKitRoomService;
     private final ChatRoomService chatRoomService;
     private final StudyRoomNotificationService notificationService;
+    private final StudyRoomSearchIndex searchIndex;
+    private final StudyRoomPopularityRanking popularityRanking;
+    private final StudyRoomListPageCache listPageCache;
 
     // TODO : N+1 문제 해결하기
     public CursorPage<StudyRoomInfoReadResponse> listStudyRooms(
@@ -49,18 +54,143 @@ public class StudyRoomService {
             boolean hideFullRooms
     ) {
         long cursor = (page != null && page > 1) ? page : Long.MAX_VALUE;
-        ;
+
+        // 검색어 없는 전체/카테고리 목록은 페이지 캐시 사용 (참가자 수는 응답 시 보정)
+        // hideFullRooms 목록은 어떤 방이 들어가는지가 참가자 수에 따라 바뀌므로 캐시하지 않음 (캐시하면 페이지가 짧아짐)
+        // 인기순은 참가자 수 보정 후 순서가 어긋나므로 캐시하지 않음 (Redis 랭킹에서 바로 페이징)
+        if ((search == null || search.isBlank()) && !hideFullRooms && !isPopularSort(sort)) {
+            return listPageCache.get(
+                    StudyRoomListPageCache.PageKey.of(cursor, limit, category, sort),
+                    () -> loadStudyRooms(cursor, limit, search, category, sort, hideFullRooms));
+        }
+        return loadStudyRooms(cursor, limit, search, category, sort, hideFullRooms);
+    }
+
+    private CursorPage<StudyRoomInfoReadResponse> loadStudyRooms(
+            long cursor,
+            int limit,
+            String search,
+            String category,
+            String sort,
+            boolean hideFullRooms
+    ) {
+        // 인기순(검색어 없음)은 랭킹 집합에서 바로 페이징, 랭킹 준비 전/장애 시에는 DB에서 같은 커서 형식으로 페이징
+        if (isPopularSort(sort) && (search == null || search.isBlank())) {
+            if (popularityRanking.isAvailable()) {
+                CursorPage<StudyRoomInfoReadResponse> ranked = listPopularRooms(cursor, limit, category, hideFullRooms);
+                if (ranked != null) {
+                    return ranked;
+                }
+            }
+            return listPopularRoomsFromDb(cursor, limit, category, hideFullRooms);
+        }
+
         Sort sortOrder = buildSortOrder(sort);
         Pageable pageable = PageRequest.of(0, limit + 1, sortOrder);
 
-        List<StudyRoom> rooms = fetchRooms(cursor, search, category, pageable);
-        List<StudyRoomInfoReadResponse> dtos = mapAndFilterRooms(rooms, hideFullRooms);
+        // 꽉 찬 방은 조회 단계에서 제외 -> limit + 1개가 모두 노출 대상이라 hasNext/nextCursor가 정확함
+        List<StudyRoom> rooms = fetchRooms(cursor, search, category, hideFullRooms, pageable);
+        List<StudyRoomInfoReadResponse> dtos = mapRooms(rooms);
         if (isPopularSort(sort)) {
             applyPopularSort(dtos);
         }
         return CursorPage.of(dtos, limit);
     }
 
+    // 커서 = 이전 페이지 마지막 방의 랭킹 score (참가자 수, roomId 순서를 함께 담고 있음)
+    private CursorPage<StudyRoomInfoReadResponse> listPopularRooms(
+            long cursor,
+            int limit,
+            String category,
+            boolean hideFullRooms
+    ) {
+        StudyRoomCategory categoryFilter = null;
+        if (category != null && !category.isBlank()) {
+            try {
+                categoryFilter = StudyRoomCategory.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return CursorPage.of(List.of(), limit);
+            }
+        }
+
+        List<StudyRoomPopularityRanking.RankedRoom> ranked;
+        try {
+            ranked = popularityRanking.page(categoryFilter, hideFullRooms, cursor, limit + 1);
+        } catch (Exception e) {
+            log.warn("⚠️ 인기순 랭킹 조회 실패 (기존 인기순 정렬 사용) - 오류: {}", e.getMessage());
+            return null;
+        }
+
+        boolean hasNext = ranked.size() > limit;
+        List<StudyRoomPopularityRanking.RankedRoom> pageRanked = hasNext ? ranked.subList(0, limit) : ranked;
+
+        Map<Long, StudyRoom> roomsById = pageRanked.isEmpty() ? Map.of() : roomRepository
+                .findAllWithUserByRoomIdIn(pageRanked.stream().map(StudyRoomPopularityRanking.RankedRoom::roomId).toList())
+                .stream()
+                .collect(Collectors.toMap(StudyRoom::getRoomId, room -> room));
+
+        List<StudyRoomInfoReadResponse> dtos = new ArrayList<>(pageRanked.size());
+        for (StudyRoomPopularityRanking.RankedRoom rankedRoom : pageRanked) {
+            StudyRoom room = roomsById.get(rankedRoom.roomId());
+            if (room != null) {
+                dtos.add(toDto(room, rankedRoom.participantCount()));
+            }
+        }
+
+        CursorPage<StudyRoomInfoReadResponse> result = new CursorPage<>();
+        result.setContent(dtos);
+        result.setHasNext(hasNext);
+        result.setNextCursor(pageRanked.isEmpty() ? null : pageRanked.get(pageRanked.size() - 1).score());
+        return result;
+    }
+
+    // 랭킹과 같은 커서(score = 참가자 수 * SCORE_SCALE + roomId)로 (참가자 수, roomId) 내림차순 키셋 페이징
+    // -> 페이지 도중 Redis 경로와 DB 경로가 바뀌어도 커서가 그대로 이어짐
+    private CursorPage<StudyRoomInfoReadResponse> listPopularRoomsFromDb(
+            long cursor,
+            int limit,
+            String category,
+            boolean hideFullRooms
+    ) {
+        int cursorCount = (int) Math.min(cursor / StudyRoomPopularityRanking.SCORE_SCALE, Integer.MAX_VALUE);
+        long cursorRoomId = cursor % StudyRoomPopularityRanking.SCORE_SCALE;
+
+        Specification<StudyRoom> spec = (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                // 목록 조회에만 방장 Fetch Join (count 쿼리 제외)
+                root.fetch("user", JoinType.LEFT);
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.isNull(root.get("deletedAt")));
+            predicates.add(cb.or(
+                    cb.lessThan(root.<Integer>get("currentParticipants"), cursorCount),
+                    cb.and(
+                            cb.equal(root.<Integer>get("currentParticipants"), cursorCount),
+                            cb.lessThan(root.<Long>get("roomId"), cursorRoomId)
+                    )
+            ));
+            addCategoryPredicate(cb, root, predicates, category);
+            if (hideFullRooms) {
+                addOpenRoomPredicate(cb, root, predicates);
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        Pageable pageable = PageRequest.of(0, limit + 1,
+                Sort.by(Sort.Direction.DESC, "currentParticipants").and(Sort.by(Sort.Direction.DESC, "roomId")));
+        List<StudyRoom> rooms = roomRepository.findAll(spec, pageable).getContent();
+
+        boolean hasNext = rooms.size() > limit;
+        List<StudyRoom> pageRooms = hasNext ? rooms.subList(0, limit) : rooms;
+        StudyRoom last = pageRooms.isEmpty() ? null : pageRooms.get(pageRooms.size() - 1);
+
+        CursorPage<StudyRoomInfoReadResponse> result = new CursorPage<>();
+        result.setContent(mapRooms(pageRooms));
+        result.setHasNext(hasNext);
+        result.setNextCursor(last == null ? null
+                : StudyRoomPopularityRanking.score(last.getCurrentParticipants(), last.getRoomId()));
+        return result;
+    }
+
     private Sort buildSortOrder(String sort) {
         if (isPopularSort(sort)) {
             // 키셋 페이징을 위해 일관된 정렬 컬럼(실존 필드) 사용
@@ -77,12 +207,20 @@ public class StudyRoomService {
             long cursor,
             String search,
             String category,
+            boolean hideFullRooms,
             Pageable pageable
     ) {
         if ((search == null || search.isBlank()) &&
                 (category == null || category.isBlank())) {
             // 필터 없을 때는 Fetch Join 사용
-            return roomRepository.findAllWithUserFetchJoin(cursor, pageable);
+            return hideFullRooms
+                    ? roomRepository.findOpenWithUserFetchJoin(cursor, pageable)
+                    : roomRepository.findAllWithUserFetchJoin(cursor, pageable);
+        }
+
+        // 검색어가 있으면 검색 색인에서 roomId를 찾고 한 번에 조회 (색인 준비 전에는 LIKE)
+        if (search != null && !search.isBlank() && searchIndex.isReady()) {
+            return searchRooms(cursor, search, category, hideFullRooms, pageable.getPageSize());
         }
 
         Specification<StudyRoom> spec = (root, query, cb) -> {
@@ -91,11 +229,51 @@ public class StudyRoomService {
             predicates.add(cb.lessThan(root.get("roomId"), cursor));
             addSearchPredicate(cb, root, predicates, search);
             addCategoryPredicate(cb, root, predicates, category);
+            if (hideFullRooms) {
+                addOpenRoomPredicate(cb, root, predicates);
+            }
             return cb.and(predicates.toArray(new Predicate[0]));
         };
         return roomRepository.findAll(spec, pageable).getContent();
     }
 
+    private List<StudyRoom> searchRooms(long cursor, String search, String category, boolean hideFullRooms, int size) {
+        StudyRoomCategory categoryFilter = null;
+        if (category != null && !category.isBlank()) {
+            try {
+                categoryFilter = StudyRoomCategory.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return List.of();
+            }
+        }
+
+        // 꽉 찬 방/삭제된 방이 빠져 모자라면 색인에서 이어서 가져와 size개를 채움
+        List<StudyRoom> result = new ArrayList<>(size);
+        long next = cursor;
+        while (result.size() < size) {
+            List<Long> roomIds = searchIndex.search(search, categoryFilter, next, size);
+            if (roomIds.isEmpty()) {
+                break;
+            }
+            List<StudyRoom> found = hideFullRooms
+                    ? roomRepository.findAllOpenWithUserByRoomIdIn(roomIds)
+                    : roomRepository.findAllWithUserByRoomIdIn(roomIds);
+            Map<Long, StudyRoom> roomsById = found.stream()
+                    .collect(Collectors.toMap(StudyRoom::getRoomId, room -> room));
+            for (Long roomId : roomIds) {
+                StudyRoom room = roomsById.get(roomId);
+                if (room != null && result.size() < size) {
+                    result.add(room);
+                }
+            }
+            if (roomIds.size() < size) {
+                break;
+            }
+            next = roomIds.get(roomIds.size() - 1);
+        }
+        return result;
+    }
+
     private void addSearchPredicate(
             CriteriaBuilder cb,
             Root<StudyRoom> root,
@@ -126,39 +304,23 @@ public class StudyRoomService {
         }
     }
 
-    private List<StudyRoomInfoReadResponse> mapAndFilterRooms(
-            List<StudyRoom> rooms,
-            boolean hideFullRooms
+    // 빈자리 있는 방만: 현재 참가자 수 < 정원
+    private void addOpenRoomPredicate(
+            CriteriaBuilder cb,
+            Root<StudyRoom> root,
+            List<Predicate> preds
     ) {
+        preds.add(cb.lt(root.<Integer>get("currentParticipants"), root.<Integer>get("maxParticipants")));
+    }
 
-        // 모든 방 ID 수집
-        List<Long> roomIds = rooms.stream()
-                .map(StudyRoom::getRoomId)
-                .collect(Collectors.toList());
-
-        if (roomIds.isEmpty()) {
-            return List.of();
-        }
-
-        // Bulk Query로 참가자 수 한 번에 조회
-        Map<Long, Long> participantCountMap = participantRepository
-                .countActiveParticipantsByRoomIds(roomIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (Long) arr[1]
-                ));
-
+    private List<StudyRoomInfoReadResponse> mapRooms(List<StudyRoom> rooms) {
+        // 참가자 수는 방 행의 current_participants 컬럼 (별도 집계 쿼리 없음)
         return rooms.stream()
-                .map(room -> toDto(room, participantCountMap))
-                .filter(dto -> !hideFullRooms || dto.getCurrentParticipants() < dto.getMaxParticipants())
+                .map(room -> toDto(room, room.getCurrentParticipants()))
                 .collect(Collectors.toList());
     }
 
-    private StudyRoomInfoReadResponse toDto(StudyRoom room, Map<Long, Long> participantCountMap) {
-        // Map에서 참가자 수 꺼내기 -> 없으면 0
-        long count = participantCountMap.getOrDefault(room.getRoomId(), 0L);
-
+    private StudyRoomInfoReadResponse toDto(StudyRoom room, long count) {
         User creator = room.getUser();
 
         String creatorNickname = (creator != null) ? creator.getNickname() : "Unknown";
@@ -187,9 +349,10 @@ public class StudyRoomService {
             // 1. 방장 권한 확인
             validateRoomOwner(roomId, ownerId);
 
-            // 2. 현재 참가자 수 확인
-            List<Participant> activeParticipants = participantService.getActiveParticipants(roomId);
-            long participantCount = activeParticipants.size();
+            // 2. 현재 참가자 수 확인 (권한 확인에서 읽은 방 행의 current_participants)
+            long participantCount = roomRepository.findById(roomId)
+                    .map(StudyRoom::getCurrentParticipants)
+                    .orElse(0);
 
             log.info("방 삭제 전 상태 - 방ID: {}, 활성 참가자 수: {}명", roomId, participantCount);
 
@@ -216,6 +379,9 @@ public class StudyRoomService {
 
             room.delete();
             roomRepository.save(room);
+            searchIndex.remove(roomId);
+            popularityRanking.remove(roomId);
+            listPageCache.invalidateAll();
             log.info("✅ 스터디룸 삭제 완료 - 방ID: {}", roomId);
 
             // 6. LiveKit 방 삭제
@@ -288,6 +454,9 @@ public class StudyRoomService {
 
             room.delete();
             roomRepository.save(room);
+            searchIndex.remove(roomId);
+            popularityRanking.remove(roomId);
+            listPageCache.invalidateAll();
             log.info("✅ 스터디룸 소프트 삭제 완료 - 방ID: {}", roomId);
 
             // 5. LiveKit 방 삭제
@@ -318,8 +487,8 @@ public class StudyRoomService {
         User creator = userRepo.findById(room.getUserId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "스터디룸 생성자가 존재하지 않습니다."));
 
-        // 3. 현재 참가자 수 계산 (퇴장 안 했고 강퇴도 안 당한 사용자)
-        int currentParticipants = (int) participantRepository.countActiveParticipantsByRoomId(roomId);
+        // 3. 현재 참가자 수 (퇴장 안 했고 강퇴도 안 당한 사용자, current_participants 컬럼)
+        int currentParticipants = room.getCurrentParticipants();
 
         // 4. 비밀번호 존재 여부 판단
         boolean hasPassword = room.getPassword() != null && !room.getPassword().isBlank();
@@ -347,15 +516,16 @@ public class StudyRoomService {
     }
 
     public RecentStudyRoomsResponse getRecentStudyRooms(Long userId) {
-        // 1. 유저의 참여 기록 중 최신 참여 기준으로 정렬
-        List<Participant> recentParticipants = participantRepository
-                .findByUserIdOrderByJoinedAtDesc(userId);
-
-        // 2. 중복 없는 roomId 3개 추출 (최신순 유지)
+        // 1~2. 최신 참여 순 roomId만 끊어 읽으면서 중복 없는 3개 추출 (참가 이력 전체를 읽지 않음)
         LinkedHashSet<Long> distinctRoomIds = new LinkedHashSet<>();
-        for (Participant p : recentParticipants) {
-            distinctRoomIds.add(p.getRoomId());
-            if (distinctRoomIds.size() == 3) break;
+        for (int pageNumber = 0; distinctRoomIds.size() < 3; pageNumber++) {
+            List<Long> recentRoomIds = participantRepository
+                    .findRecentRoomIdsByUserId(userId, PageRequest.of(pageNumber, RECENT_ROOM_SCAN_SIZE));
+            for (Long roomId : recentRoomIds) {
+                distinctRoomIds.add(roomId);
+                if (distinctRoomIds.size() == 3) break;
+            }
+            if (recentRoomIds.size() < RECENT_ROOM_SCAN_SIZE) break;
         }
 
         List<RecentStudyRoomsResponse.RoomDto> rooms = distinctRoomIds.stream()
@@ -366,7 +536,7 @@ public class StudyRoomService {
                     User owner = userRepo.findById(room.getUserId())
                             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "방장이 존재하지 않습니다."));
 
-                    int currentParticipants = (int) participantRepository.countActiveParticipantsByRoomId(roomId);
+                    int currentParticipants = room.getCurrentParticipants();
 
                     boolean hasPassword = room.getPassword() != null && !room.getPassword().isBlank();
 
@@ -83,4 +83,24 @@ public class StudyRoomInfoReadResponse implements Identifiable {
                 new CreatorDto(creatorNickname)
         );
     }
+
+    /**
+     * 참가자 수만 바꾼 사본 (목록 페이지 캐시 보정용)
+     */
+    public StudyRoomInfoReadResponse withCurrentParticipants(long currentParticipants) {
+        return new StudyRoomInfoReadResponse(
+                roomId,
+                title,
+                description,
+                thumbnailUrl,
+                tag,
+                category,
+                maxParticipants,
+                currentParticipants,
+                createdAt,
+                isPomodoro,
+                isPrivate,
+                creator
+        );
+    }
 }
@@ -0,0 +1,31 @@
+package org.oreo.smore.domain.studytime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface StudyTimeDailyRepository extends JpaRepository<StudyTimeDaily, Long> {
+
+    List<StudyTimeDaily> findAllByUserIdAndStudyDateBetween(Long userId, LocalDate start, LocalDate end);
+
+    List<StudyTimeDaily> findAllByUserId(Long userId);
+
+    // 해당 일자 행이 있으면 증가, 없으면 생성 (uk_study_time_daily_user_date 기준 upsert 한 번)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO study_time_daily (user_id, study_date, seconds) " +
+            "VALUES (:userId, :studyDate, :seconds) " +
+            "ON DUPLICATE KEY UPDATE seconds = seconds + :seconds", nativeQuery = true)
+    int addSeconds(@Param("userId") Long userId,
+                   @Param("studyDate") LocalDate studyDate,
+                   @Param("seconds") long seconds);
+
+    @Modifying
+    @Query("DELETE FROM StudyTimeDaily d WHERE d.userId = :userId")
+    int deleteAllByUserIdInBulk(@Param("userId") Long userId);
+}
@@ -0,0 +1,138 @@
+package org.oreo.smore.domain.studytime;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * study_time_daily 롤업 관리
+ * - 세션이 연장되면 늘어난 만큼만 일자별로 더함
+ * - raw study_times 기준 재계산(백필/복구)과 정합성 비교 제공
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyTimeDailyRollup {
+
+    private final StudyTimeRepository studyTimeRepository;
+    private final StudyTimeDailyRepository studyTimeDailyRepository;
+
+    /**
+     * 세션 종료 시각이 previousEnd -> newEnd로 바뀐 만큼 롤업에 반영
+     * - 세션 전체를 일자별로 나눈 값의 차이로 계산해서 raw 재계산 결과와 초 단위까지 일치
+     */
+    public void applySessionChange(Long userId, LocalDateTime createdAt,
+                                   LocalDateTime previousEnd, LocalDateTime newEnd) {
+        Map<LocalDate, Long> before = splitByDay(createdAt, previousEnd);
+        Map<LocalDate, Long> after = splitByDay(createdAt, newEnd);
+
+        Set<LocalDate> dates = new HashSet<>(before.keySet());
+        dates.addAll(after.keySet());
+        for (LocalDate date : dates) {
+            long delta = after.getOrDefault(date, 0L) - before.getOrDefault(date, 0L);
+            if (delta != 0) {
+                studyTimeDailyRepository.addSeconds(userId, date, delta);
+            }
+        }
+    }
+
+    // 기간 내 일자별 공부 시간(초)
+    public Map<LocalDate, Long> getDailySeconds(Long userId, LocalDate start, LocalDate end) {
+        Map<LocalDate, Long> dailySeconds = new HashMap<>();
+        for (StudyTimeDaily daily : studyTimeDailyRepository.findAllByUserIdAndStudyDateBetween(userId, start, end)) {
+            dailySeconds.put(daily.getStudyDate(), daily.getSeconds());
+        }
+        return dailySeconds;
+    }
+
+    // raw study_times로 사용자의 롤업 전체를 다시 만듦 (백필, 불일치 복구)
+    @Transactional
+    public int rebuild(Long userId) {
+        Map<LocalDate, Long> dailySeconds = computeFromRaw(userId);
+
+        studyTimeDailyRepository.deleteAllByUserIdInBulk(userId);
+        List<StudyTimeDaily> rows = new ArrayList<>(dailySeconds.size());
+        dailySeconds.forEach((date, seconds) -> rows.add(StudyTimeDaily.builder()
+                .userId(userId)
+                .studyDate(date)
+                .seconds(seconds)
+                .build()));
+        studyTimeDailyRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    /**
+     * 롤업과 raw 재계산 결과 비교
+     * @return 값이 다른 날짜 -> [롤업 초, raw 초]
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, long[]> findMismatches(Long userId) {
+        Map<LocalDate, Long> expected = computeFromRaw(userId);
+        Map<LocalDate, Long> actual = new HashMap<>();
+        for (StudyTimeDaily daily : studyTimeDailyRepository.findAllByUserId(userId)) {
+            actual.put(daily.getStudyDate(), daily.getSeconds());
+        }
+
+        Set<LocalDate> dates = new HashSet<>(expected.keySet());
+        dates.addAll(actual.keySet());
+
+        Map<LocalDate, long[]> mismatches = new TreeMap<>();
+        for (LocalDate date : dates) {
+            long rollupSeconds = actual.getOrDefault(date, 0L);
+            long rawSeconds = expected.getOrDefault(date, 0L);
+            if (rollupSeconds != rawSeconds) {
+                mismatches.put(date, new long[]{rollupSeconds, rawSeconds});
+            }
+        }
+        return mismatches;
+    }
+
+    private Map<LocalDate, Long> computeFromRaw(Long userId) {
+        Map<LocalDate, Long> dailySeconds = new HashMap<>();
+        for (StudyTime record : studyTimeRepository.findAllByUserId(userId)) {
+            splitByDay(record.getCreatedAt(), record.getDeletedAt())
+                    .forEach((date, seconds) -> dailySeconds.merge(date, seconds, Long::sum));
+        }
+        // 0초 일자는 저장하지 않음 (증분 반영 결과와 비교할 때 기준을 맞추기 위해)
+        dailySeconds.values().removeIf(seconds -> seconds == 0);
+        return dailySeconds;
+    }
+
+    // [from, to) 구간을 일자별 초 단위로 분할 (getStatistics 기존 계산과 동일)
+    static Map<LocalDate, Long> splitByDay(LocalDateTime from, LocalDateTime to) {
+        Map<LocalDate, Long> dailySeconds = new HashMap<>();
+        if (to == null) to = LocalDateTime.now(); // 진행 중 세션 처리
+
+        // 방어: 역전 구간 스킵
+        if (!from.isBefore(to)) return dailySeconds;
+
+        for (LocalDate date = from.toLocalDate();
+             !date.isAfter(to.toLocalDate());
+             date = date.plusDays(1)) {
+
+            LocalDateTime dayStart = date.atStartOfDay();
+            LocalDateTime dayEndExclusive = date.plusDays(1).atStartOfDay(); // 00:00 (배타)
+
+            LocalDateTime actualStart = from.isAfter(dayStart) ? from : dayStart;
+            LocalDateTime actualEnd = to.isBefore(dayEndExclusive) ? to : dayEndExclusive;
+
+            if (actualStart.isBefore(actualEnd)) {
+                long seconds = Duration.between(actualStart, actualEnd).getSeconds();
+                dailySeconds.merge(date, seconds, Long::sum);
+            }
+        }
+        return dailySeconds;
+    }
+}
@@ -1,9 +1,13 @@
 package org.oreo.smore.domain.studytime;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,7 +15,21 @@ import java.util.Optional;
 public interface StudyTimeRepository extends JpaRepository<StudyTime, Long> {
     Optional<StudyTime> findTopByUserIdOrderByCreatedAtDesc(Long userId);
 
+    // 읽어 둔 종료 시각 그대로일 때만 연장, 동시에 연장하면 한 요청만 1 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StudyTime s SET s.deletedAt = :newEnd " +
+            "WHERE s.studyTimeId = :studyTimeId AND s.deletedAt = :previousEnd")
+    int extendSession(@Param("studyTimeId") Long studyTimeId,
+                      @Param("previousEnd") LocalDateTime previousEnd,
+                      @Param("newEnd") LocalDateTime newEnd);
+
     List<StudyTime> findAllByUserIdAndCreatedAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
 
+    List<StudyTime> findAllByUserIdInAndCreatedAtBetween(Collection<Long> userIds, LocalDateTime start, LocalDateTime end);
+
     List<StudyTime> findAllByUserId(Long userId);
+
+    // 일자별 롤업 백필/정합성 검사 대상 사용자
+    @Query("SELECT DISTINCT s.userId FROM StudyTime s")
+    List<Long> findDistinctUserIds();
 }
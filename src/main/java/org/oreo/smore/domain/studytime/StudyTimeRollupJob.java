@@ -0,0 +1,92 @@
+package org.oreo.smore.domain.studytime;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * study_time_daily 백필 / 정합성 검사 작업
+ * - 기동 시 롤업 테이블이 비어 있으면 전체 사용자 백필 (최초 1회)
+ * - 매일 raw study_times와 비교해 불일치를 기록하고, repair 설정 시 해당 사용자 롤업 재생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyTimeRollupJob implements ApplicationRunner {
+
+    private final StudyTimeRepository studyTimeRepository;
+    private final StudyTimeDailyRepository studyTimeDailyRepository;
+    private final StudyTimeDailyRollup studyTimeDailyRollup;
+
+    @Value("${app.study-time.rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${app.study-time.rollup.check-enabled:false}")
+    private boolean checkEnabled;
+
+    @Value("${app.study-time.rollup.repair:false}")
+    private boolean repair;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!backfillOnStartup || studyTimeDailyRepository.count() > 0) {
+            return;
+        }
+        backfillAll();
+    }
+
+    public void backfillAll() {
+        List<Long> userIds = studyTimeRepository.findDistinctUserIds();
+        log.info("일자별 공부 시간 백필 시작 - 사용자 수: {}", userIds.size());
+
+        int rows = 0;
+        for (Long userId : userIds) {
+            try {
+                rows += studyTimeDailyRollup.rebuild(userId);
+            } catch (Exception e) {
+                log.error("❌ 일자별 공부 시간 백필 실패 - 사용자ID: {}", userId, e);
+            }
+        }
+        log.info("✅ 일자별 공부 시간 백필 완료 - 사용자 수: {}, 생성 행 수: {}", userIds.size(), rows);
+    }
+
+    @Scheduled(cron = "${app.study-time.rollup.check-cron:0 30 4 * * *}")
+    public void scheduledCheck() {
+        if (checkEnabled) {
+            checkAll();
+        }
+    }
+
+    // 전체 사용자 정합성 검사, 불일치 사용자 수 반환
+    public int checkAll() {
+        List<Long> userIds = studyTimeRepository.findDistinctUserIds();
+        int mismatchedUsers = 0;
+
+        for (Long userId : userIds) {
+            Map<LocalDate, long[]> mismatches = studyTimeDailyRollup.findMismatches(userId);
+            if (mismatches.isEmpty()) {
+                continue;
+            }
+            mismatchedUsers++;
+            mismatches.forEach((date, values) ->
+                    log.warn("⚠️ 일자별 공부 시간 불일치 - 사용자ID: {}, 날짜: {}, 롤업: {}초, 원본: {}초",
+                            userId, date, values[0], values[1]));
+
+            if (repair) {
+                studyTimeDailyRollup.rebuild(userId);
+                log.info("✅ 일자별 공부 시간 복구 - 사용자ID: {}", userId);
+            }
+        }
+
+        log.info("일자별 공부 시간 정합성 검사 완료 - 사용자 수: {}, 불일치: {}", userIds.size(), mismatchedUsers);
+        return mismatchedUsers;
+    }
+}
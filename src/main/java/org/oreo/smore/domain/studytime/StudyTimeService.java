@@ -5,9 +5,9 @@ import org.oreo.smore.domain.studytime.dto.response.StudyTimeStatisticsResponse;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -19,6 +19,7 @@ import java.util.stream.Stream;
 public class StudyTimeService {
 
     private final StudyTimeRepository studyTimeRepository;
+    private final StudyTimeDailyRollup studyTimeDailyRollup;
 
     /**
      * 공부 시작
@@ -34,60 +35,45 @@ public class StudyTimeService {
         studyTimeRepository.save(studyTime);
     }
 
+    @Transactional
     @CacheEvict(value = "study:stats", key = "#userId")
     public void updateStudyTime(Long userId) {
         StudyTime latestStudyTime = studyTimeRepository.findTopByUserIdOrderByCreatedAtDesc(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자의 공부 기록이 없습니다."));
 
-        latestStudyTime.setDeletedAt(LocalDateTime.now());
-        studyTimeRepository.save(latestStudyTime);
+        // DB 컬럼 정밀도(마이크로초)에 맞춰 롤업 계산과 저장 값을 일치시킴
+        LocalDateTime previousEnd = latestStudyTime.getDeletedAt();
+        LocalDateTime newEnd = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // 같은 세션을 동시에 연장하면 먼저 반영된 요청만 롤업에 더함 (같은 구간 중복 합산 방지)
+        if (studyTimeRepository.extendSession(latestStudyTime.getStudyTimeId(), previousEnd, newEnd) == 0) {
+            return;
+        }
+
+        // 연장된 구간만큼 일자별 롤업 증가
+        studyTimeDailyRollup.applySessionChange(userId, latestStudyTime.getCreatedAt(), previousEnd, newEnd);
     }
 
-    @Cacheable(value = "study:stats", key = "#userId")
+    @Cacheable(value = "study:stats", key = "#userId", sync = true)
     public StudyTimeStatisticsResponse getStatistics(Long userId) {
         LocalDate today = LocalDate.now();
         LocalDate oneYearAgo = today.minusYears(1);
 
-        // 1. 전체 기록 조회 (연속 출석은 전체 범위 필요)
-        List<StudyTime> allRecords = studyTimeRepository.findAllByUserId(userId);
-
-        // 일자별 초 단위 집계로 변경 (분 손실 방지)
-        Map<LocalDate, Long> dailySeconds = new HashMap<>();
-
-        for (StudyTime record : allRecords) {
-            LocalDateTime from = record.getCreatedAt();
-            LocalDateTime to = record.getDeletedAt();
-            if (to == null) to = LocalDateTime.now(); // 진행 중 세션 처리
-
-            // 방어: 역전 구간 스킵
-            if (!from.isBefore(to)) continue;
+        // 1. 최근 1년 일자별 집계 조회 (study_time_daily, 최대 366행)
+        LocalDate loadedFrom = oneYearAgo;
+        Map<LocalDate, Integer> dailyMinutes = toDailyMinutes(
+                studyTimeDailyRollup.getDailySeconds(userId, loadedFrom, today));
 
-            for (LocalDate date = from.toLocalDate();
-                 !date.isAfter(to.toLocalDate());
-                 date = date.plusDays(1)) {
-
-                LocalDateTime dayStart = date.atStartOfDay();
-                LocalDateTime dayEndExclusive = date.plusDays(1).atStartOfDay(); // 00:00 (배타)
-
-                LocalDateTime actualStart = from.isAfter(dayStart) ? from : dayStart;
-                LocalDateTime actualEnd = to.isBefore(dayEndExclusive) ? to : dayEndExclusive;
-
-                if (actualStart.isBefore(actualEnd)) {
-                    long seconds = Duration.between(actualStart, actualEnd).getSeconds();
-                    dailySeconds.merge(date, seconds, Long::sum);
-                }
-            }
-        }
-
-        Map<LocalDate, Integer> dailyMinutes = new HashMap<>();
-        dailySeconds.forEach((d, sec) -> dailyMinutes.put(d, (int) Math.floorDiv(sec, 60)));      // 버림
-// 또는 반올림: (int) Math.round(sec / 60.0)
-
-
-        // 연속 출석 계산 (전체 기록 기준)
+        // 연속 출석 계산 (전체 기록 기준, 1년을 넘기면 이전 1년씩 추가 조회)
         int attendanceStreak = 0;
         for (int i = 1; ; i++) {
             LocalDate date = today.minusDays(i);
+            if (date.isBefore(loadedFrom)) {
+                LocalDate olderFrom = loadedFrom.minusYears(1);
+                dailyMinutes.putAll(toDailyMinutes(
+                        studyTimeDailyRollup.getDailySeconds(userId, olderFrom, loadedFrom.minusDays(1))));
+                loadedFrom = olderFrom;
+            }
             if (dailyMinutes.getOrDefault(date, 0) >= 60) attendanceStreak++;
             else break;
         }
@@ -134,4 +120,10 @@ public class StudyTimeService {
                 .studyTrack(new StudyTimeStatisticsResponse.StudyTrack(points))
                 .build();
     }
+
+    private Map<LocalDate, Integer> toDailyMinutes(Map<LocalDate, Long> dailySeconds) {
+        Map<LocalDate, Integer> dailyMinutes = new HashMap<>();
+        dailySeconds.forEach((d, sec) -> dailyMinutes.put(d, (int) Math.floorDiv(sec, 60)));      // 버림
+        return dailyMinutes;
+    }
 }
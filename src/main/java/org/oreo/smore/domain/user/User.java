@@ -2,9 +2,13 @@ package org.oreo.smore.domain.user;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.time.LocalDateTime;
 
+// 프로필 수정과 뽑기가 서로의 컬럼(draw_count, level)을 덮어쓰지 않도록 변경된 컬럼만 UPDATE
 @Entity
+@DynamicUpdate
 @Table(name = "users")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class User {
@@ -31,9 +35,15 @@ public class User {
     @Column(name = "goal_study_time", nullable = false)
     private Integer goalStudyTime;
 
+    // 기본 오레오 "O" + 최근 뽑기 결과만 유지 (전체 기록은 oreo_draw_chunks)
     @Column(name = "level", length = 255, nullable = false)
     private String level;
 
+    // 누적 오레오 뽑기 횟수 (뽑기 기록의 다음 위치)
+    @Builder.Default
+    @Column(name = "draw_count", nullable = false, columnDefinition = "bigint default 0")
+    private Long drawCount = 0L;
+
     @Column(name = "target_date_title", length = 255)
     private String targetDateTitle;
 
@@ -1,7 +1,14 @@
 package org.oreo.smore.domain.user;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +17,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
 
     Optional<User> findByNickname(String nickname);
-}
\ No newline at end of file
+
+    // 이전 방식으로 level에 전체 뽑기 결과가 쌓여 있는 사용자
+    @Query("SELECT u.userId FROM User u WHERE u.drawCount = 0 AND LENGTH(u.level) > 1")
+    List<Long> findUserIdsWithLegacyLevel();
+
+    // 뽑기 기록(draw_count, level) 갱신용 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT u FROM User u WHERE u.userId = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
+}
@@ -1,8 +1,8 @@
 package org.oreo.smore.domain.user;
 
 import lombok.RequiredArgsConstructor;
-import org.oreo.smore.domain.point.Point;
-import org.oreo.smore.domain.point.PointRepository;
+import org.oreo.smore.domain.chat.ChatUserInfoCache;
+import org.oreo.smore.domain.point.PointLedger;
 import org.oreo.smore.domain.studytime.StudyTime;
 import org.oreo.smore.domain.studytime.StudyTimeRepository;
 import org.oreo.smore.domain.user.dto.request.UserUpdateRequest;
@@ -30,7 +30,8 @@ public class UserService {
     private final UserRepository repository;
     private final StudyTimeRepository studyTimeRepository;
     private final CloudStorageManager cloudStorageManager;
-    private final PointRepository pointRepository;
+    private final PointLedger pointLedger;
+    private final ChatUserInfoCache chatUserInfoCache;
 
     @Transactional
     public User registerOrUpdate(String email, String name) {
@@ -55,13 +56,7 @@ public class UserService {
         User savedUser = repository.save(u);
         savedUser.setNickname("OREO" + savedUser.getUserId());
 
-        Point point = Point.builder()
-                .userId(savedUser.getUserId())
-                .delta(550)
-                .reason("가입 기념 지급")
-                .timestamp(LocalDateTime.now())
-                .build();
-        pointRepository.save(point);
+        pointLedger.record(savedUser.getUserId(), 550, "가입 기념 지급");
 
         return repository.save(savedUser);
     }
@@ -133,6 +128,9 @@ public class UserService {
 
         User saved = repository.save(user);
 
+        // 채팅 작성자 정보 캐시 갱신
+        chatUserInfoCache.evict(userId);
+
         return UserUpdateResponse.builder()
                 .userId(saved.getUserId())
                 .name(saved.getName())
@@ -149,7 +147,7 @@ public class UserService {
     }
 
 
-    @Cacheable(value = "user:profile", key = "#userId")
+    @Cacheable(value = "user:profile", key = "#userId", sync = true)
     @Transactional(readOnly = true)
     public UserInfoResponse getUserInfo(Long userId) {
         User user = repository.findById(userId)
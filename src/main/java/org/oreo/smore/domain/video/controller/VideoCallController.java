@@ -16,6 +16,7 @@ import org.oreo.smore.domain.studyroom.StudyRoomService;
 import org.oreo.smore.domain.video.dto.JoinRoomRequest;
 import org.oreo.smore.domain.video.dto.TokenRequest;
 import org.oreo.smore.domain.video.dto.TokenResponse;
+import org.oreo.smore.domain.video.exception.MaxParticipantsExceededException;
 import org.oreo.smore.domain.video.exception.StudyRoomNotFoundException;
 import org.oreo.smore.domain.video.service.LiveKitTokenService;
 import org.oreo.smore.domain.video.service.UserIdentityService;
@@ -78,6 +79,11 @@ public class VideoCallController {
             try {
                 studyRoom = studyRoomValidator.validateRoomAccess(roomId, request, userId);
 
+            } catch (MaxParticipantsExceededException e) {
+                // 정원 초과는 비밀번호 오류가 아니라 409로 처리
+                throw new RoomCapacityExceededException(roomId,
+                        (int) participantService.getActiveParticipantCount(roomId), studyRoom.getMaxParticipants());
+
             } catch (Exception e) {
                 log.error("🔐 비밀번호 검증 실패 - 방ID: {}, 사용자ID: {}, 예외: {}, 메시지: {}",
                         roomId, userId, e.getClass().getSimpleName(), e.getMessage());
@@ -142,6 +148,11 @@ public class VideoCallController {
             log.error("❌ 시스템 상태 오류 - 방ID: {}, 사용자ID: {}, 오류: {}", roomId, userId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
 
+        } catch (ParticipantException.RoomFullException e) {
+            // 동시 입장으로 사전 확인은 통과했지만 방 잠금 후 정원 확인에서 거절된 경우
+            log.error("❌ 방 정원 초과 - 방ID: {}, 사용자ID: {}, 오류: {}", roomId, userId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+
         } catch (ParticipantException e) {
             log.error("❌ 참가자 처리 오류 - 방ID: {}, 사용자ID: {}, 오류: {}", roomId, userId, e.getMessage());
             return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
@@ -316,7 +327,7 @@ public class VideoCallController {
 //                participantService.leaveRoom(roomId, userId);
 
                 // 남은 참가자 수 확인
-                long remainingCount = participantService.getActiveParticipantCount(roomId);
+                long remainingCount = participantService.getDisplayParticipantCount(roomId);
                 log.info("✅ 개별 참가자 퇴장 완료 - 방ID: {}, 사용자ID: {}, 남은 참가자: {}명",
                         roomId, userId, remainingCount);
             }
@@ -773,7 +784,7 @@ public class VideoCallController {
 
             // 참가자 강퇴 처리
             participantService.banParticipant(roomId, userId);
-            long remainingCount = participantService.getActiveParticipantCount(roomId);
+            long remainingCount = participantService.getDisplayParticipantCount(roomId);
 
             log.info("✅ 참가자 강퇴 성공 - 방ID: {}, 강퇴된사용자ID: {}, 방장ID: {}, 남은 참가자: {}명",
                     roomId, userId, requestUserId, remainingCount);
@@ -140,8 +140,8 @@ public class StudyRoomValidator {
             return;
         }
 
-        // 현재 참가자 수 조회하는 로직 필요함
-        int currentParticipants = 1; // 일단 임시값
+        // 현재 참가자 수 (빠른 거절용, 최종 정원 확인은 ParticipantService.joinRoom에서 방 잠금 후 수행)
+        int currentParticipants = studyRoomRepository.findCurrentParticipantsById(studyRoom.getRoomId()).orElse(0);
 
         if (currentParticipants >= studyRoom.getMaxParticipants()) {
             log.warn("❌ 최대 인원 초과 - 현재: {}명, 최대: {}명",
@@ -1,19 +1,25 @@
 package org.oreo.smore.domain.webhook;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.participant.Participant;
 import org.oreo.smore.domain.participant.ParticipantRepository;
+import org.oreo.smore.domain.participant.RoomPresenceRegistry;
 import org.oreo.smore.domain.studyroom.StudyRoom;
+import org.oreo.smore.domain.studyroom.StudyRoomPopularityRanking;
 import org.oreo.smore.domain.studyroom.StudyRoomRepository;
 import org.oreo.smore.domain.studyroom.StudyRoomService;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class WebhookService {
@@ -22,6 +28,9 @@ public class WebhookService {
     private final UserRepository userRepository;
     private final ParticipantRepository participantRepository;
     private final StudyRoomService studyRoomService;
+    private final CacheManager cacheManager;
+    private final RoomPresenceRegistry roomPresenceRegistry;
+    private final StudyRoomPopularityRanking popularityRanking;
 
     @Transactional
     public int handleParticipantLeft(String roomName, String identity) {
@@ -36,6 +45,16 @@ public class WebhookService {
         Long roomId = roomOpt.get().getRoomId();
         Long userId = userOpt.get().getUserId();
 
+        // 참가자 상태 캐시 무효화 (ParticipantService를 거치지 않고 직접 퇴장 처리하므로, 캐시 매니저가 커밋 이후에 반영)
+        Cache participantsCache = cacheManager.getCache("room:participants");
+        if (participantsCache != null) {
+            try {
+                participantsCache.evict(roomId);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 참가자 상태 캐시 삭제 실패 - 방ID: {}, 오류: {}", roomId, e.getMessage());
+            }
+        }
+
         if (roomOpt.get().getUserId().equals(userId)) {
             studyRoomService.deleteStudyRoom(roomId, userId);
 
@@ -52,6 +71,7 @@ public class WebhookService {
                 p.leave();
             }
             participantRepository.saveAll(targets);
+            roomPresenceRegistry.removeRoom(roomId);
 
             return 1;
         }
@@ -65,6 +85,9 @@ public class WebhookService {
             p.leave();
         }
         participantRepository.saveAll(targets);
+        studyRoomRepository.decrementParticipants(roomId, targets.size());
+        roomPresenceRegistry.remove(roomId, userId);
+        popularityRanking.refresh(roomId);
         return 0;
     }
 }
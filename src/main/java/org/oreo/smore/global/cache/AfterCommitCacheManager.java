@@ -0,0 +1,23 @@
+package org.oreo.smore.global.cache;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+
+/**
+ * 트랜잭션 안의 캐시 삭제/저장을 커밋 이후로 미루는 캐시 매니저
+ * - 커밋 전에 지운 캐시가 다른 요청의 커밋 전 DB 값으로 다시 채워지지 않도록 L1/L2/스탬피드 래퍼를 모두 감쌈
+ * - 트랜잭션 밖에서는 바로 반영
+ */
+public class AfterCommitCacheManager extends TransactionAwareCacheManagerProxy {
+
+    private final CacheManager delegate;
+
+    public AfterCommitCacheManager(CacheManager delegate) {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,12 @@
+package org.oreo.smore.global.cache;
+
+/**
+ * 인스턴스 간 L1 무효화 메시지
+ * - key가 null이면 캐시 전체 비우기
+ */
+public record CacheInvalidationMessage(
+        String nodeId,
+        String cacheName,
+        String key
+) {
+}
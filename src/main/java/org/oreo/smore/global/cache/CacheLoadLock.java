@@ -0,0 +1,65 @@
+package org.oreo.smore.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 적재 Redis 락 (서버 간 single-flight)
+ * - SET NX PX로 획득, 자기 토큰일 때만 삭제
+ * - Redis 장애 시에는 락 없이 진행 (적재 자체는 막지 않음)
+ */
+@Slf4j
+public class CacheLoadLock {
+
+    static final String UNLOCKED = "";
+    private static final String KEY_PREFIX = "lock:cache:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+
+    public CacheLoadLock(StringRedisTemplate redisTemplate, Duration lockTtl) {
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = lockTtl;
+    }
+
+    // 획득하면 토큰, 다른 서버가 보유 중이면 null, Redis 장애면 UNLOCKED
+    public String tryAcquire(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, lockTtl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("⚠️ 캐시 적재 락 획득 실패, 락 없이 진행 - 캐시: {}, 키: {}, 오류: {}", cacheName, key, e.getMessage());
+            return UNLOCKED;
+        }
+    }
+
+    public void release(String cacheName, String key, String token) {
+        if (token == null || UNLOCKED.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (Exception e) {
+            // 락 TTL이 지나면 자동으로 풀림
+            log.warn("⚠️ 캐시 적재 락 해제 실패 - 캐시: {}, 키: {}, 오류: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private String lockKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,30 @@
+package org.oreo.smore.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 캐시 값 직렬화 설정
+ * - compact: 버전 바이트 + 최상위 타입 1회 + Smile 본문 (+ 임계값 이상이면 Deflate 압축)
+ * - json   : 기존 타입 정보 포함 JSON
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cache.serializer")
+public class CacheSerializerProperties {
+
+    private Format format = Format.COMPACT;
+
+    // 이 크기 이상인 본문만 압축
+    private int compressionThresholdBytes = 1024;
+
+    // 역직렬화를 허용하는 최상위 타입 패키지
+    private String allowedPackage = "org.oreo.smore.";
+
+    public enum Format {
+        COMPACT, JSON
+    }
+}
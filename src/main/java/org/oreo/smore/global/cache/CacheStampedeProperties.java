@@ -0,0 +1,37 @@
+package org.oreo.smore.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 스탬피드 방지 설정 (@Cacheable(sync = true) 경로)
+ * - 같은 키 동시 미스는 서버 내 한 스레드만 적재, 서버 간에는 짧은 Redis 락으로 한 서버만 적재
+ * - 만료 직전 확률적 조기 갱신(XFetch)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cache.stampede")
+public class CacheStampedeProperties {
+
+    private boolean enabled = true;
+
+    // 서버 간 적재 락 사용 여부
+    private boolean distributedLock = true;
+
+    // 락 보유 최대 시간 (적재 중 서버가 죽어도 풀리도록)
+    private long lockTtlMs = 5000;
+
+    // 다른 서버의 적재를 기다리는 최대 시간, 초과하면 직접 적재
+    private long lockWaitMs = 2000;
+
+    private long pollIntervalMs = 50;
+
+    // XFetch beta (클수록 더 일찍 갱신, 0이면 조기 갱신 없음)
+    private double earlyRefreshBeta = 1.0;
+
+    // 조기 갱신 판단용 적재 시간 기록 수 (캐시 이름별)
+    private long timingMaximumSize = 10_000;
+}
@@ -0,0 +1,192 @@
+package org.oreo.smore.global.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Redis 캐시 값 압축 직렬화
+ * - [버전 1B][플래그 1B][타입명 길이 2B][타입명][Smile 본문(Deflate 선택)]
+ * - 타입 정보는 최상위에 한 번만 기록 (중첩 객체마다 @class를 붙이던 JSON 대비)
+ * - 첫 바이트가 '{'이면 기존 JSON으로 읽고, 모르는 버전이면 null(캐시 미스)로 처리해 새 형식으로 다시 채움
+ */
+@Slf4j
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_DEFLATE = 1;
+    private static final int HEADER_BYTES = 4;
+
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThresholdBytes;
+    private final String allowedPackage;
+    private final ObjectMapper smileMapper;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer serializeTimer;
+    private final Timer deserializeTimer;
+    private final Map<String, DistributionSummary> entryBytes = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> types = new ConcurrentHashMap<>();
+
+    public CompactCacheSerializer(RedisSerializer<Object> legacySerializer,
+                                  CacheSerializerProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.legacySerializer = legacySerializer;
+        this.compressionThresholdBytes = properties.getCompressionThresholdBytes();
+        this.allowedPackage = properties.getAllowedPackage();
+        this.meterRegistry = meterRegistry;
+
+        this.smileMapper = new ObjectMapper(new SmileFactory())
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        this.serializeTimer = Timer.builder("cache.serializer.serialize")
+                .description("캐시 값 직렬화 소요 시간")
+                .register(meterRegistry);
+        this.deserializeTimer = Timer.builder("cache.serializer.deserialize")
+                .description("캐시 값 역직렬화 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            byte[] typeName = value.getClass().getName().getBytes(StandardCharsets.UTF_8);
+            byte[] body = smileMapper.writeValueAsBytes(value);
+            byte flags = 0;
+            if (body.length >= compressionThresholdBytes) {
+                byte[] compressed = deflate(body);
+                if (compressed.length < body.length) {
+                    body = compressed;
+                    flags |= FLAG_DEFLATE;
+                }
+            }
+
+            byte[] bytes = ByteBuffer.allocate(HEADER_BYTES + typeName.length + body.length)
+                    .put(FORMAT_VERSION)
+                    .put(flags)
+                    .putShort((short) typeName.length)
+                    .put(typeName)
+                    .put(body)
+                    .array();
+            entryBytes(value.getClass()).record(bytes.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패 - 타입: " + value.getClass().getName(), e);
+        } finally {
+            sample.stop(serializeTimer);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == '{') {
+            return legacySerializer.deserialize(bytes);
+        }
+        if (bytes[0] != FORMAT_VERSION || bytes.length < HEADER_BYTES) {
+            log.debug("알 수 없는 캐시 형식 버전 - 버전: {}", bytes[0]);
+            return null;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            buffer.get();
+            byte flags = buffer.get();
+            int typeLength = buffer.getShort() & 0xFFFF;
+            String typeName = new String(bytes, HEADER_BYTES, typeLength, StandardCharsets.UTF_8);
+            Class<?> type = resolve(typeName);
+            if (type == null) {
+                return null;
+            }
+
+            byte[] body = Arrays.copyOfRange(bytes, HEADER_BYTES + typeLength, bytes.length);
+            if ((flags & FLAG_DEFLATE) != 0) {
+                body = inflate(body);
+            }
+            return smileMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        } finally {
+            sample.stop(deserializeTimer);
+        }
+    }
+
+    // 허용 패키지 밖의 타입은 읽지 않음 (캐시 미스로 처리)
+    private Class<?> resolve(String typeName) {
+        if (!typeName.startsWith(allowedPackage)) {
+            log.warn("⚠️ 허용되지 않은 캐시 값 타입 - 타입: {}", typeName);
+            return null;
+        }
+        Class<?> cached = types.get(typeName);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Class<?> type = Class.forName(typeName, false, getClass().getClassLoader());
+            types.put(typeName, type);
+            return type;
+        } catch (ClassNotFoundException e) {
+            log.debug("캐시 값 타입을 찾을 수 없음 - 타입: {}", typeName);
+            return null;
+        }
+    }
+
+    private DistributionSummary entryBytes(Class<?> type) {
+        return entryBytes.computeIfAbsent(type.getSimpleName(), name -> DistributionSummary.builder("cache.serializer.entry.bytes")
+                .description("캐시 항목당 저장 바이트 수")
+                .baseUnit("bytes")
+                .tag("type", name)
+                .register(meterRegistry));
+    }
+
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] body) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
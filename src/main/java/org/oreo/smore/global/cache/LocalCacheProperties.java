@@ -0,0 +1,32 @@
+package org.oreo.smore.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 서버 내부 L1 캐시 설정 (Redis L2 앞단)
+ * - TTL을 짧게 두어 pub/sub 무효화가 유실돼도 오래된 값이 남는 시간을 제한
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cache.l1")
+public class LocalCacheProperties {
+
+    private boolean enabled = true;
+
+    // 캐시 이름별 최대 항목 수
+    private long maximumSize = 10_000;
+
+    private long ttlSeconds = 5;
+
+    // 무효화 메시지 pub/sub 채널
+    private String invalidationChannel = "cache:invalidate";
+
+    // 인스턴스 식별자 (자기 무효화 메시지 재수신 무시)
+    private final String nodeId = UUID.randomUUID().toString();
+}
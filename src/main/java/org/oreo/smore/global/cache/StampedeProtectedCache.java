@@ -0,0 +1,260 @@
+package org.oreo.smore.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스탬피드 방지 캐시 (get(key, loader) = @Cacheable(sync = true) 경로)
+ * - 같은 키 동시 미스: 서버 내 첫 스레드만 적재하고 나머지는 그 결과를 기다림
+ * - 서버 간: CacheLoadLock을 잡은 서버만 적재, 나머지는 값이 채워질 때까지 짧게 대기
+ * - XFetch: now - delta * beta * ln(rand) >= 만료시각이면 만료 전에 한 스레드가 미리 갱신
+ *   (delta = 이 서버에서 측정한 적재 시간, 다른 서버가 채운 값은 조기 갱신 대상 아님)
+ * - 나머지 연산은 그대로 위임
+ */
+@Slf4j
+public class StampedeProtectedCache implements Cache {
+
+    private final Cache delegate;
+    private final Duration ttl;
+    private final CacheStampedeProperties properties;
+    private final CacheLoadLock loadLock;
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final com.github.benmanes.caffeine.cache.Cache<Object, LoadTiming> timings;
+
+    private final Counter missLoads;
+    private final Counter earlyRefreshes;
+    private final Counter coalesced;
+
+    public StampedeProtectedCache(Cache delegate,
+                                  Duration ttl,
+                                  CacheStampedeProperties properties,
+                                  CacheLoadLock loadLock,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.properties = properties;
+        this.loadLock = loadLock;
+        this.timings = Caffeine.newBuilder()
+                .maximumSize(properties.getTimingMaximumSize())
+                .expireAfterWrite(ttl)
+                .build();
+        this.missLoads = counter(meterRegistry, "cache.stampede.loads", "reason", "miss");
+        this.earlyRefreshes = counter(meterRegistry, "cache.stampede.loads", "reason", "early");
+        this.coalesced = counter(meterRegistry, "cache.stampede.coalesced", null, null);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            if (!shouldRefreshEarly(key)) {
+                return (T) cached;
+            }
+            // 이미 다른 스레드가 갱신 중이면 기존 값 사용
+            CompletableFuture<Object> refresh = new CompletableFuture<>();
+            if (inFlight.putIfAbsent(key, refresh) != null) {
+                return (T) cached;
+            }
+            earlyRefreshes.increment();
+            return (T) lead(key, valueLoader, refresh, cached);
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) await(existing);
+        }
+        missLoads.increment();
+        return (T) lead(key, valueLoader, load, null);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        timings.invalidate(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        timings.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        timings.invalidateAll();
+    }
+
+    // 이 스레드가 적재 담당, 결과를 기다리는 스레드들에게 전달
+    private Object lead(Object key, Callable<?> valueLoader, CompletableFuture<Object> future, Object stale) {
+        try {
+            Object value = loadAcrossNodes(key, valueLoader, stale);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            // 조기 갱신 실패는 아직 만료되지 않은 기존 값으로 응답
+            if (stale != null) {
+                log.warn("⚠️ 캐시 조기 갱신 실패, 기존 값 사용 - 캐시: {}, 키: {}, 오류: {}", getName(), key, e.getMessage());
+                future.complete(stale);
+                return stale;
+            }
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Object loadAcrossNodes(Object key, Callable<?> valueLoader, Object stale) {
+        String lockKey = String.valueOf(key);
+        String token = loadLock != null ? loadLock.tryAcquire(getName(), lockKey) : CacheLoadLock.UNLOCKED;
+        if (token == null) {
+            // 조기 갱신 중 다른 서버가 이미 갱신 중이면 기존 값 사용
+            if (stale != null) {
+                return stale;
+            }
+            Object filled = waitForOtherNode(key);
+            return filled != null ? filled : load(key, valueLoader);
+        }
+
+        try {
+            // 락을 얻는 사이 다른 서버가 채웠을 수 있음
+            if (stale == null) {
+                Object filled = lookup(key);
+                if (filled != null) {
+                    return filled;
+                }
+            }
+            return load(key, valueLoader);
+        } finally {
+            if (loadLock != null) {
+                loadLock.release(getName(), lockKey, token);
+            }
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value == null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            delegate.put(key, value);
+            timings.put(key, new LoadTiming(now - startedAt, now + ttl.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 캐시 저장 실패 - 캐시: {}, 키: {}, 오류: {}", getName(), key, e.getMessage());
+        }
+        return value;
+    }
+
+    private Object waitForOtherNode(Object key) {
+        long deadline = System.currentTimeMillis() + properties.getLockWaitMs();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(properties.getPollIntervalMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Object filled = lookup(key);
+            if (filled != null) {
+                return filled;
+            }
+        }
+        log.debug("다른 서버 캐시 적재 대기 초과, 직접 적재 - 캐시: {}, 키: {}", getName(), key);
+        return null;
+    }
+
+    private boolean shouldRefreshEarly(Object key) {
+        double beta = properties.getEarlyRefreshBeta();
+        if (beta <= 0) {
+            return false;
+        }
+        LoadTiming timing = timings.getIfPresent(key);
+        if (timing == null) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = -timing.deltaMillis() * beta * Math.log(random);
+        return System.currentTimeMillis() + gap >= timing.expiresAtMillis();
+    }
+
+    // Redis 장애는 미스로 처리
+    private Object lookup(Object key) {
+        try {
+            ValueWrapper wrapper = delegate.get(key);
+            return wrapper != null ? wrapper.get() : null;
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 캐시 조회 실패 - 캐시: {}, 키: {}, 오류: {}", getName(), key, e.getMessage());
+            return null;
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캐시 적재 대기 중 인터럽트 - 캐시: " + getName(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String name, String tagKey, String tagValue) {
+        Counter.Builder builder = Counter.builder(name).tag("cache", getName());
+        if (tagKey != null) {
+            builder.tag(tagKey, tagValue);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private record LoadTiming(long deltaMillis, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,67 @@
+package org.oreo.smore.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 매니저 스탬피드 방지 래퍼 (Redis 단독/2단 캐시 모두 감쌈)
+ */
+public class StampedeProtectedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, Duration> cacheTtls;
+    private final Duration defaultTtl;
+    private final CacheStampedeProperties properties;
+    private final CacheLoadLock loadLock;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, StampedeProtectedCache> caches = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCacheManager(CacheManager delegate,
+                                         Map<String, Duration> cacheTtls,
+                                         Duration defaultTtl,
+                                         CacheStampedeProperties properties,
+                                         CacheLoadLock loadLock,
+                                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cacheTtls = cacheTtls;
+        this.defaultTtl = defaultTtl;
+        this.properties = properties;
+        this.loadLock = loadLock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        StampedeProtectedCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new StampedeProtectedCache(
+                target,
+                cacheTtls.getOrDefault(cacheName, defaultTtl),
+                properties,
+                loadLock,
+                meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    // L1 무효화 메시지 구독 등록용
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,158 @@
+package org.oreo.smore.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * L1(Caffeine) + L2(Redis) 캐시
+ * - 조회: L1 → L2 → (원본), L2에서 찾은 값은 L1에 채움
+ * - 저장: L2와 L1 모두, 삭제/비우기: L2 삭제 후 L1 삭제 + 다른 인스턴스에 무효화 발행
+ * - L1 키는 RedisCache와 같은 문자열 표현 (원격 무효화 메시지와 일치)
+ * - L1은 역직렬화된 객체를 그대로 공유하므로 캐시된 DTO는 수정하지 않는다는 전제
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         Cache remote,
+                         BiConsumer<String, String> invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.l1Hit = counter(meterRegistry, "l1", "hit");
+        this.l1Miss = counter(meterRegistry, "l1", "miss");
+        this.l2Hit = counter(meterRegistry, "l2", "hit");
+        this.l2Miss = counter(meterRegistry, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hit.increment();
+            return new SimpleValueWrapper(cached);
+        }
+        l1Miss.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            l2Miss.increment();
+            return wrapper;
+        }
+        l2Hit.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치 - 캐시: " + name + ", 요구 타입: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hit.increment();
+            return (T) cached;
+        }
+        l1Miss.increment();
+
+        T value = remote.get(key, valueLoader);
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // Redis 저장이 실패해도 L1에는 남김 (L1 TTL이 짧아 오래 남지 않음)
+        try {
+            remote.put(key, value);
+        } finally {
+            if (value != null) {
+                local.put(localKey(key), value);
+            }
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        try {
+            remote.evict(key);
+        } finally {
+            local.invalidate(localKey);
+            invalidationPublisher.accept(name, localKey);
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remote.clear();
+        } finally {
+            local.invalidateAll();
+            invalidationPublisher.accept(name, null);
+        }
+    }
+
+    // 다른 인스턴스의 무효화 메시지 반영 (L2는 이미 삭제됨)
+    void evictLocal(String localKey) {
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("2단 캐시 계층별 조회 결과")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
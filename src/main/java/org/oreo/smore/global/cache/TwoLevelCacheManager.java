@@ -0,0 +1,100 @@
+package org.oreo.smore.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * L1(Caffeine) + L2(RedisCacheManager) 캐시 매니저
+ * - 캐시 이름/TTL 설정은 L2 매니저를 그대로 따르고 L1은 공통 크기/TTL 사용
+ * - @CacheEvict 시 Redis pub/sub으로 다른 인스턴스의 L1 무효화
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final LocalCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                LocalCacheProperties properties,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                cacheName,
+                Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                        .build(),
+                remote,
+                this::publishInvalidation,
+                meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+
+            // 자기 자신이 발행한 메시지는 이미 반영됨
+            if (properties.getNodeId().equals(invalidation.nodeId())) {
+                return;
+            }
+            TwoLevelCache cache = caches.get(invalidation.cacheName());
+            if (cache != null) {
+                cache.evictLocal(invalidation.key());
+            }
+        } catch (Exception e) {
+            log.error("❌ L1 캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    // 발행 실패는 L1 TTL 경과 후 자연히 맞춰지므로 로그만 남김
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new CacheInvalidationMessage(properties.getNodeId(), cacheName, key));
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), payload);
+        } catch (Exception e) {
+            log.warn("⚠️ L1 캐시 무효화 발행 실패 - 캐시: {}, 키: {}, 오류: {}", cacheName, key, e.getMessage());
+        }
+    }
+}
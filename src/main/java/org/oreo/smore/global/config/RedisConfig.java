@@ -6,25 +6,46 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.global.cache.AfterCommitCacheManager;
+import org.oreo.smore.global.cache.CacheLoadLock;
+import org.oreo.smore.global.cache.CacheSerializerProperties;
+import org.oreo.smore.global.cache.CacheStampedeProperties;
+import org.oreo.smore.global.cache.CompactCacheSerializer;
+import org.oreo.smore.global.cache.LocalCacheProperties;
+import org.oreo.smore.global.cache.StampedeProtectedCacheManager;
+import org.oreo.smore.global.cache.TwoLevelCacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @Configuration
 @EnableCaching
-public class RedisConfig {
+public class RedisConfig implements CachingConfigurer {
+
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(10);
 
     // 1. RedisTemplate 설정
     @Bean
@@ -47,17 +68,25 @@ public class RedisConfig {
         return template;
     }
 
-    // 2. CacheManager 설정
+    // 2. CacheManager 설정 - Redis(L2) + 서버 내부 L1(app.cache.l1) + 스탬피드 방지(app.cache.stampede) + 커밋 후 반영
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // ✅ 타입 정보를 포함한 ObjectMapper 설정
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     LocalCacheProperties localCacheProperties,
+                                     CacheSerializerProperties serializerProperties,
+                                     CacheStampedeProperties stampedeProperties,
+                                     MeterRegistry meterRegistry) {
+        // ✅ 타입 정보를 포함한 ObjectMapper 설정 (json 형식, compact 형식의 기존 값 읽기)
         ObjectMapper objectMapper = createTypeAwareObjectMapper();
-        GenericJackson2JsonRedisSerializer serializer =
+        GenericJackson2JsonRedisSerializer jsonSerializer =
                 new GenericJackson2JsonRedisSerializer(objectMapper);
+        RedisSerializer<Object> serializer = serializerProperties.getFormat() == CacheSerializerProperties.Format.COMPACT
+                ? new CompactCacheSerializer(jsonSerializer, serializerProperties, meterRegistry)
+                : jsonSerializer;
 
         // 기본 캐시 설정
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))  // 기본 TTL 10분
+                .entryTtl(DEFAULT_CACHE_TTL)  // 기본 TTL 10분
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
                                 new StringRedisSerializer()))
@@ -66,27 +95,97 @@ public class RedisConfig {
                 .disableCachingNullValues();
 
         // 캐시별 개별 TTL 설정
-        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        Map<String, Duration> cacheTtls = new HashMap<>();
 
         // 사용자 프로필 (10분)
-        cacheConfigurations.put("user:profile", defaultConfig.entryTtl(Duration.ofMinutes(10)));
+        cacheTtls.put("user:profile", Duration.ofMinutes(10));
 
         // 포인트 총합 (5분)
-        cacheConfigurations.put("user:totalPoints", defaultConfig.entryTtl(Duration.ofMinutes(5)));
+        cacheTtls.put("user:totalPoints", Duration.ofMinutes(5));
 
         // 학습 통계 (10분)
-        cacheConfigurations.put("study:stats", defaultConfig.entryTtl(Duration.ofMinutes(10)));
+        cacheTtls.put("study:stats", Duration.ofMinutes(10));
 
         // 스터디룸 상세 (5분)
-        cacheConfigurations.put("room:detail", defaultConfig.entryTtl(Duration.ofMinutes(5)));
+        cacheTtls.put("room:detail", Duration.ofMinutes(5));
 
         // 참가자 정보 (30초)
-        cacheConfigurations.put("room:participants", defaultConfig.entryTtl(Duration.ofSeconds(30)));
+        cacheTtls.put("room:participants", Duration.ofSeconds(30));
 
-        return RedisCacheManager.builder(connectionFactory)
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cacheTtls.forEach((name, ttl) -> cacheConfigurations.put(name, defaultConfig.entryTtl(ttl)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+
+        CacheManager cacheManager = redisCacheManager;
+        if (localCacheProperties.isEnabled()) {
+            cacheManager = new TwoLevelCacheManager(redisCacheManager, localCacheProperties, stringRedisTemplate, meterRegistry);
+        }
+
+        // @Cacheable(sync = true) 경로 스탬피드 방지 (동시 미스 합치기 + 서버 간 락 + 조기 갱신)
+        if (stampedeProperties.isEnabled()) {
+            CacheLoadLock loadLock = stampedeProperties.isDistributedLock()
+                    ? new CacheLoadLock(stringRedisTemplate, Duration.ofMillis(stampedeProperties.getLockTtlMs()))
+                    : null;
+            cacheManager = new StampedeProtectedCacheManager(cacheManager, cacheTtls, DEFAULT_CACHE_TTL,
+                    stampedeProperties, loadLock, meterRegistry);
+        }
+
+        // 빈으로 등록되지 않으므로 캐시별 TTL 설정을 직접 초기화
+        redisCacheManager.afterPropertiesSet();
+
+        // @Transactional 안의 @CacheEvict/직접 evict는 커밋 이후 반영 (커밋 전 값으로 다시 채워지는 것 방지)
+        return new AfterCommitCacheManager(cacheManager);
+    }
+
+    // L1 무효화 메시지 구독 컨테이너
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.l1.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager,
+                                                                            LocalCacheProperties localCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        CacheManager target = cacheManager instanceof AfterCommitCacheManager afterCommit
+                ? afterCommit.getDelegate()
+                : cacheManager;
+        if (target instanceof StampedeProtectedCacheManager stampedeProtected) {
+            target = stampedeProtected.getDelegate();
+        }
+        if (target instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(twoLevelCacheManager,
+                    new ChannelTopic(localCacheProperties.getInvalidationChannel()));
+        }
+        return container;
+    }
+
+    // 3. 캐시 오류 처리 - Redis 장애 시 캐시를 건너뛰고 DB 조회/쓰기는 그대로 진행
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheErrorHandler() {
+            @Override
+            public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("⚠️ 캐시 조회 실패 - 캐시: {}, 키: {}, 오류: {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+                log.warn("⚠️ 캐시 저장 실패 - 캐시: {}, 키: {}, 오류: {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("⚠️ 캐시 삭제 실패 - 캐시: {}, 키: {}, 오류: {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheClearError(RuntimeException exception, Cache cache) {
+                log.warn("⚠️ 캐시 비우기 실패 - 캐시: {}, 오류: {}", cache.getName(), exception.getMessage());
+            }
+        };
     }
 
     // 타입 정보를 포함하는 ObjectMapper 생성
@@ -0,0 +1,10 @@
+package org.oreo.smore.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 집계 테이블 정합성 검사 등 주기 작업 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
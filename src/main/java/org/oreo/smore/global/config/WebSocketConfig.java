@@ -7,6 +7,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.global.websocket.ChatChannelInterceptor;
 import org.oreo.smore.global.websocket.ChatHandshakeInterceptor;
+import org.oreo.smore.global.websocket.relay.StompRedisRelayPublisher;
+import org.oreo.smore.global.websocket.relay.WebSocketBrokerProperties;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
@@ -26,11 +29,32 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final ChatHandshakeInterceptor chatHandshakeInterceptor;
     private final ChatChannelInterceptor chatChannelInterceptor;
+    private final WebSocketBrokerProperties brokerProperties;
+    private final ObjectProvider<StompRedisRelayPublisher> redisRelayPublisher;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 prefix 설정
-        config.enableSimpleBroker("/topic", "/queue");
+        switch (brokerProperties.getMode()) {
+            case RELAY -> {
+                // 외부 STOMP 브로커로 중계 -> 모든 인스턴스가 같은 구독 정보 공유
+                config.enableStompBrokerRelay("/topic", "/queue")
+                        .setRelayHost(brokerProperties.getRelayHost())
+                        .setRelayPort(brokerProperties.getRelayPort())
+                        .setClientLogin(brokerProperties.getClientLogin())
+                        .setClientPasscode(brokerProperties.getClientPasscode())
+                        .setSystemLogin(brokerProperties.getSystemLogin())
+                        .setSystemPasscode(brokerProperties.getSystemPasscode())
+                        .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                        .setUserRegistryBroadcast("/topic/simp-user-registry");
+            }
+            case REDIS -> {
+                // 로컬 SimpleBroker + Redis pub/sub 로 다른 인스턴스에 전달
+                config.enableSimpleBroker("/topic", "/queue");
+                config.configureBrokerChannel().interceptors(redisRelayPublisher.getObject());
+            }
+            default -> config.enableSimpleBroker("/topic", "/queue");
+        }
 
         // 클라이언트가 메시지를 보낼 때 사용할 prefix 설정
         config.setApplicationDestinationPrefixes("/app");
@@ -38,7 +62,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 사용자별 개인 메시지 prefix 설정
         config.setUserDestinationPrefix("/user");
 
-        log.info("✅ STOMP 메시지 브로커 설정 완료");
+        log.info("✅ STOMP 메시지 브로커 설정 완료 - 모드: {}", brokerProperties.getMode());
     }
 
     @Override
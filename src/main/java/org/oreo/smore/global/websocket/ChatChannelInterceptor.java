@@ -2,8 +2,8 @@ package org.oreo.smore.global.websocket;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.oreo.smore.domain.chat.ChatUserInfoCache;
 import org.oreo.smore.domain.user.User;
-import org.oreo.smore.domain.user.UserRepository;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -21,7 +21,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ChatChannelInterceptor implements ChannelInterceptor {
 
-    public final UserRepository userRepository;
+    private final ChatUserInfoCache chatUserInfoCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -60,21 +60,21 @@ public class ChatChannelInterceptor implements ChannelInterceptor {
         }
 
         try {
-            // 사용자 정보 조회 및 Principal 설정
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+            // 핸드셰이크에서 세션에 넣어 둔 사용자 정보 사용 (DB 조회 없음)
+            User user = (User) accessor.getSessionAttributes().get("user");
+            if (user == null) {
+                user = ChatUserInfoCache.toSessionUser(chatUserInfoCache.get(userId));
+                accessor.getSessionAttributes().put("user", user);
+            }
 
             // Spring Security Principal 설정
             Authentication auth = new UsernamePasswordAuthenticationToken(
-                    user.getEmail(),
+                    userEmail,
                     null,
                     List.of()
             );
             accessor.setUser(auth);
 
-            // 세션에 사용자 정보 저장
-            accessor.getSessionAttributes().put("user", user);
-
             log.info("✅ STOMP CONNECT 성공 - 사용자: {} (ID: {}), 세션: {}",
                     user.getNickname(), userId, accessor.getSessionId());
 
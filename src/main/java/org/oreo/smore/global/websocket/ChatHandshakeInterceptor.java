@@ -3,8 +3,9 @@ package org.oreo.smore.global.websocket;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.oreo.smore.domain.auth.jwt.JwtTokenProvider;
+import org.oreo.smore.domain.chat.ChatUserInfoCache;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
 import org.oreo.smore.domain.user.User;
-import org.oreo.smore.domain.user.UserRepository;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.stereotype.Component;
@@ -13,6 +14,7 @@ import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -20,7 +22,7 @@ import java.util.Map;
 public class ChatHandshakeInterceptor implements HandshakeInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final ChatUserInfoCache chatUserInfoCache;
 
     @Override
     public boolean beforeHandshake(
@@ -40,22 +42,22 @@ public class ChatHandshakeInterceptor implements HandshakeInterceptor {
         }
 
         try {
-            // JWT 토큰 검증 (Access Token)
-            if (!jwtTokenProvider.validateToken(token, true)) {
+            // JWT 토큰 검증 + userId 추출 (Access Token, 한 번의 파싱으로)
+            Optional<String> userIdStr = jwtTokenProvider.resolveUserId(token, true);
+            if (userIdStr.isEmpty()) {
                 log.warn("❌ WebSocket 연결 실패: 유효하지 않은 accessToken - IP: {}",
                         request.getRemoteAddress());
                 return false;
             }
 
-            // JWT에서 userId 추출 (String → Long 변환)
-            String userIdStr = jwtTokenProvider.getUserIdFromToken(token, true);
-            Long userId = Long.parseLong(userIdStr);
+            // String → Long 변환
+            Long userId = Long.parseLong(userIdStr.get());
 
-            // 사용자 정보 조회
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+            // 사용자 정보는 채팅 사용자 캐시에서 (캐시에 없을 때만 DB 조회)
+            ChatMessageDTO.UserInfo userInfo = chatUserInfoCache.get(userId);
+            User user = ChatUserInfoCache.toSessionUser(userInfo);
 
-            // WebSocket 세션에 사용자 정보 저장
+            // WebSocket 세션에 사용자 정보 저장 (STOMP CONNECT는 이 값을 그대로 사용)
             attributes.put("userId", userId);
             attributes.put("userEmail", user.getEmail());
             attributes.put("user", user);
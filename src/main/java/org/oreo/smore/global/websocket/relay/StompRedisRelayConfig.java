@@ -0,0 +1,24 @@
+package org.oreo.smore.global.websocket.relay;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "redis")
+public class StompRedisRelayConfig {
+
+    // 인스턴스 간 STOMP 메시지 구독 컨테이너
+    @Bean
+    public RedisMessageListenerContainer stompRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     StompRedisRelaySubscriber subscriber,
+                                                                     WebSocketBrokerProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(properties.getRedisChannel()));
+        return container;
+    }
+}
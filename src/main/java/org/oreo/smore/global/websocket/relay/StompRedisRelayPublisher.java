@@ -0,0 +1,66 @@
+package org.oreo.smore.global.websocket.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.Base64;
+
+/**
+ * 브로커 채널 인터셉터 (redis 모드)
+ * - 서버에서 /topic, /user 로 보내는 메시지를 로컬 브로커에 전달하면서 Redis 채널에도 발행
+ * - 다른 인스턴스에서 넘어온 메시지(RELAYED_HEADER)는 다시 발행하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "redis")
+public class StompRedisRelayPublisher implements ChannelInterceptor {
+
+    public static final String RELAYED_HEADER = "relayedFromNode";
+
+    private final StringRedisTemplate redisTemplate;
+    private final WebSocketBrokerProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(RELAYED_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !(destination.startsWith("/topic/") || destination.startsWith("/user/"))) {
+            return message;
+        }
+
+        try {
+            MimeType contentType = headers.get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+            StompRelayEnvelope envelope = new StompRelayEnvelope(
+                    properties.getNodeId(),
+                    destination,
+                    contentType != null ? contentType.toString() : null,
+                    Base64.getEncoder().encodeToString(payload));
+
+            redisTemplate.convertAndSend(properties.getRedisChannel(), objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            // 로컬 전달은 계속 진행
+            log.error("❌ STOMP 메시지 Redis 발행 실패 - destination: {}", destination, e);
+        }
+        return message;
+    }
+}
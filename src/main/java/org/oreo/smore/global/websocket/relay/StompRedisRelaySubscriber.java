@@ -0,0 +1,61 @@
+package org.oreo.smore.global.websocket.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Redis 채널 구독자 (redis 모드)
+ * - 다른 인스턴스가 발행한 메시지를 로컬 브로커 채널로 다시 보내 이 인스턴스의 세션에 전달
+ * - /user 목적지는 로컬 UserDestinationMessageHandler가 세션을 찾아 처리, 세션이 없으면 버려짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "redis")
+public class StompRedisRelaySubscriber implements MessageListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketBrokerProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        deliver(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    void deliver(String json) {
+        try {
+            StompRelayEnvelope envelope = objectMapper.readValue(json, StompRelayEnvelope.class);
+
+            // 자기 자신이 발행한 메시지는 이미 로컬에 전달됨
+            if (properties.getNodeId().equals(envelope.nodeId())) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeTypeUtils.parseMimeType(envelope.contentType()));
+            }
+            accessor.setHeader(StompRedisRelayPublisher.RELAYED_HEADER, envelope.nodeId());
+            accessor.setLeaveMutable(true);
+
+            byte[] payload = Base64.getDecoder().decode(envelope.payload());
+            messagingTemplate.send(envelope.destination(),
+                    MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("❌ Redis 릴레이 메시지 전달 실패", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.oreo.smore.global.websocket.relay;
+
+/**
+ * 인스턴스 간 전달되는 STOMP 메시지
+ * - payload는 브로커 채널에서 이미 직렬화된 바이트(Base64)
+ */
+public record StompRelayEnvelope(
+        String nodeId,
+        String destination,
+        String contentType,
+        String payload
+) {
+}
@@ -0,0 +1,41 @@
+package org.oreo.smore.global.websocket.relay;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * STOMP 브로커 모드 설정
+ * - simple : 인스턴스 내부 SimpleBroker (단일 서버 기본값)
+ * - redis  : SimpleBroker + Redis pub/sub 로 다른 인스턴스에 /topic, /user 메시지 전달
+ * - relay  : 외부 STOMP 브로커(RabbitMQ/ActiveMQ) 릴레이
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.websocket.broker")
+public class WebSocketBrokerProperties {
+
+    private Mode mode = Mode.SIMPLE;
+
+    // 인스턴스 식별자 (redis 모드에서 자기 메시지 재수신 방지)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // redis 모드에서 사용할 pub/sub 채널
+    private String redisChannel = "stomp:broadcast";
+
+    // relay 모드 외부 브로커 접속 정보
+    private String relayHost = "localhost";
+    private int relayPort = 61613;
+    private String clientLogin = "guest";
+    private String clientPasscode = "guest";
+    private String systemLogin = "guest";
+    private String systemPasscode = "guest";
+
+    public enum Mode {
+        SIMPLE, REDIS, RELAY
+    }
+}
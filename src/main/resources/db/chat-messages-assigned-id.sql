@@ -0,0 +1,10 @@
+-- chat_messages.id를 애플리케이션 발급 ID로 전환 (MySQL 8, 운영 DB에 1회 적용)
+-- 동기 저장/write-behind 모두 ChatMessageIdGenerator가 발급한 ID를 넣으므로 AUTO_INCREMENT 제거
+-- 기존 ID는 발급 ID보다 항상 작아서 (created_at, id) 정렬 순서는 유지됨
+-- AUTO_INCREMENT 속성 변경은 테이블 복사가 필요하므로 트래픽이 적은 시간에 적용
+
+ALTER TABLE chat_messages
+    MODIFY id BIGINT NOT NULL;
+
+-- 적용 후 확인 (Extra에 auto_increment가 없어야 함)
+-- SHOW COLUMNS FROM chat_messages LIKE 'id';
@@ -0,0 +1,21 @@
+-- participants 조회 경로용 인덱스 (MySQL 8, 운영 DB에 1회 적용)
+-- ddl-auto가 update가 아닌 환경에서 사용. 온라인 DDL로 테이블 잠금 없이 생성
+
+-- 방별 현재 참가자 조회/집계: room_id = ? AND left_at IS NULL AND is_banned = false
+CREATE INDEX idx_participants_room_active
+    ON participants (room_id, left_at, is_banned)
+    ALGORITHM = INPLACE LOCK = NONE;
+
+-- 방 + 사용자 활성 참가 확인: room_id = ? AND user_id = ? AND left_at IS NULL
+CREATE INDEX idx_participants_room_user_active
+    ON participants (room_id, user_id, left_at)
+    ALGORITHM = INPLACE LOCK = NONE;
+
+-- 사용자별 최근 참여 방: user_id = ? ORDER BY joined_at DESC (room_id 포함 커버링)
+CREATE INDEX idx_participants_user_joined
+    ON participants (user_id, joined_at DESC, room_id)
+    ALGORITHM = INPLACE LOCK = NONE;
+
+-- 적용 후 확인
+-- EXPLAIN SELECT COUNT(*) FROM participants WHERE room_id = 1 AND left_at IS NULL AND is_banned = false;
+-- EXPLAIN SELECT room_id FROM participants WHERE user_id = 1 ORDER BY joined_at DESC LIMIT 20;
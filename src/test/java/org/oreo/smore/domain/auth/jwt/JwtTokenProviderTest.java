@@ -0,0 +1,88 @@
+package org.oreo.smore.domain.auth.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtTokenProvider 단위 테스트")
+class JwtTokenProviderTest {
+
+    private static final String ACCESS_SECRET =
+            "dGVzdC1hY2Nlc3MtdG9rZW4tc2VjcmV0LWtleS1mb3ItdGVzdGluZy1wdXJwb3NlLW9ubHk=";
+    private static final String REFRESH_SECRET =
+            "dGVzdC1yZWZyZXNoLXRva2VuLXNlY3JldC1rZXktZm9yLXRlc3RpbmctcHVycG9zZS1vbmx5";
+
+    private final JwtTokenProvider provider =
+            new JwtTokenProvider(ACCESS_SECRET, REFRESH_SECRET, 900_000L, 604_800_000L, 100);
+
+    @Test
+    @DisplayName("1. 한 번의 파싱으로 검증과 userId 추출을 함께 한다")
+    void testResolveUserId() {
+        String access = provider.createAccessToken("42");
+        String refresh = provider.createRefreshToken("42");
+
+        assertThat(provider.resolveUserId(access, true)).contains("42");
+        assertThat(provider.resolveUserId(refresh, false)).contains("42");
+        assertThat(provider.validateToken(access, true)).isTrue();
+        assertThat(provider.getUserIdFromToken(access, true)).isEqualTo("42");
+    }
+
+    @Test
+    @DisplayName("2. 다른 키로 서명됐거나 변조된 토큰은 거부한다 (캐시에 남지 않음)")
+    void testRejectsInvalidTokens() {
+        String refresh = provider.createRefreshToken("42");
+        String access = provider.createAccessToken("42");
+        String tampered = access.substring(0, access.length() - 2) + (access.endsWith("A") ? "BB" : "AA");
+
+        assertThat(provider.resolveUserId(refresh, true)).isEmpty();
+        assertThat(provider.resolveUserId(tampered, true)).isEmpty();
+        assertThat(provider.resolveUserId(tampered, true)).isEmpty();
+        assertThat(provider.resolveUserId("not-a-jwt", true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("3. 만료된 토큰은 거부한다")
+    void testRejectsExpiredToken() {
+        JwtTokenProvider expiredIssuer =
+                new JwtTokenProvider(ACCESS_SECRET, REFRESH_SECRET, -60_000L, -60_000L, 100);
+        String expired = expiredIssuer.createAccessToken("42");
+
+        assertThat(provider.resolveUserId(expired, true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("4. 캐시 항목은 각자의 exp가 지나면 사라지고, 최대 개수를 넘지 않는다")
+    void testSubjectCacheExpiryAndMaxSize() {
+        AtomicLong now = new AtomicLong(1_000L);
+        TokenSubjectCache cache = new TokenSubjectCache(2, now::get);
+
+        cache.put("a", "1", 2_000L);
+        cache.put("b", "2", 5_000L);
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("b")).isEqualTo("2");
+
+        now.set(2_000L);                   // a의 exp 도달, b는 그대로
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("2");
+
+        cache.put("c", "3", 5_000L);
+        cache.put("d", "4", 5_000L);
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+
+        cache.put("e", "5", 1_500L);       // 이미 만료된 토큰은 저장하지 않음
+        assertThat(cache.get("e")).isNull();
+    }
+
+    @Test
+    @DisplayName("5. 최대 개수가 0이면 캐시하지 않는다")
+    void testSubjectCacheDisabled() {
+        TokenSubjectCache cache = new TokenSubjectCache(0, () -> 1_000L);
+
+        cache.put("a", "1", 5_000L);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
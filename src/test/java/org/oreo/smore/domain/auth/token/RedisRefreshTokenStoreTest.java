@@ -0,0 +1,90 @@
+package org.oreo.smore.domain.auth.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisRefreshTokenStore 단위 테스트")
+class RedisRefreshTokenStoreTest {
+
+    private static final String TOKEN = "refresh.token.value";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private TokenRepository tokenRepository;
+
+    private RedisRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisRefreshTokenStore(redisTemplate, tokenRepository, true);
+    }
+
+    @Test
+    @DisplayName("1. 교체 시 원문이 아닌 해시 키로 저장하고 감사 로그에도 해시만 남긴다")
+    @SuppressWarnings("unchecked")
+    void testReplaceStoresHashOnly() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+
+        store.replace(42L, TOKEN, expiresAt);
+
+        String hash = RedisRefreshTokenStore.hash(TOKEN);
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(),
+                eq(hash), eq("42"), anyString(), eq(RedisRefreshTokenStore.TOKEN_KEY_PREFIX));
+        assertThat(keys.getValue()).containsExactly("auth:rt:user:42", "auth:rt:" + hash);
+        assertThat(keys.getValue()).noneMatch(key -> key.contains(TOKEN));
+
+        ArgumentCaptor<Token> audit = ArgumentCaptor.forClass(Token.class);
+        verify(tokenRepository).save(audit.capture());
+        assertThat(audit.getValue().getRefreshToken()).isEqualTo(hash);
+        assertThat(audit.getValue().getUserId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("2. 조회는 GET 한 번으로 userId를 돌려준다")
+    void testFindUserIdSingleGet() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("auth:rt:" + RedisRefreshTokenStore.hash(TOKEN))).thenReturn("42");
+
+        assertThat(store.findUserId(TOKEN)).contains(42L);
+        verify(valueOperations, times(1)).get(anyString());
+        verifyNoInteractions(tokenRepository);
+    }
+
+    @Test
+    @DisplayName("3. 없는(만료·교체된) 토큰은 빈 값")
+    void testFindUserIdMissing() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(null);
+
+        assertThat(store.findUserId(TOKEN)).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("4. 이미 만료된 토큰은 저장하지 않는다")
+    void testReplaceSkipsExpired() {
+        store.replace(42L, TOKEN, Instant.now().minusSeconds(1));
+
+        verifyNoInteractions(redisTemplate, tokenRepository);
+    }
+}
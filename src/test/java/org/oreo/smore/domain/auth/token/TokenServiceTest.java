@@ -0,0 +1,82 @@
+package org.oreo.smore.domain.auth.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * refresh token 저장소 (db 모드) 테스트
+ * - 교체 시 이전 토큰 무효화, 만료 토큰 거절, 만료 행 정리
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenServiceTest {
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private RefreshTokenPurgeJob refreshTokenPurgeJob;
+
+    @BeforeEach
+    void setUp() {
+        tokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("1. 교체하면 새 토큰만 유효하다")
+    void testReplaceInvalidatesPrevious() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        tokenService.replaceRefreshToken(1L, "first-token", expiresAt);
+        tokenService.replaceRefreshToken(1L, "second-token", expiresAt);
+
+        assertThat(tokenService.getUserId("second-token")).isEqualTo(1L);
+        assertThatThrownBy(() -> tokenService.getUserId("first-token"))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(tokenRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2. 만료된 토큰은 403이고 행이 삭제된다")
+    void testExpiredTokenRejected() {
+        tokenService.replaceRefreshToken(2L, "expired-token", Instant.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> tokenService.getUserId("expired-token"))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(tokenRepository.findByRefreshToken("expired-token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("3. 정리 작업은 만료된 행만 삭제한다")
+    void testPurgeRemovesOnlyExpired() {
+        tokenService.replaceRefreshToken(3L, "stale-token", Instant.now().minusSeconds(60));
+        tokenService.replaceRefreshToken(4L, "live-token", Instant.now().plusSeconds(3600));
+
+        refreshTokenPurgeJob.purgeExpired();
+
+        assertThat(tokenRepository.findByRefreshToken("stale-token")).isEmpty();
+        assertThat(tokenService.getUserId("live-token")).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("4. 로그아웃한 토큰은 더 이상 사용할 수 없다")
+    void testDeleteRefreshToken() {
+        tokenService.replaceRefreshToken(5L, "logout-token", Instant.now().plusSeconds(3600));
+        tokenService.deleteRefreshToken("logout-token");
+
+        assertThatThrownBy(() -> tokenService.getUserId("logout-token"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package org.oreo.smore.domain.chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChatMessageIdGenerator 단위 테스트")
+class ChatMessageIdGeneratorTest {
+
+    // 2025-06-01T00:00:00Z
+    private static final long NOW = 1748736000000L;
+
+    @Test
+    @DisplayName("1. 시계가 뒤로 가도 기다리지 않고 계속 증가하는 ID를 발급한다")
+    void testClockRollbackKeepsIncreasing() {
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(1);
+
+        long before = generator.nextId(NOW);
+        long rolledBack = generator.nextId(NOW - 5_000);
+
+        assertThat(rolledBack).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("2. 같은 ms에 시퀀스를 다 쓰면 다음 ms 값으로 넘어가 중복 없이 발급한다")
+    void testSequenceOverflowBorrowsNextMillisecond() {
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(1);
+
+        Set<Long> ids = new HashSet<>();
+        long last = -1;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId(NOW);
+            assertThat(id).isGreaterThan(last);
+            ids.add(id);
+            last = id;
+        }
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("3. 노드 ID가 없으면 단일 서버 모드에서만 0번으로 기동하고, 다중 서버 모드에서는 기동을 막는다")
+    void testNodeIdRequiredForMultiNodeBroker() {
+        assertThat(ChatMessageIdGenerator.resolveNodeId(null, "simple")).isZero();
+        assertThat(ChatMessageIdGenerator.resolveNodeId(7L, "redis")).isEqualTo(7L);
+        assertThatThrownBy(() -> ChatMessageIdGenerator.resolveNodeId(null, "redis"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ChatMessageIdGenerator.resolveNodeId(null, "relay"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,247 @@
+package org.oreo.smore.domain.chat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 최근 메시지 캐시 동작 테스트
+ * - Redis 대신 ZSET/HASH/warm 표시를 메모리로 흉내 낸 StringRedisTemplate mock 사용
+ * - ADD 스크립트는 (무효화 횟수 확인) -> (score, id, json) 묶음 추가 -> capacity 초과분 제거 -> warm 표시 순서를 그대로 따름
+ * - EVICT 스크립트는 키 삭제 + 무효화 횟수 증가
+ */
+@DisplayName("ChatRecentMessageCache 단위 테스트")
+class ChatRecentMessageCacheTest {
+
+    private static final int CAPACITY = 3;
+    private static final Long ROOM_ID = 7L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private final Map<String, Map<String, Double>> zsets = new HashMap<>();
+    private final Map<String, Map<String, String>> hashes = new HashMap<>();
+    private final Set<String> warmKeys = new HashSet<>();
+    private final Map<String, Long> generations = new HashMap<>();
+
+    private ChatRecentMessageCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+        HashOperations<String, Object, Object> hash = mock(HashOperations.class);
+        ValueOperations<String, String> value = mock(ValueOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+        when(redisTemplate.opsForHash()).thenReturn(hash);
+        when(redisTemplate.opsForValue()).thenReturn(value);
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            RedisScript<?> script = invocation.getArgument(0);
+            List<String> keys = invocation.getArgument(1);
+            Object[] args = (Object[]) invocation.getRawArguments()[2];
+            return script.getScriptAsString().contains("INCR") ? evict(keys) : add(keys, args);
+        });
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> warmKeys.contains(invocation.<String>getArgument(0)));
+        when(value.get(anyString())).thenAnswer(invocation -> {
+            Long generation = generations.get(invocation.<String>getArgument(0));
+            return generation == null ? null : generation.toString();
+        });
+        when(zSet.reverseRange(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            Map<String, Double> zset = zsets.getOrDefault(invocation.<String>getArgument(0), Map.of());
+            long end = invocation.getArgument(2);
+            Set<String> result = new LinkedHashSet<>();
+            zset.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                    .limit(end + 1)
+                    .forEach(entry -> result.add(entry.getKey()));
+            return result;
+        });
+        when(hash.multiGet(anyString(), anyCollection())).thenAnswer(invocation -> {
+            Map<String, String> values = hashes.getOrDefault(invocation.<String>getArgument(0), Map.of());
+            Collection<Object> ids = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            ids.forEach(id -> result.add(values.get(id.toString())));
+            return result;
+        });
+
+        cache = new ChatRecentMessageCache(redisTemplate, true, CAPACITY, 1800);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("1. 처음 조회하면 DB 최신 메시지로 채우고, 이후 조회는 DB를 다시 읽지 않는다")
+    void testWarmsOnceFromDb() {
+        Supplier<List<ChatMessageDTO.Response>> loader = loader(message(2), message(1));
+
+        List<ChatMessageDTO.Response> first = cache.getLatest(ROOM_ID, 1, loader).orElseThrow();
+        List<ChatMessageDTO.Response> second = cache.getLatest(ROOM_ID, 1, loader).orElseThrow();
+
+        assertThat(first).extracting(ChatMessageDTO.Response::getMessageId).containsExactly(2L, 1L);
+        assertThat(second).extracting(ChatMessageDTO.Response::getMessageId).containsExactly(2L, 1L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2. 추가한 메시지는 채워진 창의 맨 앞(최신)에 보인다")
+    void testAppendShowsNewestFirst() {
+        Supplier<List<ChatMessageDTO.Response>> loader = loader(message(1));
+        cache.getLatest(ROOM_ID, 1, loader);
+
+        cache.add(message(2));
+
+        List<ChatMessageDTO.Response> latest = cache.getLatest(ROOM_ID, 1, loader).orElseThrow();
+        assertThat(latest).extracting(ChatMessageDTO.Response::getMessageId).containsExactly(2L, 1L);
+        assertThat(latest.get(0).getContent()).isEqualTo("메시지 2");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("3. capacity를 넘으면 가장 오래된 메시지부터 잘라내고, 잘린 구간이 필요한 조회는 DB로 넘긴다")
+    void testTrimsToCapacity() {
+        Supplier<List<ChatMessageDTO.Response>> loader = loader(message(1));
+        cache.getLatest(ROOM_ID, 1, loader);
+
+        for (int i = 2; i <= 5; i++) {
+            cache.add(message(i));
+        }
+
+        assertThat(zsets.get("chat:recent:" + ROOM_ID)).hasSize(CAPACITY);
+        assertThat(hashes.get("chat:recent:" + ROOM_ID + ":msg")).containsOnlyKeys("5", "4", "3");
+        assertThat(cache.getLatest(ROOM_ID, 2, loader).orElseThrow())
+                .extracting(ChatMessageDTO.Response::getMessageId).containsExactly(5L, 4L, 3L);
+        // 창보다 큰 요청, 잘린 메시지 이후를 묻는 요청은 캐시로 답하지 않음
+        assertThat(cache.getLatest(ROOM_ID, CAPACITY, loader)).isEmpty();
+        assertThat(cache.getSince(ROOM_ID, BASE_TIME, loader)).isEmpty();
+        // 창 안쪽 시점부터는 캐시로 답함 (오래된 순)
+        assertThat(cache.getSince(ROOM_ID, BASE_TIME.plusSeconds(4), loader).orElseThrow())
+                .extracting(ChatMessageDTO.Response::getMessageId).containsExactly(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("4. 방을 무효화하면 모든 키를 지우고 다음 조회 때 DB에서 다시 채운다")
+    void testEvictRoomRewarms() {
+        Supplier<List<ChatMessageDTO.Response>> loader = loader(message(2), message(1));
+        cache.getLatest(ROOM_ID, 1, loader);
+
+        cache.evictRoom(ROOM_ID);
+
+        assertThat(zsets).doesNotContainKey("chat:recent:" + ROOM_ID);
+        assertThat(hashes).doesNotContainKey("chat:recent:" + ROOM_ID + ":msg");
+        assertThat(warmKeys).isEmpty();
+
+        cache.getLatest(ROOM_ID, 1, loader);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("5. DB를 읽는 사이 방이 무효화되면 읽은 결과를 캐시에 쓰지 않고 이번 응답에만 사용한다")
+    void testEvictDuringLoadSkipsWarmUp() {
+        // 채팅방 삭제 커밋 전에 읽은 스냅샷 -> 읽고 난 직후 커밋 이후 무효화 실행
+        Supplier<List<ChatMessageDTO.Response>> staleLoader = () -> {
+            loads.incrementAndGet();
+            List<ChatMessageDTO.Response> snapshot = List.of(message(1), message(2));
+            cache.evictRoom(ROOM_ID);
+            return snapshot;
+        };
+
+        List<ChatMessageDTO.Response> result = cache.getLatest(ROOM_ID, 1, staleLoader).orElseThrow();
+
+        assertThat(result).extracting(ChatMessageDTO.Response::getMessageId).containsExactly(2L, 1L);
+        assertThat(zsets).doesNotContainKey("chat:recent:" + ROOM_ID);
+        assertThat(warmKeys).isEmpty();
+
+        // 다음 조회는 다시 DB에서 채움
+        cache.getLatest(ROOM_ID, 1, loader());
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(warmKeys).containsExactly("chat:recent:" + ROOM_ID + ":warm");
+    }
+
+    // ADD 스크립트와 같은 동작
+    private Long add(List<String> keys, Object[] args) {
+        int tail = 2;
+        if (keys.size() == 4) {
+            long generation = generations.getOrDefault(keys.get(3), 0L);
+            if (!String.valueOf(generation).equals(args[args.length - 1].toString())) {
+                return -1L;
+            }
+            tail = 3;
+        }
+
+        Map<String, Double> zset = zsets.computeIfAbsent(keys.get(0), key -> new HashMap<>());
+        Map<String, String> hash = hashes.computeIfAbsent(keys.get(1), key -> new HashMap<>());
+        for (int i = 0; i < args.length - tail; i += 3) {
+            zset.put(args[i + 1].toString(), Double.parseDouble(args[i].toString()));
+            hash.put(args[i + 1].toString(), args[i + 2].toString());
+        }
+
+        int capacity = Integer.parseInt(args[args.length - tail].toString());
+        long overflow = zset.size() - capacity;
+        if (overflow > 0) {
+            zset.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                    .limit(overflow)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(id -> {
+                        zset.remove(id);
+                        hash.remove(id);
+                    });
+        }
+        if (keys.size() == 4) {
+            warmKeys.add(keys.get(2));
+        }
+        return Math.max(overflow, 0);
+    }
+
+    // EVICT 스크립트와 같은 동작
+    private Long evict(List<String> keys) {
+        keys.subList(0, 3).forEach(key -> {
+            zsets.remove(key);
+            hashes.remove(key);
+            warmKeys.remove(key);
+        });
+        return generations.merge(keys.get(3), 1L, Long::sum);
+    }
+
+    private Supplier<List<ChatMessageDTO.Response>> loader(ChatMessageDTO.Response... messages) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(messages);
+        };
+    }
+
+    private ChatMessageDTO.Response message(long id) {
+        return ChatMessageDTO.Response.builder()
+                .messageId(id)
+                .roomId(ROOM_ID)
+                .userId(1L)
+                .content("메시지 " + id)
+                .messageType(MessageType.CHAT)
+                .createdAt(BASE_TIME.plusSeconds(id))
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package org.oreo.smore.domain.chat;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 조회/저장 경로 쿼리 수 테스트
+ * - 히스토리 페이지 조회 시 작성자 N+1 조회가 없어야 함
+ * - 메시지 저장 시 사용자 SELECT 없이 INSERT만 나가야 함
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(WebSocketTestConfig.class)
+@Transactional
+class ChatServiceQueryCountTest {
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final Long testRoomId = 200L;
+    private User firstUser;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageRepository.deleteAll();
+        userRepository.deleteAll();
+
+        List<User> users = userRepository.saveAllAndFlush(List.of(
+                createUser("query-count-1@example.com", "쿼리테스터1"),
+                createUser("query-count-2@example.com", "쿼리테스터2"),
+                createUser("query-count-3@example.com", "쿼리테스터3")));
+        firstUser = users.get(0);
+
+        for (int i = 0; i < 50; i++) {
+            User writer = users.get(i % users.size());
+            chatService.saveMessage(ChatMessageDTO.Request.builder()
+                    .roomId(testRoomId)
+                    .content("쿼리 수 테스트 메시지 " + i)
+                    .build(), writer);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("1. 50개 메시지 페이지 조회는 쿼리 1회로 끝난다")
+    void testHistoryPageIsSingleQuery() {
+        Slice<ChatMessageDTO.Response> page = chatService.getMessagesByRoomId(testRoomId, null, null, 50);
+
+        assertThat(page.getContent()).hasSize(50);
+        assertThat(page.getContent()).allSatisfy(m -> assertThat(m.getUser().getNickname()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2. 메시지 저장 시 작성자를 다시 조회하지 않는다")
+    void testSaveMessageSkipsUserLookup() {
+        ChatMessageDTO.Response saved = chatService.saveMessage(ChatMessageDTO.Request.builder()
+                .roomId(testRoomId)
+                .content("프록시 저장")
+                .build(), firstUser);
+        entityManager.flush();
+
+        assertThat(saved.getUser().getNickname()).isEqualTo("쿼리테스터1");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    private User createUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .nickname(nickname)
+                .name(nickname)
+                .createdAt(LocalDateTime.now())
+                .goalStudyTime(60)
+                .level("O")
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package org.oreo.smore.domain.chat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 write-behind 저장 테스트
+ * - 발급 ID가 시간 순서대로 증가하는지
+ * - 대기열에 넣은 메시지가 묶음 INSERT로 모두 저장되는지
+ * - 동기 저장도 같은 ID 체계를 쓰는지, 재시도와 실제 ID 충돌을 구분하는지
+ */
+@SpringBootTest(properties = {
+        "app.chat.write-behind.enabled=true",
+        "app.chat.write-behind.batch-size=50",
+        "app.chat.write-behind.flush-interval-ms=20"
+})
+@ActiveProfiles("test")
+@Import(WebSocketTestConfig.class)
+class ChatWriteBehindTest {
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatMessageWriteBehindQueue writeBehindQueue;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User testUser;
+    private final Long testRoomId = 100L;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .email("writebehind-test@example.com")
+                .nickname("비동기저장")
+                .name("비동기 저장 테스트")
+                .createdAt(LocalDateTime.now())
+                .goalStudyTime(60)
+                .level("O")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatMessageRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("1. 메시지 ID는 여러 스레드에서 발급해도 중복 없이 증가한다")
+    void testIdGeneratorIsUniqueAndOrdered() throws Exception {
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(1);
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    @DisplayName("2. 대기열에 넣은 메시지는 발급된 ID 그대로 모두 저장된다")
+    void testQueuedMessagesArePersisted() throws Exception {
+        assertThat(chatService.isWriteBehindEnabled()).isTrue();
+
+        List<Long> issuedIds = new ArrayList<>();
+        for (int i = 1; i <= 120; i++) {
+            ChatMessageDTO.Request request = ChatMessageDTO.Request.builder()
+                    .roomId(testRoomId)
+                    .content("write-behind 메시지 " + i)
+                    .build();
+            ChatMessageDTO.Response prepared = chatService.prepareMessage(request, testUser);
+            issuedIds.add(prepared.getMessageId());
+            chatService.persistLater(prepared);
+        }
+
+        // flush 스레드가 모두 저장할 때까지 대기
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (chatMessageRepository.countActiveMessagesByRoomId(testRoomId) < 120
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertThat(chatMessageRepository.countActiveMessagesByRoomId(testRoomId)).isEqualTo(120);
+        assertThat(writeBehindQueue.size()).isZero();
+
+        Set<Long> savedIds = new HashSet<>();
+        chatMessageRepository.findAll().forEach(m -> savedIds.add(m.getId()));
+        assertThat(savedIds).containsAll(issuedIds);
+
+        // 최신 메시지는 마지막으로 발급한 메시지
+        ChatMessageDTO.Response latest = chatService.getLatestMessage(testRoomId).orElseThrow();
+        assertThat(latest.getMessageId()).isEqualTo(issuedIds.get(issuedIds.size() - 1));
+        assertThat(latest.getUserId()).isEqualTo(testUser.getUserId());
+    }
+
+    @Test
+    @DisplayName("3. 동기 저장도 발급 ID를 사용해 write-behind 메시지와 한 순서로 정렬된다")
+    void testSynchronousSaveUsesIssuedId() {
+        ChatMessageDTO.Request request = ChatMessageDTO.Request.builder()
+                .roomId(testRoomId)
+                .content("먼저 발급된 메시지")
+                .build();
+        ChatMessageDTO.Response prepared = chatService.prepareMessage(request, testUser);
+        writeBehindQueue.flush(List.of(prepared));
+
+        ChatMessageDTO.Response saved = chatService.saveMessage(ChatMessageDTO.Request.builder()
+                .roomId(testRoomId)
+                .content("동기 저장 메시지")
+                .build(), testUser);
+
+        assertThat(saved.getMessageId()).isGreaterThan(prepared.getMessageId());
+        assertThat(chatMessageRepository.findById(saved.getMessageId())).isPresent();
+        assertThat(chatService.getLatestMessage(testRoomId).orElseThrow().getMessageId())
+                .isEqualTo(saved.getMessageId());
+    }
+
+    @Test
+    @DisplayName("4. 같은 메시지 재저장은 무시하고, 같은 ID의 다른 메시지는 충돌로 집계한다")
+    void testDuplicateRetryIsIgnoredButConflictIsCounted() {
+        ChatMessageDTO.Response prepared = chatService.prepareMessage(ChatMessageDTO.Request.builder()
+                .roomId(testRoomId)
+                .content("원본 메시지")
+                .build(), testUser);
+        writeBehindQueue.flush(List.of(prepared));
+
+        double conflictsBefore = meterRegistry.counter("chat.writebehind.conflict").count();
+        double failedBefore = meterRegistry.counter("chat.writebehind.failed").count();
+
+        // 같은 메시지 재시도 -> 이미 저장된 것으로 처리
+        writeBehindQueue.flush(List.of(prepared));
+        assertThat(meterRegistry.counter("chat.writebehind.conflict").count()).isEqualTo(conflictsBefore);
+        assertThat(meterRegistry.counter("chat.writebehind.failed").count()).isEqualTo(failedBefore);
+
+        // 같은 ID로 다른 메시지 -> 충돌
+        ChatMessageDTO.Response conflicting = ChatMessageDTO.Response.builder()
+                .messageId(prepared.getMessageId())
+                .roomId(testRoomId)
+                .userId(testUser.getUserId())
+                .content("다른 메시지")
+                .messageType(MessageType.CHAT)
+                .createdAt(LocalDateTime.now())
+                .build();
+        writeBehindQueue.flush(List.of(conflicting));
+
+        assertThat(meterRegistry.counter("chat.writebehind.conflict").count()).isEqualTo(conflictsBefore + 1);
+        assertThat(meterRegistry.counter("chat.writebehind.failed").count()).isEqualTo(failedBefore + 1);
+        assertThat(chatMessageRepository.findById(prepared.getMessageId()).orElseThrow().getContent())
+                .isEqualTo("원본 메시지");
+    }
+}
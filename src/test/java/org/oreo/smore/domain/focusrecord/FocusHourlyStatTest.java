@@ -0,0 +1,95 @@
+package org.oreo.smore.domain.focusrecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FocusHourlyStatTest {
+
+    @Test
+    @DisplayName("1. 한 시간 안의 앞/뒤/내부 집중 구간을 나눠 기록한다")
+    void testRecalculateSplitsStreaks() {
+        Instant hour = Instant.parse("2025-03-01T10:00:00Z");
+        // 집중 2 | 비집중 | 집중 3 | 비집중 | 집중 1
+        int[] statuses = {90, 85, 10, 80, 95, 99, 20, 88};
+        List<FocusSample> samples = new ArrayList<>();
+        for (int i = 0; i < statuses.length; i++) {
+            samples.add(new FocusSample(hour.plusSeconds(i * 120L), statuses[i]));
+        }
+
+        FocusHourlyStat stat = FocusHourlyStat.builder().userId(1L).hourStart(hour).build();
+        stat.recalculate(samples, 42L);
+
+        assertThat(stat.getRecordCount()).isEqualTo(8);
+        assertThat(stat.getStatusSum()).isEqualTo(567L);
+        assertThat(stat.getLeadingFocused()).isEqualTo(2);
+        assertThat(stat.getTrailingFocused()).isEqualTo(1);
+        assertThat(stat.getInnerStreakCount()).isEqualTo(1);
+        assertThat(stat.getInnerStreakLength()).isEqualTo(3);
+        assertThat(stat.isAllFocused()).isFalse();
+        assertThat(stat.getLastRecordId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("2. 시간 집계를 합친 결과가 원본 기록을 한 건씩 집계한 결과와 같다 (빈 시간 포함)")
+    void testHourlyStatsMatchRawAggregation() {
+        Random random = new Random(7);
+        Instant base = Instant.parse("2025-02-01T00:00:00Z");
+        List<FocusSample> samples = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            // 중간중간 몇 시간씩 기록이 없는 구간을 둠
+            if (i % 700 == 0) {
+                base = base.plus(random.nextInt(5), ChronoUnit.HOURS);
+            }
+            // 집중 상태가 한동안 이어지도록 편향된 값
+            int status = random.nextInt(10) < 7 ? 80 + random.nextInt(21) : random.nextInt(80);
+            samples.add(new FocusSample(base.plusSeconds(i * 120L), status));
+        }
+
+        Map<Instant, List<FocusSample>> byHour = new TreeMap<>();
+        for (FocusSample sample : samples) {
+            byHour.computeIfAbsent(sample.timestamp().truncatedTo(ChronoUnit.HOURS), h -> new ArrayList<>())
+                    .add(sample);
+        }
+        List<FocusHourlyStat> stats = new ArrayList<>();
+        byHour.forEach((hour, hourSamples) -> {
+            FocusHourlyStat stat = FocusHourlyStat.builder().userId(1L).hourStart(hour).build();
+            stat.recalculate(hourSamples, 0L);
+            stats.add(stat);
+        });
+
+        for (ZoneOffset offset : new ZoneOffset[]{ZoneOffset.UTC, ZoneOffset.of("+09:00"), ZoneOffset.of("-05:00")}) {
+            FocusRecordAggregator raw = new FocusRecordAggregator(offset);
+            samples.forEach(s -> raw.accept(s.timestamp(), s.status()));
+            raw.finish();
+
+            FocusRecordAggregator hourly = new FocusRecordAggregator(offset);
+            stats.forEach(hourly::acceptHour);
+            hourly.finish();
+
+            for (int hour = 0; hour < 24; hour++) {
+                assertThat(hourly.count(hour)).isEqualTo(raw.count(hour));
+                assertThat(hourly.average(hour)).isCloseTo(raw.average(hour), within(1e-9));
+            }
+            assertThat(hourly.averageStreakLength()).isCloseTo(raw.averageStreakLength(), within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("3. 30분 단위 오프셋은 시간 집계를 쓰지 않는다")
+    void testSupportsOnlyWholeHourOffsets() {
+        assertThat(FocusRecordAggregator.supportsHourlyStats(ZoneOffset.of("+09:00"))).isTrue();
+        assertThat(FocusRecordAggregator.supportsHourlyStats(ZoneOffset.of("-03:30"))).isFalse();
+    }
+}
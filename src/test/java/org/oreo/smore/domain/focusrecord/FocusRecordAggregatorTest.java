@@ -0,0 +1,84 @@
+package org.oreo.smore.domain.focusrecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FocusRecordAggregatorTest {
+
+    @Test
+    @DisplayName("1. 시간대 변환은 atOffset().getHour()와 같다 (음수 오프셋, 자정 경계 포함)")
+    void testHourBucketingMatchesAtOffset() {
+        ZoneOffset[] offsets = {ZoneOffset.of("+09:00"), ZoneOffset.of("-03:30"), ZoneOffset.UTC};
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+
+        for (ZoneOffset offset : offsets) {
+            FocusRecordAggregator aggregator = new FocusRecordAggregator(offset);
+            long[] expected = new long[24];
+            for (int minute = 0; minute < 48 * 60; minute += 7) {
+                Instant timestamp = base.plusSeconds(minute * 60L);
+                aggregator.accept(timestamp, 50);
+                expected[timestamp.atOffset(offset).getHour()]++;
+            }
+            for (int hour = 0; hour < 24; hour++) {
+                assertThat(aggregator.count(hour)).isEqualTo(expected[hour]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("2. 시간대별 평균과 집중 구간 평균이 기존 그룹핑/정렬 방식과 같다")
+    void testMatchesLegacyCalculation() {
+        Random random = new Random(42);
+        Instant base = Instant.parse("2025-02-01T00:00:00Z");
+        List<FocusRecord> records = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            records.add(FocusRecord.builder()
+                    .userId(1L)
+                    .timestamp(base.plusSeconds(i * 120L))
+                    .status(random.nextInt(101))
+                    .build());
+        }
+
+        ZoneOffset offset = ZoneOffset.of("+09:00");
+        FocusRecordAggregator aggregator = new FocusRecordAggregator(offset);
+        records.forEach(r -> aggregator.accept(r.getTimestamp(), r.getStatus()));
+        aggregator.finish();
+
+        // 기존 방식: 시간대별 그룹 평균
+        for (int hour = 0; hour < 24; hour++) {
+            int h = hour;
+            double legacyAverage = records.stream()
+                    .filter(r -> r.getTimestamp().atOffset(offset).getHour() == h)
+                    .mapToInt(FocusRecord::getStatus)
+                    .average()
+                    .orElse(0.0);
+            assertThat(aggregator.average(hour)).isCloseTo(legacyAverage, within(1e-9));
+        }
+
+        // 기존 방식: 정렬 후 집중 구간 목록 평균
+        List<Integer> segments = new ArrayList<>();
+        int streak = 0;
+        for (FocusRecord record : records) {
+            if (record.getStatus() >= FocusRecordAggregator.FOCUS_THRESHOLD) {
+                streak++;
+            } else if (streak > 0) {
+                segments.add(streak);
+                streak = 0;
+            }
+        }
+        if (streak > 0) {
+            segments.add(streak);
+        }
+        double legacyStreak = segments.stream().mapToInt(Integer::intValue).average().orElse(0.0);
+        assertThat(aggregator.averageStreakLength()).isCloseTo(legacyStreak, within(1e-9));
+    }
+}
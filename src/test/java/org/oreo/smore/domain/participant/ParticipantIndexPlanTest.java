@@ -0,0 +1,137 @@
+package org.oreo.smore.domain.participant;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * participants 조회 경로 실행 계획 테스트 (H2 EXPLAIN)
+ * - 손으로 쓴 SQL이 아니라 ParticipantRepository 메서드가 실제로 만든 SQL을 EXPLAIN
+ * - 핫 쿼리가 participants 전체 스캔(tableScan)으로 떨어지지 않고 의도한 인덱스를 타야 함
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.oreo.smore.domain.participant.ParticipantIndexPlanTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+class ParticipantIndexPlanTest {
+
+    private static final long FIRST_ROOM_ID = 900_001L;
+    private static final int ROOMS = 10;
+    private static final int USERS = 30;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        List<Participant> participants = new ArrayList<>();
+        for (int room = 0; room < ROOMS; room++) {
+            for (int user = 1; user <= USERS; user++) {
+                Participant participant = Participant.builder()
+                        .roomId(FIRST_ROOM_ID + room)
+                        .userId((long) user)
+                        .build();
+                if (user % 2 == 0) {
+                    participant.leave();
+                }
+                participants.add(participant);
+            }
+        }
+        participantRepository.saveAllAndFlush(participants);
+        // 통계를 갱신해 비용 기반 인덱스 선택이 실제 데이터 분포를 보도록
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM participants WHERE room_id >= ? AND room_id < ?",
+                FIRST_ROOM_ID, FIRST_ROOM_ID + ROOMS);
+    }
+
+    @Test
+    @DisplayName("1. 방별 활성 참가자 수/목록은 (room_id, left_at, is_banned) 인덱스를 사용한다")
+    void testRoomActiveQueries() {
+        String countSql = captureSql(() -> participantRepository.countActiveParticipantsByRoomId(FIRST_ROOM_ID));
+        assertUsesIndex(countSql, "idx_participants_room_active", FIRST_ROOM_ID);
+
+        String listSql = captureSql(() -> participantRepository.findActiveParticipantsByRoomId(FIRST_ROOM_ID));
+        assertUsesIndex(listSql, "idx_participants_room_active", FIRST_ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("2. 방 + 사용자 활성 참가 확인은 (room_id, user_id, left_at) 인덱스를 사용한다")
+    void testRoomUserActiveQuery() {
+        String sql = captureSql(() -> participantRepository.findActiveParticipant(FIRST_ROOM_ID, 3L));
+        assertUsesIndex(sql, "idx_participants_room_user_active", FIRST_ROOM_ID, 3L);
+    }
+
+    @Test
+    @DisplayName("3. 사용자별 최근 참여 방은 (user_id, joined_at, room_id) 인덱스를 사용한다")
+    void testRecentRoomsQuery() {
+        String sql = captureSql(() -> participantRepository.findRecentRoomIdsByUserId(3L, PageRequest.of(0, 20)));
+        assertUsesIndex(sql, "idx_participants_user_joined", 3L, 20);
+    }
+
+    // 리포지토리 메서드를 실행해 Hibernate가 실제로 만든 participants 조회 SQL을 가져옴
+    private String captureSql(Runnable repositoryCall) {
+        CapturingStatementInspector.clear();
+        repositoryCall.run();
+        List<String> captured = CapturingStatementInspector.captured();
+        assertThat(captured).as("participants 조회 SQL이 실행되지 않음").isNotEmpty();
+        return captured.get(captured.size() - 1);
+    }
+
+    private void assertUsesIndex(String sql, String indexName, Object... params) {
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("바인딩 파라미터 수: %s", sql)
+                .isEqualTo(params.length);
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params));
+
+        assertThat(plan)
+                .as("실행 계획: %s", plan)
+                .doesNotContainIgnoringCase("tableScan")
+                .containsIgnoringCase(indexName);
+    }
+
+    /**
+     * Hibernate가 준비하는 SQL 중 participants 조회문을 모아두는 StatementInspector
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> captured() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            // use_sql_comments로 붙는 JPQL 주석은 빼고 저장
+            String statement = sql.replaceFirst("(?s)^\\s*/\\*.*?\\*/\\s*", "");
+            if (statement.regionMatches(true, 0, "select", 0, 6) && statement.contains("participants")) {
+                STATEMENTS.add(statement);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.oreo.smore.domain.participant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.participant.exception.ParticipantException;
+import org.oreo.smore.domain.studyroom.StudyRoom;
+import org.oreo.smore.domain.studyroom.StudyRoomCategory;
+import org.oreo.smore.domain.studyroom.StudyRoomRepository;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 입장 정원 테스트
+ * - 같은 방에 수백 건의 입장 요청이 동시에 들어와도 maxParticipants를 넘지 않아야 함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ParticipantJoinConcurrencyTest {
+
+    private static final int MAX_PARTICIPANTS = 6;
+    private static final int JOIN_REQUESTS = 200;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.saveAndFlush(User.builder()
+                .email("capacity-owner@example.com")
+                .nickname("정원방장")
+                .name("정원 테스트 방장")
+                .createdAt(LocalDateTime.now())
+                .goalStudyTime(60)
+                .level("O")
+                .build());
+
+        roomId = studyRoomRepository.saveAndFlush(StudyRoom.builder()
+                .userId(owner.getUserId())
+                .title("동시 입장 테스트 방")
+                .category(StudyRoomCategory.SELF_STUDY)
+                .maxParticipants(MAX_PARTICIPANTS)
+                .build()).getRoomId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAll(participantRepository.findByRoomIdOrderByJoinedAtAsc(roomId));
+        studyRoomRepository.deleteById(roomId);
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("1. 동시에 200명이 입장해도 정원만큼만 입장되고 나머지는 RoomFullException")
+    void testConcurrentJoinsNeverExceedCapacity() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(JOIN_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < JOIN_REQUESTS; i++) {
+            long userId = 10_000L + i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    participantService.joinRoom(roomId, userId);
+                    admitted.incrementAndGet();
+                } catch (ParticipantException.RoomFullException e) {
+                    rejected.incrementAndGet();
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(admitted.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(rejected.get()).isEqualTo(JOIN_REQUESTS - MAX_PARTICIPANTS);
+        assertThat(participantRepository.countActiveParticipantsByRoomId(roomId)).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(studyRoomRepository.findById(roomId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(MAX_PARTICIPANTS);
+    }
+
+    @Test
+    @DisplayName("2. 퇴장하면 자리가 반환되어 다음 사용자가 입장할 수 있다")
+    void testLeaveReleasesSlot() {
+        for (int i = 0; i < MAX_PARTICIPANTS; i++) {
+            participantService.joinRoom(roomId, 20_000L + i);
+        }
+
+        List<Long> before = participantRepository.findActiveParticipantsByRoomId(roomId).stream()
+                .map(Participant::getUserId)
+                .toList();
+        assertThat(before).hasSize(MAX_PARTICIPANTS);
+
+        participantService.leaveRoom(roomId, 20_000L);
+        participantService.joinRoom(roomId, 30_000L);
+
+        assertThat(participantService.isUserInRoom(roomId, 30_000L)).isTrue();
+        assertThat(participantRepository.countActiveParticipantsByRoomId(roomId)).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(studyRoomRepository.findById(roomId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(MAX_PARTICIPANTS);
+    }
+}
@@ -0,0 +1,170 @@
+package org.oreo.smore.domain.participant;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.studyroom.StudyRoom;
+import org.oreo.smore.domain.studyroom.StudyRoomCategory;
+import org.oreo.smore.domain.studyroom.StudyRoomRepository;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.oreo.smore.domain.video.controller.VideoCallController;
+import org.oreo.smore.domain.video.dto.JoinRoomRequest;
+import org.oreo.smore.domain.video.dto.TokenResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컨트롤러 경로 동시 입장 정원 테스트
+ * - open-in-view처럼 요청마다 EntityManager를 열어 둔 상태에서 VideoCallController.joinRoom을 동시에 호출
+ * - 컨트롤러가 먼저 읽어 둔 StudyRoom이 잠금 조회 후에도 갱신되지 않아도 정원을 넘지 않아야 함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ParticipantJoinControllerConcurrencyTest {
+
+    private static final int MAX_PARTICIPANTS = 5;
+    private static final int JOIN_REQUESTS = 60;
+
+    @Autowired
+    private VideoCallController videoCallController;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private final List<User> joiners = new ArrayList<>();
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.saveAndFlush(newUser("controller-capacity-owner@example.com", "컨트롤러방장"));
+        for (int i = 0; i < JOIN_REQUESTS; i++) {
+            joiners.add(userRepository.saveAndFlush(
+                    newUser("controller-capacity-" + i + "@example.com", "입장자" + i)));
+        }
+
+        // 방장이 이미 입장한 방 (LiveKit 방 ID 보유)
+        StudyRoom room = StudyRoom.builder()
+                .userId(owner.getUserId())
+                .title("컨트롤러 동시 입장 테스트 방")
+                .category(StudyRoomCategory.SELF_STUDY)
+                .maxParticipants(MAX_PARTICIPANTS)
+                .build();
+        room.setLiveKitRoomId("study-room-controller-concurrency");
+        roomId = studyRoomRepository.saveAndFlush(room).getRoomId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAll(participantRepository.findByRoomIdOrderByJoinedAtAsc(roomId));
+        studyRoomRepository.deleteById(roomId);
+        userRepository.deleteAll(joiners);
+        userRepository.deleteById(owner.getUserId());
+        joiners.clear();
+    }
+
+    @Test
+    @DisplayName("1. open-in-view 상태로 컨트롤러에 동시 입장해도 정원만큼만 200, 나머지는 409")
+    void testConcurrentControllerJoinsNeverExceedCapacity() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch ready = new CountDownLatch(JOIN_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Queue<Object> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (User joiner : joiners) {
+            Long userId = joiner.getUserId();
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    HttpStatus status = joinWithOpenEntityManager(userId);
+                    if (status == HttpStatus.OK) {
+                        admitted.incrementAndGet();
+                    } else if (status == HttpStatus.CONFLICT) {
+                        rejected.incrementAndGet();
+                    } else {
+                        unexpected.add(status);
+                    }
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(admitted.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(rejected.get()).isEqualTo(JOIN_REQUESTS - MAX_PARTICIPANTS);
+        assertThat(participantRepository.countActiveParticipantsByRoomId(roomId)).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(studyRoomRepository.findById(roomId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(MAX_PARTICIPANTS);
+    }
+
+    // OpenEntityManagerInViewInterceptor와 같은 방식으로 요청 스레드에 EntityManager를 묶어 둔 채 호출
+    private HttpStatus joinWithOpenEntityManager(Long userId) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            ResponseEntity<TokenResponse> response = videoCallController.joinRoom(
+                    roomId,
+                    userId,
+                    JoinRoomRequest.builder().build(),
+                    new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()),
+                    new MockHttpServletRequest());
+            return HttpStatus.valueOf(response.getStatusCode().value());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    private User newUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .nickname(nickname)
+                .name(nickname)
+                .createdAt(LocalDateTime.now())
+                .goalStudyTime(60)
+                .level("O")
+                .build();
+    }
+}
@@ -38,6 +38,9 @@ class ParticipantServiceMuteAllTest {
     @Mock
     private StudyTimeRepository studyTimeRepository;
 
+    @Mock
+    private RoomPresenceRegistry roomPresenceRegistry;
+
     @InjectMocks
     private ParticipantService participantService;
 
@@ -13,10 +13,13 @@ import org.oreo.smore.domain.participant.dto.RoomInfo;
 import org.oreo.smore.domain.participant.exception.ParticipantException;
 import org.oreo.smore.domain.studyroom.StudyRoom;
 import org.oreo.smore.domain.studyroom.StudyRoomRepository;
+import org.oreo.smore.domain.studytime.StudyTime;
 import org.oreo.smore.domain.studytime.StudyTimeRepository;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +41,8 @@ class ParticipantServiceTest {
     private UserRepository userRepository;
     @Mock
     private StudyTimeRepository studyTimeRepository;
+    @Mock
+    private RoomPresenceRegistry roomPresenceRegistry;
 
     @InjectMocks
     private ParticipantService participantService;
@@ -74,18 +79,20 @@ class ParticipantServiceTest {
 
             // Users (닉네임/목표 공부시간)
             User user100 = mock(User.class);
+            when(user100.getUserId()).thenReturn(100L);
             when(user100.getNickname()).thenReturn("방장김철수");
             when(user100.getGoalStudyTime()).thenReturn(300);
 
             User user200 = mock(User.class);
+            when(user200.getUserId()).thenReturn(200L);
             when(user200.getNickname()).thenReturn("참가자이영희");
             when(user200.getGoalStudyTime()).thenReturn(240);
 
-            when(userRepository.findById(100L)).thenReturn(Optional.of(user100));
-            when(userRepository.findById(200L)).thenReturn(Optional.of(user200));
+            // 사용자 정보는 참가자 수와 관계없이 한 번에 조회
+            when(userRepository.findAllById(List.of(100L, 200L))).thenReturn(List.of(user100, user200));
 
             // 오늘 공부시간 계산은 내부에서 studyTimeRepository 호출 → 빈 리스트로 두면 0분 처리
-            when(studyTimeRepository.findAllByUserIdAndCreatedAtBetween(anyLong(), any(), any()))
+            when(studyTimeRepository.findAllByUserIdInAndCreatedAtBetween(anyCollection(), any(), any()))
                     .thenReturn(List.of());
 
             // when
@@ -123,7 +130,49 @@ class ParticipantServiceTest {
             // verify (선택)
             verify(studyRoomRepository).findById(roomId);
             verify(participantRepository).findActiveParticipantsByRoomId(roomId);
-            verify(userRepository, times(2)).findById(anyLong());
+            verify(userRepository).findAllById(List.of(100L, 200L));
+            verify(userRepository, never()).findById(anyLong());
+            verify(studyTimeRepository).findAllByUserIdInAndCreatedAtBetween(anyCollection(), any(), any());
+            verify(studyTimeRepository, never()).findAllByUserIdAndCreatedAtBetween(anyLong(), any(), any());
+        }
+
+        @Test
+        @DisplayName("성공: 오늘 공부시간은 한 번의 조회 결과를 사용자별로 합산")
+        void 성공_오늘공부시간_일괄합산() {
+            // given
+            Long roomId = 2L;
+
+            StudyRoom room = mock(StudyRoom.class);
+            when(room.getUserId()).thenReturn(100L);
+            when(room.isAllMuted()).thenReturn(false);
+            when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(room));
+
+            Participant owner = mock(Participant.class);
+            when(owner.getUserId()).thenReturn(100L);
+            Participant member = mock(Participant.class);
+            when(member.getUserId()).thenReturn(200L);
+            when(participantRepository.findActiveParticipantsByRoomId(roomId))
+                    .thenReturn(List.of(owner, member));
+
+            User user100 = mock(User.class);
+            when(user100.getUserId()).thenReturn(100L);
+            User user200 = mock(User.class);
+            when(user200.getUserId()).thenReturn(200L);
+            when(userRepository.findAllById(List.of(100L, 200L))).thenReturn(List.of(user100, user200));
+
+            // 100번: 10분 + 5분, 200번: 기록 없음
+            LocalDateTime base = LocalDate.now().atTime(9, 0);
+            when(studyTimeRepository.findAllByUserIdInAndCreatedAtBetween(anyCollection(), any(), any()))
+                    .thenReturn(List.of(
+                            StudyTime.builder().userId(100L).createdAt(base).deletedAt(base.plusMinutes(10)).build(),
+                            StudyTime.builder().userId(100L).createdAt(base.plusHours(1)).deletedAt(base.plusHours(1).plusMinutes(5)).build()));
+
+            // when
+            ParticipantStatusResponse res = participantService.getParticipantStatus(roomId);
+
+            // then
+            assertThat(res.getParticipants()).extracting(ParticipantInfo::getTodayStudyTime)
+                    .containsExactly(15 * 60, 0);
         }
 
         @Test
@@ -181,14 +230,26 @@ class ParticipantServiceTest {
         }
 
         @Test
-        @DisplayName("getActiveParticipantCount(roomId): 리포지토리 위임")
+        @DisplayName("getActiveParticipantCount(roomId): study_rooms.current_participants 조회")
         void getActiveParticipantCount() {
             Long roomId = 7L;
-            when(participantRepository.countActiveParticipantsByRoomId(roomId)).thenReturn(3L);
+            when(studyRoomRepository.findCurrentParticipantsById(roomId)).thenReturn(Optional.of(3));
 
             long count = participantService.getActiveParticipantCount(roomId);
             assertThat(count).isEqualTo(3L);
-            verify(participantRepository).countActiveParticipantsByRoomId(roomId);
+            verify(studyRoomRepository).findCurrentParticipantsById(roomId);
+            verifyNoInteractions(roomPresenceRegistry);
+        }
+
+        @Test
+        @DisplayName("isUserInRoom(roomId, userId): 다른 서버의 입장도 보이도록 DB에서 확인")
+        void isUserInRoom() {
+            Long roomId = 7L;
+            when(participantRepository.findActiveParticipant(roomId, 100L))
+                    .thenReturn(Optional.of(mock(Participant.class)));
+
+            assertThat(participantService.isUserInRoom(roomId, 100L)).isTrue();
+            verifyNoInteractions(roomPresenceRegistry);
         }
     }
 }
@@ -16,7 +16,6 @@ import org.oreo.smore.domain.studytime.StudyTimeRepository;
 import org.oreo.smore.domain.user.User;
 import org.oreo.smore.domain.user.UserRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -39,6 +38,9 @@ class ParticipantServiceUpdateTest {
     @Mock
     private StudyTimeRepository studyTimeRepository;
 
+    @Mock
+    private RoomPresenceRegistry roomPresenceRegistry;
+
     @InjectMocks
     private ParticipantService participantService;
 
@@ -86,8 +88,8 @@ class ParticipantServiceUpdateTest {
         Boolean videoEnabled = false;
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
-        when(participantRepository.findActiveParticipantsByRoomId(roomId))
-                .thenReturn(List.of(mockParticipant));
+        when(participantRepository.findActiveParticipant(roomId, userId))
+                .thenReturn(Optional.of(mockParticipant));
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
 
         // When
@@ -108,7 +110,7 @@ class ParticipantServiceUpdateTest {
 
         // Mock 호출 검증
         verify(studyRoomRepository).findById(roomId);
-        verify(participantRepository).findActiveParticipantsByRoomId(roomId);
+        verify(participantRepository).findActiveParticipant(roomId, userId);
         verify(userRepository).findById(userId);
     }
 
@@ -121,8 +123,8 @@ class ParticipantServiceUpdateTest {
         Boolean audioEnabled = true;
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
-        when(participantRepository.findActiveParticipantsByRoomId(roomId))
-                .thenReturn(List.of(mockParticipant));
+        when(participantRepository.findActiveParticipant(roomId, userId))
+                .thenReturn(Optional.of(mockParticipant));
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
 
         // 초기 상태 확인 (오디오: false, 비디오: true)
@@ -152,8 +154,8 @@ class ParticipantServiceUpdateTest {
         Boolean videoEnabled = false;
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
-        when(participantRepository.findActiveParticipantsByRoomId(roomId))
-                .thenReturn(List.of(mockParticipant));
+        when(participantRepository.findActiveParticipant(roomId, userId))
+                .thenReturn(Optional.of(mockParticipant));
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
 
         // 초기 상태 확인 (오디오: false, 비디오: true)
@@ -182,8 +184,8 @@ class ParticipantServiceUpdateTest {
         Long userId = 100L;
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
-        when(participantRepository.findActiveParticipantsByRoomId(roomId))
-                .thenReturn(List.of(mockParticipant));
+        when(participantRepository.findActiveParticipant(roomId, userId))
+                .thenReturn(Optional.of(mockParticipant));
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
 
         // 초기 상태: 마이크 꺼짐
@@ -205,8 +207,8 @@ class ParticipantServiceUpdateTest {
         Long userId = 100L;
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
-        when(participantRepository.findActiveParticipantsByRoomId(roomId))
-                .thenReturn(List.of(mockParticipant));
+        when(participantRepository.findActiveParticipant(roomId, userId))
+                .thenReturn(Optional.of(mockParticipant));
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
 
         // 초기 상태: 카메라 켜짐
@@ -247,8 +249,8 @@ class ParticipantServiceUpdateTest {
         Long userId = 999L;
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
-        when(participantRepository.findActiveParticipantsByRoomId(roomId))
-                .thenReturn(List.of()); // 빈 리스트
+        when(participantRepository.findActiveParticipant(roomId, userId))
+                .thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> participantService.updatePersonalMediaStatus(
@@ -257,7 +259,7 @@ class ParticipantServiceUpdateTest {
                 .hasMessageContaining("방 1에서 사용자 999를 찾을 수 없습니다");
 
         verify(studyRoomRepository).findById(roomId);
-        verify(participantRepository).findActiveParticipantsByRoomId(roomId);
+        verify(participantRepository).findActiveParticipant(roomId, userId);
         verifyNoInteractions(userRepository);
     }
 
@@ -269,8 +271,8 @@ class ParticipantServiceUpdateTest {
         Long userId = 100L;
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
-        when(participantRepository.findActiveParticipantsByRoomId(roomId))
-                .thenReturn(List.of(mockParticipant));
+        when(participantRepository.findActiveParticipant(roomId, userId))
+                .thenReturn(Optional.of(mockParticipant));
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         // When & Then
@@ -280,7 +282,7 @@ class ParticipantServiceUpdateTest {
                 .hasMessageContaining("사용자를 찾을 수 없습니다: 100");
 
         verify(studyRoomRepository).findById(roomId);
-        verify(participantRepository).findActiveParticipantsByRoomId(roomId);
+        verify(participantRepository).findActiveParticipant(roomId, userId);
         verify(userRepository).findById(userId);
     }
 
@@ -292,8 +294,8 @@ class ParticipantServiceUpdateTest {
         Long userId = 100L;
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
-        when(participantRepository.findActiveParticipantsByRoomId(roomId))
-                .thenReturn(List.of(mockParticipant));
+        when(participantRepository.findActiveParticipant(roomId, userId))
+                .thenReturn(Optional.of(mockParticipant));
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
 
         // 1. 둘 다 켜기
@@ -329,8 +331,8 @@ class ParticipantServiceUpdateTest {
         Long userId = 100L;
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
-        when(participantRepository.findActiveParticipantsByRoomId(roomId))
-                .thenReturn(List.of(mockParticipant));
+        when(participantRepository.findActiveParticipant(roomId, userId))
+                .thenReturn(Optional.of(mockParticipant));
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
 
         // 초기 상태: false
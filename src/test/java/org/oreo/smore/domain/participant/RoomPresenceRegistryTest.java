@@ -0,0 +1,103 @@
+package org.oreo.smore.domain.participant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RoomPresenceRegistry 단위 테스트")
+class RoomPresenceRegistryTest {
+
+    private final Long roomId = 1L;
+
+    private ParticipantRepository participantRepository;
+    private RoomPresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        participantRepository = mock(ParticipantRepository.class);
+        when(participantRepository.findActiveParticipantsByRoomId(roomId))
+                .thenReturn(List.of(participant(100L), participant(200L)));
+        registry = new RoomPresenceRegistry(participantRepository, 60);
+    }
+
+    @Test
+    @DisplayName("1. 처음 한 번만 DB에서 채우고 이후 참가 여부/인원 수는 메모리에서 확인")
+    void testLoadsOnce() {
+        assertThat(registry.count(roomId)).isEqualTo(2);
+        assertThat(registry.contains(roomId, 100L)).isTrue();
+        assertThat(registry.contains(roomId, 300L)).isFalse();
+
+        verify(participantRepository, times(1)).findActiveParticipantsByRoomId(roomId);
+    }
+
+    @Test
+    @DisplayName("2. 참가/퇴장/미디어 변경이 레지스트리에 반영된다")
+    void testUpsertAndRemove() {
+        registry.count(roomId);
+
+        Participant newcomer = participant(300L);
+        newcomer.disableAudio("본인");
+        registry.upsert(newcomer);
+        registry.remove(roomId, 100L);
+
+        assertThat(registry.count(roomId)).isEqualTo(2);
+        assertThat(registry.contains(roomId, 100L)).isFalse();
+        assertThat(registry.get(roomId, 300L)).hasValueSatisfying(state -> {
+            assertThat(state.audioEnabled()).isFalse();
+            assertThat(state.videoEnabled()).isTrue();
+        });
+        verify(participantRepository, times(1)).findActiveParticipantsByRoomId(roomId);
+    }
+
+    @Test
+    @DisplayName("3. 방 무효화 후에는 DB에서 다시 채운다")
+    void testEvictRoomReloads() {
+        registry.count(roomId);
+        registry.evictRoom(roomId);
+        registry.count(roomId);
+
+        verify(participantRepository, times(2)).findActiveParticipantsByRoomId(roomId);
+    }
+
+    @Test
+    @DisplayName("4. 마지막 참가자가 나가 빈 방이 되면 항목을 지우고, 빈 방 조회 결과는 보관하지 않는다")
+    void testEmptyRoomIsNotKept() {
+        registry.count(roomId);
+        registry.remove(roomId, 100L);
+        registry.remove(roomId, 200L);
+
+        when(participantRepository.findActiveParticipantsByRoomId(roomId)).thenReturn(List.of());
+        assertThat(registry.count(roomId)).isZero();
+        assertThat(registry.count(roomId)).isZero();
+
+        verify(participantRepository, times(3)).findActiveParticipantsByRoomId(roomId);
+    }
+
+    @Test
+    @DisplayName("5. 방을 제거하면 다음 조회 때 DB에서 다시 채우고, 채우는 도중 제거된 결과는 보관하지 않는다")
+    void testRemoveRoomDuringLoad() {
+        registry.count(roomId);
+        registry.removeRoom(roomId);
+
+        when(participantRepository.findActiveParticipantsByRoomId(roomId)).thenAnswer(invocation -> {
+            registry.removeRoom(roomId);
+            return List.of(participant(100L));
+        });
+        assertThat(registry.count(roomId)).isEqualTo(1);
+        assertThat(registry.count(roomId)).isEqualTo(1);
+
+        verify(participantRepository, times(3)).findActiveParticipantsByRoomId(roomId);
+    }
+
+    private Participant participant(Long userId) {
+        return Participant.builder()
+                .roomId(roomId)
+                .userId(userId)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package org.oreo.smore.domain.point;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.point.dto.response.OreoDrawHistoryResponse;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오레오 뽑기 기록 테스트
+ * - level은 뽑기 횟수와 관계없이 최근 결과만 유지하고, 전체 결과는 기록 페이지로 조회
+ */
+@SpringBootTest(properties = "app.point.draw.level-window=5")
+@ActiveProfiles("test")
+@Transactional
+class OreoDrawHistoryTest {
+
+    @Autowired
+    private OreoDrawHistory oreoDrawHistory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.saveAndFlush(User.builder()
+                .email("draw-history@example.com")
+                .nickname("기록테스터")
+                .name("기록 테스터")
+                .createdAt(LocalDateTime.now())
+                .goalStudyTime(60)
+                .level("O")
+                .build());
+    }
+
+    @Test
+    @DisplayName("1. 64회 묶음 경계를 넘는 기록도 최신순으로 빠짐없이 페이지 조회된다")
+    void testHistoryPagesAcrossChunks() {
+        List<String> expected = new ArrayList<>();
+        for (int batch = 0; batch < 15; batch++) {
+            List<String> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add((batch * 10 + i) % 3 == 0 ? "RE" : "O");
+            }
+            oreoDrawHistory.append(user, results);
+            expected.addAll(results);
+        }
+
+        assertThat(user.getDrawCount()).isEqualTo(150L);
+        assertThat(user.getLevel()).isEqualTo("O" + String.join("", expected.subList(145, 150)));
+
+        List<String> pagedNewestFirst = new ArrayList<>();
+        for (int page = 0; page < 4; page++) {
+            OreoDrawHistoryResponse response = oreoDrawHistory.page(user.getUserId(), user.getDrawCount(), page, 40);
+            response.getDraws().forEach(entry -> pagedNewestFirst.add(entry.getResult()));
+            if (page == 0) {
+                assertThat(response.getDraws().get(0).getDrawNo()).isEqualTo(150L);
+            }
+        }
+        List<String> reversed = new ArrayList<>(expected);
+        Collections.reverse(reversed);
+        assertThat(pagedNewestFirst).isEqualTo(reversed);
+    }
+
+    @Test
+    @DisplayName("2. 이전 방식으로 쌓인 level은 기록으로 옮기고 최근 결과만 남긴다")
+    void testMigratesLegacyLevel() {
+        user.setLevel("O" + "ORE".repeat(40));
+        userRepository.saveAndFlush(user);
+
+        assertThat(oreoDrawHistory.migrateLegacyLevel(user.getUserId())).isTrue();
+
+        User migrated = userRepository.findById(user.getUserId()).orElseThrow();
+        assertThat(migrated.getDrawCount()).isEqualTo(80L);
+        assertThat(migrated.getLevel()).isEqualTo("O" + "RE" + "ORE".repeat(2));
+        assertThat(oreoDrawHistory.page(migrated.getUserId(), 80L, 0, 200).getDraws()).hasSize(80);
+        assertThat(oreoDrawHistory.migrateLegacyLevel(user.getUserId())).isFalse();
+    }
+}
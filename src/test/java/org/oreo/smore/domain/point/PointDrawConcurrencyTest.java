@@ -0,0 +1,222 @@
+package org.oreo.smore.domain.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.point.dto.response.OreoDrawsResponse;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오레오 뽑기 동시성 테스트
+ * - 같은 사용자의 뽑기 요청이 동시에 몰려도 잔액보다 많이 차감되거나 음수가 되면 안 됨
+ * - 뽑기와 겹친 프로필 수정이 draw_count/level을 덮어쓰면 안 됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PointDrawConcurrencyTest {
+
+    private static final int AFFORDABLE_DRAWS = 100;
+    private static final int DRAW_REQUESTS = 1_000;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointLedger pointLedger;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private UserPointBalanceRepository userPointBalanceRepository;
+
+    @Autowired
+    private PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    @Autowired
+    private OreoDrawChunkRepository oreoDrawChunkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.saveAndFlush(User.builder()
+                .email("draw-stress@example.com")
+                .nickname("뽑기테스터")
+                .name("뽑기 테스터")
+                .createdAt(LocalDateTime.now())
+                .goalStudyTime(60)
+                .level("O")
+                .build()).getUserId();
+        pointLedger.record(userId, AFFORDABLE_DRAWS * 100, "테스트 지급");
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointRepository.deleteAll(pointRepository.findAll().stream()
+                .filter(p -> p.getUserId().equals(userId))
+                .toList());
+        pointBalanceSnapshotRepository.deleteAll(pointBalanceSnapshotRepository.findAll().stream()
+                .filter(s -> s.getUserId().equals(userId))
+                .toList());
+        oreoDrawChunkRepository.deleteAll(oreoDrawChunkRepository
+                .findAllByUserIdAndChunkNoBetweenOrderByChunkNoAsc(userId, 0L, Long.MAX_VALUE));
+        userPointBalanceRepository.deleteById(userId);
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("1. 1000건 동시 뽑기: 잔액만큼만 성공하고 잔액은 음수가 되지 않는다")
+    void testConcurrentDrawsNeverOverdraw() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < DRAW_REQUESTS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    long remaining = pointService.drawOreo(userId).getUpdatedPoints();
+                    assertThat(remaining).isGreaterThanOrEqualTo(0);
+                    succeeded.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    if (e.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                        rejected.incrementAndGet();
+                    } else {
+                        unexpected.add(e);
+                    }
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(120, TimeUnit.SECONDS)).isTrue();
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        System.out.printf("뽑기 %d건 처리: %.2f초 (%.0f건/초)%n", DRAW_REQUESTS, seconds, DRAW_REQUESTS / seconds);
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(AFFORDABLE_DRAWS);
+        assertThat(rejected.get()).isEqualTo(DRAW_REQUESTS - AFFORDABLE_DRAWS);
+
+        assertThat(pointLedger.getBalance(userId)).isZero();
+        assertThat(pointRepository.sumDeltaByUserId(userId)).isZero();
+        // 결과가 하나도 유실되지 않고 뽑기 기록에 남음
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.getDrawCount()).isEqualTo((long) AFFORDABLE_DRAWS);
+        assertThat(pointService.getDrawHistory(userId, 0, 200).getDraws()).hasSize(AFFORDABLE_DRAWS);
+    }
+
+    @Test
+    @DisplayName("2. N회 뽑기는 한 번에 차감되고, 잔액이 부족하면 아무것도 차감되지 않는다")
+    void testBulkDrawIsAllOrNothing() {
+        OreoDrawsResponse response = pointService.drawOreos(userId, 10);
+        assertThat(response.getResults()).hasSize(10);
+        assertThat(response.getUpdatedPoints()).isEqualTo((AFFORDABLE_DRAWS - 10) * 100L);
+
+        // 남은 90회분보다 많이 요청하면 전부 취소 (10회씩 9번은 가능)
+        for (int i = 0; i < 9; i++) {
+            pointService.drawOreos(userId, 10);
+        }
+        assertThatThrownBy(() -> pointService.drawOreos(userId, 1))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(pointLedger.getBalance(userId)).isZero();
+        assertThat(pointRepository.sumDeltaByUserId(userId)).isZero();
+    }
+
+    @Test
+    @DisplayName("3. 뽑기 전에 읽어 둔 사용자로 프로필을 수정해도 뽑기 결과가 유실되지 않는다")
+    void testProfileUpdateDoesNotOverwriteDrawCount() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            transaction.executeWithoutResult(status -> {
+                // 프로필 수정 트랜잭션이 뽑기 전 상태(drawCount=0)를 읽어 둠
+                User stale = userRepository.findById(userId).orElseThrow();
+                assertThat(stale.getDrawCount()).isZero();
+
+                // 그 사이 다른 요청의 뽑기 5회가 커밋됨
+                Future<OreoDrawsResponse> draw = executor.submit(() -> pointService.drawOreos(userId, 5));
+                try {
+                    draw.get(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+
+                stale.setGoalStudyTime(120);
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.getGoalStudyTime()).isEqualTo(120);
+        assertThat(user.getDrawCount()).isEqualTo(5L);
+        assertThat(OreoDrawHistory.parseResults(user.getLevel())).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("4. 잔액 행이 없는 기존 사용자의 첫 기록이 동시에 몰려도 중복 키 없이 모두 반영된다")
+    void testConcurrentFirstRecordsSeedBalanceOnce() throws Exception {
+        // 잔액 행 도입 이전 사용자처럼 원장만 남김
+        userPointBalanceRepository.deleteById(userId);
+
+        int requests = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < requests; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    pointLedger.record(userId, 10, "출석");
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(unexpected).isEmpty();
+        long expected = AFFORDABLE_DRAWS * 100L + requests * 10L;
+        assertThat(userPointBalanceRepository.findBalanceByUserId(userId)).contains(expected);
+        assertThat(pointRepository.sumDeltaByUserId(userId)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,98 @@
+package org.oreo.smore.domain.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포인트 원장 + 잔액 테스트
+ * - 잔액은 원장 합계와 항상 같아야 하고, 정합성 검사는 불일치를 찾아 복구할 수 있어야 함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PointLedgerTest {
+
+    @Autowired
+    private PointLedger pointLedger;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private UserPointBalanceRepository userPointBalanceRepository;
+
+    @Autowired
+    private PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    private final Long userId = 7_001L;
+
+    @Test
+    @DisplayName("1. 적립/차감마다 잔액 행이 원장 합계와 같게 갱신된다")
+    void testRecordKeepsBalanceInSync() {
+        assertThat(pointLedger.record(userId, 550, "가입 기념 지급")).isEqualTo(550);
+        assertThat(pointLedger.record(userId, -100, "오레오 뽑기")).isEqualTo(450);
+        assertThat(pointLedger.record(userId, 30, "출석")).isEqualTo(480);
+
+        assertThat(pointLedger.getBalance(userId)).isEqualTo(480);
+        assertThat(userPointBalanceRepository.findBalanceByUserId(userId)).contains(480L);
+        assertThat(pointRepository.sumDeltaByUserId(userId)).isEqualTo(480);
+    }
+
+    @Test
+    @DisplayName("2. 잔액 행이 없던 기존 사용자는 첫 기록 시 원장 합계로 초기화된다")
+    void testLegacyUserInitializedFromLedger() {
+        pointRepository.save(Point.builder()
+                .userId(userId)
+                .delta(300)
+                .reason("도입 이전 기록")
+                .timestamp(LocalDateTime.now())
+                .build());
+        assertThat(pointLedger.getBalance(userId)).isEqualTo(300);
+
+        assertThat(pointLedger.record(userId, -100, "오레오 뽑기")).isEqualTo(200);
+        assertThat(userPointBalanceRepository.findBalanceByUserId(userId)).contains(200L);
+    }
+
+    @Test
+    @DisplayName("3. 정합성 검사: 일치하면 스냅샷을 남기고, 이후 검사는 스냅샷부터 이어서 비교한다")
+    void testReconcileCreatesSnapshot() {
+        pointLedger.record(userId, 550, "가입 기념 지급");
+        pointLedger.record(userId, -100, "오레오 뽑기");
+
+        PointLedger.ReconcileResult first = pointLedger.reconcile(userId, false);
+        assertThat(first.matched()).isTrue();
+        assertThat(pointBalanceSnapshotRepository.findTopByUserIdOrderBySnapshotIdDesc(userId))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.getBalance()).isEqualTo(450));
+
+        pointLedger.record(userId, -100, "오레오 뽑기");
+        PointLedger.ReconcileResult second = pointLedger.reconcile(userId, false);
+        assertThat(second.matched()).isTrue();
+        assertThat(second.ledger()).isEqualTo(350);
+    }
+
+    @Test
+    @DisplayName("4. 정합성 검사: 잔액이 어긋나면 불일치로 보고하고 repair 시 원장 기준으로 복구한다")
+    void testReconcileDetectsAndRepairsMismatch() {
+        pointLedger.record(userId, 550, "가입 기념 지급");
+        UserPointBalance balance = userPointBalanceRepository.findById(userId).orElseThrow();
+        balance.setBalance(9_999L);
+        userPointBalanceRepository.saveAndFlush(balance);
+
+        PointLedger.ReconcileResult detected = pointLedger.reconcile(userId, false);
+        assertThat(detected.matched()).isFalse();
+        assertThat(detected.balance()).isEqualTo(9_999L);
+        assertThat(detected.ledger()).isEqualTo(550);
+
+        pointLedger.reconcile(userId, true);
+        assertThat(pointLedger.reconcile(userId, false).matched()).isTrue();
+        assertThat(pointLedger.getBalance(userId)).isEqualTo(550);
+    }
+}
@@ -28,6 +28,15 @@ public class StudyRoomCreationServiceTest {
     @Mock
     private StudyRoomRepository studyRoomRepository;
 
+    @Mock
+    private StudyRoomSearchIndex searchIndex;
+
+    @Mock
+    private StudyRoomPopularityRanking popularityRanking;
+
+    @Mock
+    private StudyRoomListPageCache listPageCache;
+
     @InjectMocks
     private StudyRoomCreationService studyRoomCreationService;
 
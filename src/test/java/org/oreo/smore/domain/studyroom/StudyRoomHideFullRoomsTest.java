@@ -0,0 +1,171 @@
+package org.oreo.smore.domain.studyroom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.participant.ParticipantRepository;
+import org.oreo.smore.domain.participant.ParticipantService;
+import org.oreo.smore.domain.studyroom.dto.StudyRoomInfoReadResponse;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.oreo.smore.global.common.CursorPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * hideFullRooms 페이징 테스트
+ * - 꽉 찬 방은 조회 단계에서 빠져 페이지가 limit만큼 채워지고 nextCursor/hasNext가 정확해야 함
+ * - 목록 페이지 캐시를 켜도 그 사이 꽉 찬 방 때문에 페이지가 짧아지지 않아야 함
+ * - 인기순은 캐시하지 않으므로 참가자 수가 바뀌면 바로 순서에 반영되어야 함
+ * - 인기순 커서는 Redis 랭킹과 DB 경로 모두 같은 score 형식이어야 함
+ */
+@SpringBootTest(properties = "app.studyroom.list-cache.enabled=true")
+@ActiveProfiles("test")
+class StudyRoomHideFullRoomsTest {
+
+    @Autowired
+    private StudyRoomService studyRoomService;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private final List<Long> roomIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.saveAndFlush(User.builder()
+                .email("hide-full-owner@example.com")
+                .nickname("정원필터방장")
+                .name("정원 필터 테스트 방장")
+                .createdAt(LocalDateTime.now())
+                .goalStudyTime(60)
+                .level("O")
+                .build());
+
+        // roomId 오름차순: 열림, 꽉 참, 열림, 꽉 참, 꽉 참
+        boolean[] full = {false, true, false, true, true};
+        for (int i = 0; i < full.length; i++) {
+            Long roomId = studyRoomRepository.saveAndFlush(StudyRoom.builder()
+                    .userId(owner.getUserId())
+                    .title("정원 필터 방 " + i)
+                    .category(StudyRoomCategory.CERTIFICATION)
+                    .maxParticipants(1)
+                    .build()).getRoomId();
+            roomIds.add(roomId);
+            if (full[i]) {
+                participantService.joinRoom(roomId, 40_000L + i);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long roomId : roomIds) {
+            participantRepository.deleteAll(participantRepository.findByRoomIdOrderByJoinedAtAsc(roomId));
+            studyRoomRepository.deleteById(roomId);
+        }
+        roomIds.clear();
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("1. 필터 없는 목록: 최신 방들이 꽉 차 있어도 빈자리 있는 방으로 페이지가 채워진다")
+    void testUnfilteredPagesStayFull() {
+        Long openNewer = roomIds.get(2);
+        Long openOlder = roomIds.get(0);
+
+        CursorPage<StudyRoomInfoReadResponse> first =
+                studyRoomService.listStudyRooms(1L, 1, null, null, "latest", true);
+
+        assertThat(first.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId).containsExactly(openNewer);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(openNewer);
+
+        CursorPage<StudyRoomInfoReadResponse> second =
+                studyRoomService.listStudyRooms(first.getNextCursor(), 1, null, null, "latest", true);
+
+        assertThat(second.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId).containsExactly(openOlder);
+    }
+
+    @Test
+    @DisplayName("2. 카테고리 목록도 꽉 찬 방을 쿼리에서 제외한다")
+    void testCategoryPagesStayFull() {
+        // 인기순 커서 = 랭킹 score (참가자 0명, 이 테스트 방들부터)
+        CursorPage<StudyRoomInfoReadResponse> page = studyRoomService.listStudyRooms(
+                StudyRoomPopularityRanking.score(0, roomIds.get(4) + 1), 2, null, "CERTIFICATION", "popular", true);
+
+        assertThat(page.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId)
+                .containsExactly(roomIds.get(2), roomIds.get(0));
+        assertThat(page.getContent()).allSatisfy(room ->
+                assertThat(room.getCurrentParticipants()).isLessThan(room.getMaxParticipants()));
+    }
+
+    @Test
+    @DisplayName("3. 목록 캐시를 켜도 조회 사이에 방이 꽉 차면 다음 빈자리 방으로 페이지가 채워진다")
+    void testPageStaysFullWhenRoomFillsBetweenRequests() {
+        Long openNewer = roomIds.get(2);
+        Long openOlder = roomIds.get(0);
+
+        CursorPage<StudyRoomInfoReadResponse> before =
+                studyRoomService.listStudyRooms(1L, 1, null, null, "latest", true);
+        assertThat(before.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId).containsExactly(openNewer);
+
+        participantService.joinRoom(openNewer, 40_100L);
+
+        CursorPage<StudyRoomInfoReadResponse> after =
+                studyRoomService.listStudyRooms(1L, 1, null, null, "latest", true);
+        assertThat(after.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId).containsExactly(openOlder);
+    }
+
+    @Test
+    @DisplayName("4. 목록 캐시를 켜도 인기순은 참가자 수가 바뀐 순서 그대로 보인다")
+    void testPopularOrderFollowsParticipantChanges() {
+        long cursor = StudyRoomPopularityRanking.score(1, roomIds.get(4) + 1);
+        CursorPage<StudyRoomInfoReadResponse> before =
+                studyRoomService.listStudyRooms(cursor, 5, null, "CERTIFICATION", "popular", false);
+        assertThat(before.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId)
+                .containsExactly(roomIds.get(4), roomIds.get(3), roomIds.get(1), roomIds.get(2), roomIds.get(0));
+
+        participantService.joinRoom(roomIds.get(2), 40_200L);
+
+        CursorPage<StudyRoomInfoReadResponse> after =
+                studyRoomService.listStudyRooms(cursor, 5, null, "CERTIFICATION", "popular", false);
+        assertThat(after.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId)
+                .containsExactly(roomIds.get(4), roomIds.get(3), roomIds.get(2), roomIds.get(1), roomIds.get(0));
+    }
+
+    @Test
+    @DisplayName("5. 인기순 nextCursor는 (참가자 수, roomId) score라 다음 페이지가 빠짐없이 이어진다")
+    void testPopularNextCursorIsScore() {
+        CursorPage<StudyRoomInfoReadResponse> first = studyRoomService.listStudyRooms(
+                StudyRoomPopularityRanking.score(1, roomIds.get(4) + 1), 2, null, "CERTIFICATION", "popular", false);
+        assertThat(first.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId)
+                .containsExactly(roomIds.get(4), roomIds.get(3));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(StudyRoomPopularityRanking.score(1, roomIds.get(3)));
+
+        CursorPage<StudyRoomInfoReadResponse> second = studyRoomService.listStudyRooms(
+                first.getNextCursor(), 2, null, "CERTIFICATION", "popular", false);
+        assertThat(second.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId)
+                .containsExactly(roomIds.get(1), roomIds.get(2));
+        assertThat(second.getNextCursor()).isEqualTo(StudyRoomPopularityRanking.score(0, roomIds.get(2)));
+    }
+}
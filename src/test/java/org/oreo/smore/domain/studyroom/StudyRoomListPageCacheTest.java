@@ -0,0 +1,102 @@
+package org.oreo.smore.domain.studyroom;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.studyroom.dto.StudyRoomInfoReadResponse;
+import org.oreo.smore.global.common.CursorPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StudyRoomListPageCache 단위 테스트")
+class StudyRoomListPageCacheTest {
+
+    private final StudyRoomListPageCache.PageKey firstPage =
+            StudyRoomListPageCache.PageKey.of(Long.MAX_VALUE, 10, null, "latest");
+
+    private StudyRoomPopularityRanking popularityRanking;
+    private StudyRoomRepository roomRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private StudyRoomListPageCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        popularityRanking = mock(StudyRoomPopularityRanking.class);
+        roomRepository = mock(StudyRoomRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new StudyRoomListPageCache(popularityRanking, roomRepository, meterRegistry, true, 60_000, 100);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("1. 같은 키는 한 번만 조회하고 이후에는 참가자 수만 실시간 값으로 보정한다")
+    void testHitPatchesCounts() {
+        when(roomRepository.findCurrentParticipantsByRoomIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(new Object[]{2L, 4}, new Object[]{1L, 0}));
+
+        cache.get(firstPage, this::load);
+        CursorPage<StudyRoomInfoReadResponse> hit = cache.get(firstPage, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(hit.getContent()).extracting(StudyRoomInfoReadResponse::getCurrentParticipants)
+                .containsExactly(4L, 0L);
+        assertThat(hit.isHasNext()).isTrue();
+        assertThat(hit.getNextCursor()).isEqualTo(1L);
+        assertThat(meterRegistry.counter("studyroom.list.cache", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("studyroom.list.cache", "result", "miss").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("studyroom.list.cache.patched").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.timer("studyroom.list.cache.staleness").count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("2. 랭킹을 쓸 수 있으면 DB 대신 랭킹의 참가자 수로 보정하고, 그 사이 꽉 찬 방도 빼지 않아 페이지 길이가 유지된다")
+    void testPatchFromRankingKeepsPageLength() {
+        when(popularityRanking.isAvailable()).thenReturn(true);
+        when(popularityRanking.counts(List.of(2L, 1L))).thenReturn(Map.of(2L, 6L, 1L, 1L));
+
+        cache.get(firstPage, this::load);
+        CursorPage<StudyRoomInfoReadResponse> hit = cache.get(firstPage, this::load);
+
+        assertThat(hit.getContent()).extracting(StudyRoomInfoReadResponse::getRoomId).containsExactly(2L, 1L);
+        assertThat(hit.getContent()).extracting(StudyRoomInfoReadResponse::getCurrentParticipants)
+                .containsExactly(6L, 1L);
+        verifyNoInteractions(roomRepository);
+    }
+
+    @Test
+    @DisplayName("3. 방 생성/삭제로 무효화되면 다시 조회한다")
+    void testInvalidateAll() {
+        cache.get(firstPage, this::load);
+        cache.invalidateAll();
+        cache.get(firstPage, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private CursorPage<StudyRoomInfoReadResponse> load() {
+        loads.incrementAndGet();
+        List<StudyRoomInfoReadResponse> rooms = new ArrayList<>(List.of(room(2L, 1L), room(1L, 1L)));
+        CursorPage<StudyRoomInfoReadResponse> page = new CursorPage<>();
+        page.setContent(rooms);
+        page.setHasNext(true);
+        page.setNextCursor(1L);
+        return page;
+    }
+
+    private StudyRoomInfoReadResponse room(Long roomId, long currentParticipants) {
+        return StudyRoomInfoReadResponse.builder()
+                .roomId(roomId)
+                .title("방 " + roomId)
+                .maxParticipants(6)
+                .currentParticipants(currentParticipants)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package org.oreo.smore.domain.studyroom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.participant.Participant;
+import org.oreo.smore.domain.participant.ParticipantRepository;
+import org.oreo.smore.domain.participant.ParticipantService;
+import org.oreo.smore.domain.user.User;
+import org.oreo.smore.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * study_rooms.current_participants 유지 테스트
+ * - 입장/퇴장/강퇴 시 ±1, 어긋난 값은 재집계 작업이 participants 원본 기준으로 맞춤
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StudyRoomParticipantCountTest {
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private StudyRoomRepository studyRoomRepository;
+
+    @Autowired
+    private StudyRoomParticipantCountRepairJob repairJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.saveAndFlush(User.builder()
+                .email("counter-owner@example.com")
+                .nickname("참가자수방장")
+                .name("참가자 수 테스트 방장")
+                .createdAt(LocalDateTime.now())
+                .goalStudyTime(60)
+                .level("O")
+                .build());
+
+        roomId = studyRoomRepository.saveAndFlush(StudyRoom.builder()
+                .userId(owner.getUserId())
+                .title("참가자 수 테스트 방")
+                .category(StudyRoomCategory.SELF_STUDY)
+                .maxParticipants(6)
+                .build()).getRoomId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAll(participantRepository.findByRoomIdOrderByJoinedAtAsc(roomId));
+        studyRoomRepository.deleteById(roomId);
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("1. 입장/퇴장/강퇴가 current_participants에 반영된다")
+    void testJoinLeaveBan() {
+        participantService.joinRoom(roomId, 50_001L);
+        participantService.joinRoom(roomId, 50_002L);
+        participantService.joinRoom(roomId, 50_003L);
+        // 이미 참가 중인 사용자의 재입장은 증가하지 않음
+        participantService.joinRoom(roomId, 50_001L);
+        assertThat(currentParticipants()).isEqualTo(3);
+
+        participantService.leaveRoom(roomId, 50_001L);
+        participantService.banParticipant(roomId, 50_002L);
+
+        assertThat(currentParticipants()).isEqualTo(1);
+        assertThat((long) currentParticipants()).isEqualTo(participantRepository.countActiveParticipantsByRoomId(roomId));
+    }
+
+    @Test
+    @DisplayName("2. 카운터를 거치지 않은 변경은 재집계 작업이 원본 기준으로 보정한다")
+    void testRepair() {
+        participantService.joinRoom(roomId, 60_001L);
+        participantRepository.saveAndFlush(Participant.builder()
+                .roomId(roomId)
+                .userId(60_002L)
+                .build());
+        assertThat(currentParticipants()).isEqualTo(1);
+
+        assertThat(repairJob.repair()).isGreaterThanOrEqualTo(1);
+
+        assertThat(currentParticipants()).isEqualTo(2);
+    }
+
+    private int currentParticipants() {
+        return studyRoomRepository.findById(roomId).orElseThrow().getCurrentParticipants();
+    }
+}
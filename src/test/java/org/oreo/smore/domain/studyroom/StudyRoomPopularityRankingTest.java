@@ -0,0 +1,151 @@
+package org.oreo.smore.domain.studyroom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StudyRoomPopularityRanking 단위 테스트")
+class StudyRoomPopularityRankingTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ZSetOperations<String, String> zSet;
+    private ValueOperations<String, String> values;
+    private StudyRoomRepository roomRepository;
+    private StudyRoomPopularityRanking ranking;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        zSet = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+        values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        roomRepository = mock(StudyRoomRepository.class);
+        ranking = new StudyRoomPopularityRanking(redisTemplate, roomRepository, true, 2, 60_000L);
+    }
+
+    @Test
+    @DisplayName("1. 참가자 수가 같으면 roomId가 큰 방이 앞, score가 곧 다음 페이지 커서")
+    void testScoreOrdering() {
+        long busy = StudyRoomPopularityRanking.score(3, 1L);
+        long quietNew = StudyRoomPopularityRanking.score(2, 9L);
+        long quietOld = StudyRoomPopularityRanking.score(2, 5L);
+
+        assertThat(busy).isGreaterThan(quietNew);
+        assertThat(quietNew).isGreaterThan(quietOld);
+        // double로 저장해도 정확히 보존되는 범위
+        assertThat((long) (double) StudyRoomPopularityRanking.score(5_000, 999_999_999L))
+                .isEqualTo(StudyRoomPopularityRanking.score(5_000, 999_999_999L));
+    }
+
+    @Test
+    @DisplayName("2. 커서 다음부터 빈자리 있는 방 집합을 카테고리별로 조회한다")
+    void testPageUsesOpenCategorySet() {
+        long cursor = StudyRoomPopularityRanking.score(3, 7L);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        tuples.add(ZSetOperations.TypedTuple.of("4", (double) StudyRoomPopularityRanking.score(3, 4L)));
+        tuples.add(ZSetOperations.TypedTuple.of("8", (double) StudyRoomPopularityRanking.score(1, 8L)));
+        when(zSet.reverseRangeByScoreWithScores("room:popular:LANGUAGE:open", 0, cursor - 1, 0, 3))
+                .thenReturn(tuples);
+
+        List<StudyRoomPopularityRanking.RankedRoom> page =
+                ranking.page(StudyRoomCategory.LANGUAGE, true, cursor, 3);
+
+        assertThat(page).extracting(StudyRoomPopularityRanking.RankedRoom::roomId).containsExactly(4L, 8L);
+        assertThat(page).extracting(StudyRoomPopularityRanking.RankedRoom::participantCount).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("3. 정원이 찬 방은 전체 집합에만 남고 open 집합에서는 빠진다")
+    void testRefreshFullRoom() {
+        when(roomRepository.findCapacityById(7L))
+                .thenReturn(Optional.of(new StudyRoomCapacity(7L, 2, 2, StudyRoomCategory.LANGUAGE)));
+
+        ranking.refresh(7L);
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("room:popular:all", "room:popular:LANGUAGE",
+                        "room:popular:all:open", "room:popular:LANGUAGE:open",
+                        "room:popular:rebuild:lock", "room:popular:rebuild:dirty")),
+                eq("7"), eq(Long.toString(StudyRoomPopularityRanking.score(2, 7L))), eq("0"));
+    }
+
+    @Test
+    @DisplayName("4. 재구성은 락을 얻은 뒤 전용 임시 키에 쌓아 한 번에 교체하고, 재구성 중 갱신된 방은 다시 반영한다")
+    @SuppressWarnings("unchecked")
+    void testRebuild() {
+        when(values.setIfAbsent(eq("room:popular:rebuild:lock"), anyString(), any(Duration.class))).thenReturn(true);
+        when(roomRepository.findCapacitiesAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new StudyRoomCapacity(1L, 2, 2, StudyRoomCategory.SELF_STUDY),
+                new StudyRoomCapacity(2L, 0, 6, StudyRoomCategory.SELF_STUDY)));
+        when(roomRepository.findCapacitiesAfter(eq(2L), any(Pageable.class))).thenReturn(List.of(
+                new StudyRoomCapacity(3L, 0, 6, StudyRoomCategory.LANGUAGE)));
+        when(redisTemplate.execute(eq(StudyRoomPopularityRanking.SWAP_SCRIPT), anyList(), any(), any()))
+                .thenReturn(1L);
+        // 재구성 도중 다른 서버에서 3번 방 입장이 반영됨
+        when(redisTemplate.execute(eq(StudyRoomPopularityRanking.DRAIN_SCRIPT), anyList()))
+                .thenReturn(List.of("3"));
+        when(roomRepository.findCapacityById(3L))
+                .thenReturn(Optional.of(new StudyRoomCapacity(3L, 1, 6, StudyRoomCategory.LANGUAGE)));
+
+        assertThat(ranking.isAvailable()).isFalse();
+        ranking.rebuild();
+
+        // 임시 키는 이 재구성 전용 (다른 서버의 임시 키와 겹치지 않음)
+        verify(zSet).add(startsWith("room:popular:all:rebuild:"), argThat(set -> set.size() == 3));
+        // 1번 방은 정원이 차서 open 집합에 없음
+        verify(zSet).add(startsWith("room:popular:all:open:rebuild:"), argThat(set -> set.size() == 2));
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+        verify(redisTemplate).execute(eq(StudyRoomPopularityRanking.SWAP_SCRIPT),
+                argThat(keys -> keys.contains("room:popular:EMPLOYMENT") && keys.contains("room:popular:rebuild:lock")),
+                any(), any());
+        // 재구성 중 갱신된 방은 교체 후 DB 기준으로 다시 기록
+        verify(redisTemplate).execute(eq(StudyRoomPopularityRanking.UPDATE_SCRIPT), anyList(),
+                eq("3"), eq(Long.toString(StudyRoomPopularityRanking.score(1, 3L))), eq("1"));
+        assertThat(ranking.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("5. 다른 서버가 재구성 중이면 재구성하지 않고, 구성된 랭킹이 있으면 사용한다")
+    void testRebuildSkippedWhenLocked() {
+        when(values.setIfAbsent(eq("room:popular:rebuild:lock"), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisTemplate.hasKey("room:popular:ready")).thenReturn(true);
+
+        ranking.rebuild();
+
+        verify(roomRepository, never()).findCapacitiesAfter(anyLong(), any(Pageable.class));
+        verify(zSet, never()).add(anyString(), anySet());
+        assertThat(ranking.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("6. 재구성이 실패해도 이미 구성된 랭킹은 계속 사용한다")
+    void testRebuildFailureKeepsAvailability() {
+        when(values.setIfAbsent(eq("room:popular:rebuild:lock"), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisTemplate.hasKey("room:popular:ready")).thenReturn(true);
+        ranking.scheduledRebuild();
+        assertThat(ranking.isAvailable()).isTrue();
+
+        when(values.setIfAbsent(eq("room:popular:rebuild:lock"), anyString(), any(Duration.class)))
+                .thenThrow(new IllegalStateException("Redis 연결 실패"));
+        ranking.scheduledRebuild();
+
+        assertThat(ranking.isAvailable()).isTrue();
+    }
+}
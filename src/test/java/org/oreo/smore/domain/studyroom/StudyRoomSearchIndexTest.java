@@ -0,0 +1,132 @@
+package org.oreo.smore.domain.studyroom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StudyRoomSearchIndex 단위 테스트")
+class StudyRoomSearchIndexTest {
+
+    private StudyRoomRepository roomRepository;
+    private StudyRoomSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        roomRepository = mock(StudyRoomRepository.class);
+        index = new StudyRoomSearchIndex(roomRepository, true, 2, 0L);
+        index.index(document(1L, "자바 스터디", "개발", "매주 화요일 Java 기초", StudyRoomCategory.EMPLOYMENT));
+        index.index(document(2L, "토익 스터디", "어학", "아침 7시 모의고사", StudyRoomCategory.LANGUAGE));
+        index.index(document(3L, "알고리즘 스터디", "개발,코테", "자바스크립트로 풀어요", StudyRoomCategory.EMPLOYMENT));
+        index.index(document(4L, "새벽 공부", null, null, StudyRoomCategory.SELF_STUDY));
+    }
+
+    @Test
+    @DisplayName("1. 제목/태그/설명의 부분 문자열을 roomId 내림차순으로 찾는다")
+    void testSubstringAcrossFields() {
+        assertThat(index.search("스터디", null, Long.MAX_VALUE, 10)).containsExactly(3L, 2L, 1L);
+        assertThat(index.search("자바", null, Long.MAX_VALUE, 10)).containsExactly(3L, 1L);
+        assertThat(index.search("코테", null, Long.MAX_VALUE, 10)).containsExactly(3L);
+        assertThat(index.search("java", null, Long.MAX_VALUE, 10)).containsExactly(1L);
+        assertThat(index.search("새", null, Long.MAX_VALUE, 10)).containsExactly(4L);
+        assertThat(index.search("없는검색어", null, Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2. n-gram은 모두 있지만 원문에 없는 검색어는 제외된다")
+    void testVerifiesOriginalText() {
+        // '터디'와 '스터'는 모두 있지만 '터디스'는 없음
+        assertThat(index.search("터디스", null, Long.MAX_VALUE, 10)).isEmpty();
+        // 필드 경계를 넘는 일치 없음 (제목 끝 + 태그 시작)
+        assertThat(index.search("디개", null, Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("3. 커서/개수/카테고리 조건을 색인 안에서 적용한다")
+    void testCursorLimitCategory() {
+        assertThat(index.search("스터디", null, 3L, 10)).containsExactly(2L, 1L);
+        assertThat(index.search("스터디", null, Long.MAX_VALUE, 2)).containsExactly(3L, 2L);
+        assertThat(index.search("스터디", StudyRoomCategory.EMPLOYMENT, Long.MAX_VALUE, 10)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("4. 삭제/수정이 반영되고 조합형 한글 검색어도 찾는다")
+    void testRemoveAndUpdate() {
+        index.remove(1L);
+        index.index(document(2L, "토플 모임", "어학", null, StudyRoomCategory.LANGUAGE));
+
+        assertThat(index.search("스터디", null, Long.MAX_VALUE, 10)).containsExactly(3L);
+        assertThat(index.search(Normalizer.normalize("토플", Normalizer.Form.NFD), null, Long.MAX_VALUE, 10))
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("5. 재구성은 DB를 배치로 읽어 색인을 교체하고 이후 생성분을 따라잡는다")
+    void testRebuildAndCatchUp() {
+        when(roomRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                document(10L, "수학 스터디", null, null, StudyRoomCategory.SELF_STUDY),
+                document(11L, "영어 회화", null, null, StudyRoomCategory.LANGUAGE)));
+        when(roomRepository.findSearchDocumentsAfter(eq(11L), any(Pageable.class))).thenReturn(List.of());
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("스터디", null, Long.MAX_VALUE, 10)).containsExactly(10L);
+
+        when(roomRepository.findSearchDocumentsAfter(eq(11L), any(Pageable.class))).thenReturn(List.of(
+                document(12L, "물리 스터디", null, null, StudyRoomCategory.SELF_STUDY)));
+        when(roomRepository.findSearchDocumentsAfter(eq(12L), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(index.catchUp()).isEqualTo(1);
+        assertThat(index.search("스터디", null, Long.MAX_VALUE, 10)).containsExactly(12L, 10L);
+    }
+
+    @Test
+    @DisplayName("6. 재구성 중 이 서버에서 반영된 생성/삭제는 교체 후에도 남는다")
+    void testChangesDuringRebuildSurviveSwap() {
+        when(roomRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            // DB를 읽는 사이 커밋된 이 서버의 생성/삭제
+            index.index(document(20L, "화학 스터디", null, null, StudyRoomCategory.SELF_STUDY));
+            index.remove(10L);
+            return List.of(document(10L, "수학 스터디", null, null, StudyRoomCategory.SELF_STUDY));
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("스터디", null, Long.MAX_VALUE, 10)).containsExactly(20L);
+        // 재구성이 끝난 뒤의 변경은 그대로 반영
+        index.index(document(21L, "생물 스터디", null, null, StudyRoomCategory.SELF_STUDY));
+        assertThat(index.search("스터디", null, Long.MAX_VALUE, 10)).containsExactly(21L, 20L);
+    }
+
+    @Test
+    @DisplayName("7. 따라잡기는 watermark 앞쪽 구간부터 다시 읽어 늦게 커밋된 방도 반영한다")
+    void testCatchUpOverlapFindsLateCommits() {
+        StudyRoomSearchIndex overlapping = new StudyRoomSearchIndex(roomRepository, true, 2, 5L);
+        overlapping.index(document(30L, "국어 스터디", null, null, StudyRoomCategory.SELF_STUDY));
+
+        // 28번 방은 30번보다 먼저 발급됐지만 늦게 커밋됨
+        when(roomRepository.findSearchDocumentsAfter(eq(25L), any(Pageable.class))).thenReturn(List.of(
+                document(28L, "역사 스터디", null, null, StudyRoomCategory.SELF_STUDY)));
+
+        overlapping.catchUp();
+
+        verify(roomRepository).findSearchDocumentsAfter(eq(25L), any(Pageable.class));
+        assertThat(overlapping.search("스터디", null, Long.MAX_VALUE, 10)).containsExactly(30L, 28L);
+    }
+
+    private StudyRoomSearchDocument document(Long roomId, String title, String tag, String description,
+                                             StudyRoomCategory category) {
+        return new StudyRoomSearchDocument(roomId, title, tag, description, category);
+    }
+}
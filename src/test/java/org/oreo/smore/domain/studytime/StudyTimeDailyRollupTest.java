@@ -0,0 +1,106 @@
+package org.oreo.smore.domain.studytime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일자별 공부 시간 롤업 테스트
+ * - 세션 연장 증분 반영 결과가 raw study_times 재계산 결과와 같아야 함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StudyTimeDailyRollupTest {
+
+    @Autowired
+    private StudyTimeDailyRollup studyTimeDailyRollup;
+
+    @Autowired
+    private StudyTimeRepository studyTimeRepository;
+
+    private final Long userId = 9_001L;
+
+    @Test
+    @DisplayName("1. 자정을 넘기며 여러 번 연장된 세션도 raw 재계산과 일치한다")
+    void testIncrementalMatchesRaw() {
+        LocalDateTime createdAt = LocalDate.of(2025, 3, 1).atTime(23, 10, 0, 500_000_000);
+        StudyTime session = studyTimeRepository.save(StudyTime.builder()
+                .userId(userId)
+                .createdAt(createdAt)
+                .deletedAt(createdAt)
+                .build());
+
+        // 하트비트처럼 여러 번 연장 (밀리초 단위 경계 포함)
+        LocalDateTime previousEnd = createdAt;
+        LocalDateTime[] ends = {
+                createdAt.plusMinutes(20).plusNanos(300_000_000),
+                createdAt.plusMinutes(49).plusSeconds(59),
+                createdAt.plusMinutes(95).plusNanos(700_000_000)
+        };
+        for (LocalDateTime end : ends) {
+            session.setDeletedAt(end);
+            studyTimeRepository.save(session);
+            studyTimeDailyRollup.applySessionChange(userId, createdAt, previousEnd, end);
+            previousEnd = end;
+        }
+
+        Map<LocalDate, Long> daily = studyTimeDailyRollup.getDailySeconds(userId,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 2));
+        assertThat(daily.get(LocalDate.of(2025, 3, 1))).isEqualTo(49 * 60 + 59);
+        assertThat(daily.get(LocalDate.of(2025, 3, 2))).isEqualTo(45 * 60 + 1);
+        assertThat(studyTimeDailyRollup.findMismatches(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2. 롤업이 어긋나면 검사에서 드러나고 rebuild로 복구된다")
+    void testMismatchDetectedAndRepaired() {
+        LocalDateTime createdAt = LocalDate.of(2025, 4, 10).atTime(9, 0);
+        studyTimeRepository.save(StudyTime.builder()
+                .userId(userId)
+                .createdAt(createdAt)
+                .deletedAt(createdAt.plusHours(2))
+                .build());
+
+        // 롤업 반영 없이 raw만 저장된 상태
+        Map<LocalDate, long[]> mismatches = studyTimeDailyRollup.findMismatches(userId);
+        assertThat(mismatches).containsOnlyKeys(LocalDate.of(2025, 4, 10));
+        assertThat(mismatches.get(LocalDate.of(2025, 4, 10))).containsExactly(0L, 7_200L);
+
+        studyTimeDailyRollup.rebuild(userId);
+
+        assertThat(studyTimeDailyRollup.findMismatches(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("3. 같은 종료 시각을 읽은 두 연장 요청은 하나만 반영되고, 같은 날 증분은 한 행에 합산된다")
+    void testConcurrentExtendAppliedOnce() {
+        LocalDateTime createdAt = LocalDate.of(2025, 5, 1).atTime(10, 0);
+        StudyTime session = studyTimeRepository.save(StudyTime.builder()
+                .userId(userId)
+                .createdAt(createdAt)
+                .deletedAt(createdAt)
+                .build());
+
+        LocalDateTime end = createdAt.plusMinutes(30);
+        assertThat(studyTimeRepository.extendSession(session.getStudyTimeId(), createdAt, end)).isEqualTo(1);
+        // 먼저 반영된 요청 이후에는 같은 이전 종료 시각으로 연장할 수 없음
+        assertThat(studyTimeRepository.extendSession(session.getStudyTimeId(), createdAt, end.plusSeconds(1)))
+                .isZero();
+        studyTimeDailyRollup.applySessionChange(userId, createdAt, createdAt, end);
+        studyTimeDailyRollup.applySessionChange(userId, createdAt, end, end.plusMinutes(10));
+
+        Map<LocalDate, Long> daily = studyTimeDailyRollup.getDailySeconds(userId,
+                LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 1));
+        assertThat(daily).containsEntry(LocalDate.of(2025, 5, 1), 40L * 60);
+    }
+}
@@ -78,7 +78,7 @@ class BanParticipantTest {
         // 강퇴 처리 성공
         doNothing().when(participantService).banParticipant(ROOM_ID, TARGET_USER_ID);
         // 참가자 수 반환 설정
-        when(participantService.getActiveParticipantCount(ROOM_ID)).thenReturn(3L);
+        when(participantService.getDisplayParticipantCount(ROOM_ID)).thenReturn(3L);
 
         // when & then
         mockMvc.perform(post(API_URL, ROOM_ID, TARGET_USER_ID)
@@ -91,7 +91,7 @@ class BanParticipantTest {
         verify(participantService).isUserInRoom(ROOM_ID, TARGET_USER_ID);
         verify(studyRoomValidator).validateOwnerPermission(ROOM_ID, OWNER_ID);
         verify(participantService).banParticipant(ROOM_ID, TARGET_USER_ID);
-        verify(participantService).getActiveParticipantCount(ROOM_ID);
+        verify(participantService).getDisplayParticipantCount(ROOM_ID);
     }
 
     @Test
@@ -87,7 +87,7 @@ class VideoCallControllerLeaveTest {
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(mockStudyRoom));
         // mockStudyRoom.userId = 100L (방장), 요청 userId = 200L (일반 참가자) → 방장 아님
-        when(participantService.getActiveParticipantCount(roomId)).thenReturn(2L);
+        when(participantService.getDisplayParticipantCount(roomId)).thenReturn(2L);
 
         // When & Then
         mockMvc.perform(post("/v1/study-rooms/{roomId}/leave", roomId)
@@ -99,7 +99,7 @@ class VideoCallControllerLeaveTest {
         // Verify
         verify(studyRoomRepository).findById(roomId); // 방장 확인용
         verify(participantService).leaveRoom(roomId, 200L); // 개별 퇴장 호출
-        verify(participantService).getActiveParticipantCount(roomId); // 남은 참가자 수 확인
+        verify(participantService).getDisplayParticipantCount(roomId); // 남은 참가자 수 확인
         verify(studyRoomService, never()).deleteStudyRoomByOwnerLeave(any(), any()); // 방 삭제 안됨
 
         System.out.println("✅ 일반 참가자 퇴장 - 방 유지됨");
@@ -172,7 +172,7 @@ class VideoCallControllerLeaveTest {
                 .build();
 
         when(studyRoomRepository.findById(roomId)).thenReturn(Optional.of(room));
-        when(participantService.getActiveParticipantCount(roomId)).thenReturn(3L);
+        when(participantService.getDisplayParticipantCount(roomId)).thenReturn(3L);
 
         // Test 1: 일반 참가자 (200L) 퇴장
         Authentication participantAuth = new UsernamePasswordAuthenticationToken("200", null);
@@ -0,0 +1,71 @@
+package org.oreo.smore.global.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AfterCommitCacheManager 단위 테스트")
+class AfterCommitCacheManagerTest {
+
+    private static final String CACHE = "room:participants";
+
+    private ConcurrentMapCacheManager targetCacheManager;
+    private AfterCommitCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        targetCacheManager = new ConcurrentMapCacheManager(CACHE);
+        cacheManager = new AfterCommitCacheManager(targetCacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("1. 트랜잭션 안에서 삭제하면 커밋 전까지는 남아 있고 커밋 후 삭제된다")
+    void testEvictDeferredUntilCommit() {
+        targetCacheManager.getCache(CACHE).put(7L, "participants-7");
+        Cache cache = cacheManager.getCache(CACHE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(7L);
+        assertThat(targetCacheManager.getCache(CACHE).get(7L)).isNotNull();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(targetCacheManager.getCache(CACHE).get(7L)).isNull();
+    }
+
+    @Test
+    @DisplayName("2. 롤백되면 삭제하지 않는다")
+    void testEvictSkippedOnRollback() {
+        targetCacheManager.getCache(CACHE).put(7L, "participants-7");
+
+        TransactionSynchronizationManager.initSynchronization();
+        cacheManager.getCache(CACHE).evict(7L);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(targetCacheManager.getCache(CACHE).get(7L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("3. 트랜잭션 밖에서는 바로 삭제하고, 감싼 매니저를 그대로 노출한다")
+    void testEvictOutsideTransaction() {
+        targetCacheManager.getCache(CACHE).put(7L, "participants-7");
+
+        cacheManager.getCache(CACHE).evict(7L);
+
+        assertThat(targetCacheManager.getCache(CACHE).get(7L)).isNull();
+        assertThat(cacheManager.getDelegate()).isSameAs(targetCacheManager);
+    }
+}
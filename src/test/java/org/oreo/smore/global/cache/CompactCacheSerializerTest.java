@@ -0,0 +1,104 @@
+package org.oreo.smore.global.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.oreo.smore.domain.point.dto.response.TotalPointsResponse;
+import org.oreo.smore.domain.studytime.dto.response.StudyTimeStatisticsResponse;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompactCacheSerializer 단위 테스트")
+class CompactCacheSerializerTest {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private SimpleMeterRegistry meterRegistry;
+    private CompactCacheSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfSubType(Object.class).build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        meterRegistry = new SimpleMeterRegistry();
+        serializer = new CompactCacheSerializer(jsonSerializer, new CacheSerializerProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("1. 1년치 통계가 그대로 복원되고 기존 JSON보다 작다")
+    void testRoundTripIsSmallerThanJson() {
+        StudyTimeStatisticsResponse statistics = statistics();
+
+        byte[] compact = serializer.serialize(statistics);
+        byte[] json = jsonSerializer.serialize(statistics);
+
+        assertThat(compact[0]).isEqualTo(CompactCacheSerializer.FORMAT_VERSION);
+        assertThat(compact.length).isLessThan(json.length / 4);
+
+        StudyTimeStatisticsResponse restored = (StudyTimeStatisticsResponse) serializer.deserialize(compact);
+        assertThat(restored.getUserId()).isEqualTo(7L);
+        assertThat(restored.getStudyTrack().getPoints()).hasSize(366);
+        assertThat(restored.getStudyTrack().getPoints().get(365).getMinutes()).isEqualTo(365 % 120);
+        assertThat(meterRegistry.get("cache.serializer.entry.bytes")
+                .tag("type", "StudyTimeStatisticsResponse").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2. 작은 값은 압축하지 않고 그대로 복원된다")
+    void testSmallValueRoundTrip() {
+        byte[] bytes = serializer.serialize(new TotalPointsResponse(300));
+
+        assertThat(bytes[1]).isZero();
+        assertThat(((TotalPointsResponse) serializer.deserialize(bytes)).getTotalPoints()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("3. 배포 전 저장된 JSON 값도 읽는다")
+    void testReadsLegacyJson() {
+        byte[] legacy = jsonSerializer.serialize(statistics());
+
+        StudyTimeStatisticsResponse restored = (StudyTimeStatisticsResponse) serializer.deserialize(legacy);
+
+        assertThat(restored.getStudyTrack().getPoints()).hasSize(366);
+    }
+
+    @Test
+    @DisplayName("4. 모르는 버전이나 허용되지 않은 타입은 캐시 미스(null)")
+    void testUnknownFormatIsMiss() {
+        byte[] future = serializer.serialize(new TotalPointsResponse(1));
+        future[0] = 2;
+        assertThat(serializer.deserialize(future)).isNull();
+
+        CacheSerializerProperties narrow = new CacheSerializerProperties();
+        narrow.setAllowedPackage("org.oreo.smore.domain.user.");
+        CompactCacheSerializer narrowSerializer = new CompactCacheSerializer(jsonSerializer, narrow, meterRegistry);
+        assertThat(narrowSerializer.deserialize(serializer.serialize(new TotalPointsResponse(1)))).isNull();
+    }
+
+    private StudyTimeStatisticsResponse statistics() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<StudyTimeStatisticsResponse.Point> points = new ArrayList<>();
+        for (int i = 0; i < 366; i++) {
+            points.add(new StudyTimeStatisticsResponse.Point(start.plusDays(i).toString(), i % 120));
+        }
+        return StudyTimeStatisticsResponse.builder()
+                .userId(7L)
+                .totalAttendance(200)
+                .weekdayGraph(List.of(1, 2, 3, 4, 5, 6, 7))
+                .weeklyGraph(List.of(10, 20, 30, 40))
+                .studyTrack(new StudyTimeStatisticsResponse.StudyTrack(points))
+                .build();
+    }
+}
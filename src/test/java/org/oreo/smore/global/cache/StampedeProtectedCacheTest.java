@@ -0,0 +1,175 @@
+package org.oreo.smore.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StampedeProtectedCache 단위 테스트")
+class StampedeProtectedCacheTest {
+
+    private static final String CACHE = "study:stats";
+
+    private ConcurrentMapCache remote;
+    private CacheStampedeProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache(CACHE);
+        properties = new CacheStampedeProperties();
+        properties.setEarlyRefreshBeta(0);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("1. 같은 키에 동시에 100번 미스가 나도 원본 조회는 한 번")
+    void testConcurrentMissesLoadOnce() throws Exception {
+        StampedeProtectedCache cache = cache(Duration.ofMinutes(10), null);
+        AtomicInteger loads = new AtomicInteger();
+        Queue<Object> results = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < 100; i++) {
+            executor.submit(() -> {
+                start.await();
+                results.add(cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(200);
+                    return "stats-1";
+                }));
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(results).hasSize(100).containsOnly("stats-1");
+        assertThat(remote.get(1L).get()).isEqualTo("stats-1");
+    }
+
+    @Test
+    @DisplayName("2. 만료 직전 값은 조회 시 미리 다시 적재한다 (XFetch)")
+    void testEarlyRefresh() {
+        // 적재 시간(delta)에 비해 beta가 매우 크면 만료까지 많이 남아도 조기 갱신 대상
+        properties.setEarlyRefreshBeta(1e9);
+        StampedeProtectedCache cache = cache(Duration.ofMinutes(10), null);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(1L, () -> {
+            sleep(20);
+            return "v" + loads.incrementAndGet();
+        })).isEqualTo("v1");
+
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(remote.get(1L).get()).isEqualTo("v2");
+        assertThat(meterRegistry.get("cache.stampede.loads").tag("reason", "early").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("3. 조기 갱신을 끄면 캐시된 값을 그대로 쓴다")
+    void testNoEarlyRefreshWhenDisabled() {
+        StampedeProtectedCache cache = cache(Duration.ofMinutes(10), null);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> "v" + loads.incrementAndGet());
+        cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4. 다른 서버가 락을 잡고 있으면 적재하지 않고 채워진 값을 기다린다")
+    @SuppressWarnings("unchecked")
+    void testWaitsForOtherNode() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("lock:cache:" + CACHE + ":1"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        StampedeProtectedCache cache = cache(Duration.ofMinutes(10),
+                new CacheLoadLock(redisTemplate, Duration.ofSeconds(5)));
+        AtomicInteger loads = new AtomicInteger();
+
+        // 다른 서버가 100ms 뒤 값을 채움
+        Thread otherNode = new Thread(() -> {
+            sleep(100);
+            remote.put(1L, "from-other-node");
+        });
+        otherNode.start();
+
+        Object value = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "local";
+        });
+
+        assertThat(value).isEqualTo("from-other-node");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("5. 적재 실패는 예외로 전달되고 다음 요청은 다시 적재한다")
+    void testLoaderFailurePropagates() {
+        StampedeProtectedCache cache = cache(Duration.ofMinutes(10), null);
+
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        assertThat(cache.get(1L, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("6. 조기 갱신이 실패하면 기존 값을 돌려주고 캐시된 값도 그대로 둔다")
+    void testEarlyRefreshFailureReturnsStale() {
+        properties.setEarlyRefreshBeta(1e9);
+        StampedeProtectedCache cache = cache(Duration.ofMinutes(10), null);
+
+        assertThat(cache.get(1L, () -> {
+            sleep(20);
+            return "v1";
+        })).isEqualTo("v1");
+
+        assertThat(cache.get(1L, () -> {
+            throw new IllegalStateException("db down");
+        })).isEqualTo("v1");
+        assertThat(remote.get(1L).get()).isEqualTo("v1");
+    }
+
+    private StampedeProtectedCache cache(Duration ttl, CacheLoadLock loadLock) {
+        return new StampedeProtectedCache(remote, ttl, properties, loadLock, meterRegistry);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
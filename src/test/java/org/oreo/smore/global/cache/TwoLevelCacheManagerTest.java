@@ -0,0 +1,118 @@
+package org.oreo.smore.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TwoLevelCacheManager 단위 테스트")
+class TwoLevelCacheManagerTest {
+
+    private static final String CACHE = "user:profile";
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private LocalCacheProperties properties;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager(CACHE);
+        redisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new LocalCacheProperties();
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, properties, redisTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("1. L2에서 찾은 값은 L1에 채워져 다음 조회는 L2를 거치지 않는다")
+    void testL1ServesRepeatedReads() {
+        remoteCacheManager.getCache(CACHE).put(42L, "profile-42");
+        Cache cache = cacheManager.getCache(CACHE);
+
+        assertThat(cache.get(42L).get()).isEqualTo("profile-42");
+        remoteCacheManager.getCache(CACHE).evict(42L);
+        assertThat(cache.get(42L).get()).isEqualTo("profile-42");
+
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2. 삭제 시 L1/L2를 모두 지우고 무효화 메시지를 발행한다")
+    void testEvictPublishesInvalidation() {
+        Cache cache = cacheManager.getCache(CACHE);
+        cache.put(42L, "profile-42");
+
+        cache.evict(42L);
+
+        assertThat(cache.get(42L)).isNull();
+        assertThat(remoteCacheManager.getCache(CACHE).get(42L)).isNull();
+        verify(redisTemplate).convertAndSend(eq(properties.getInvalidationChannel()), contains("\"key\":\"42\""));
+    }
+
+    @Test
+    @DisplayName("3. 다른 인스턴스의 무효화 메시지는 L1만 지운다")
+    void testRemoteInvalidationEvictsL1() {
+        Cache cache = cacheManager.getCache(CACHE);
+        cache.put(42L, "profile-42");
+        remoteCacheManager.getCache(CACHE).evict(42L);
+
+        cacheManager.onMessage(message("other-node", "42"), null);
+
+        assertThat(cache.get(42L)).isNull();
+    }
+
+    @Test
+    @DisplayName("4. 자기 자신이 발행한 무효화 메시지는 무시한다")
+    void testOwnInvalidationIgnored() {
+        Cache cache = cacheManager.getCache(CACHE);
+        cache.put(42L, "profile-42");
+        remoteCacheManager.getCache(CACHE).evict(42L);
+
+        cacheManager.onMessage(message(properties.getNodeId(), "42"), null);
+
+        assertThat(cache.get(42L).get()).isEqualTo("profile-42");
+    }
+
+    @Test
+    @DisplayName("5. 무효화 발행이 실패해도 삭제는 진행된다")
+    void testPublishFailureIgnored() {
+        doThrow(new IllegalStateException("redis down"))
+                .when(redisTemplate).convertAndSend(anyString(), anyString());
+        Cache cache = cacheManager.getCache(CACHE);
+        cache.put(42L, "profile-42");
+
+        cache.evict(42L);
+
+        assertThat(cache.get(42L)).isNull();
+    }
+
+    private DefaultMessage message(String nodeId, String key) {
+        String body = "{\"nodeId\":\"" + nodeId + "\",\"cacheName\":\"" + CACHE + "\",\"key\":\"" + key + "\"}";
+        return new DefaultMessage(properties.getInvalidationChannel().getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.gets")
+                .tag("cache", CACHE).tag("tier", tier).tag("result", result)
+                .counter().count();
+    }
+}
@@ -0,0 +1,90 @@
+package org.oreo.smore.global.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.oreo.smore.domain.auth.jwt.JwtTokenProvider;
+import org.oreo.smore.domain.chat.ChatUserInfoCache;
+import org.oreo.smore.domain.chat.dto.ChatMessageDTO;
+import org.oreo.smore.domain.user.User;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocket 접속 경로 단위 테스트 (핸드셰이크 + STOMP CONNECT)")
+class ChatConnectPathTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private ChatUserInfoCache chatUserInfoCache;
+
+    @InjectMocks
+    private ChatHandshakeInterceptor handshakeInterceptor;
+
+    @Test
+    @DisplayName("1. 핸드셰이크는 캐시된 사용자 정보로 세션을 채우고, CONNECT는 추가 조회 없이 세션 값을 쓴다")
+    void testConnectUsesHandshakeAttributes() throws Exception {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.addHeader("Cookie", "theme=dark; accessToken=valid-token");
+
+        when(jwtTokenProvider.resolveUserId("valid-token", true)).thenReturn(Optional.of("7"));
+        when(chatUserInfoCache.get(7L)).thenReturn(ChatMessageDTO.UserInfo.builder()
+                .userId(7L)
+                .nickname("접속테스터")
+                .email("connect@example.com")
+                .profileUrl("https://example.com/p.png")
+                .build());
+
+        Map<String, Object> attributes = new HashMap<>();
+        boolean accepted = handshakeInterceptor.beforeHandshake(
+                new ServletServerHttpRequest(servletRequest), null, null, attributes);
+
+        assertThat(accepted).isTrue();
+        assertThat(attributes.get("userId")).isEqualTo(7L);
+        assertThat(attributes.get("userEmail")).isEqualTo("connect@example.com");
+        assertThat(((User) attributes.get("user")).getNickname()).isEqualTo("접속테스터");
+
+        // STOMP CONNECT
+        ChatChannelInterceptor channelInterceptor = new ChatChannelInterceptor(chatUserInfoCache);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(attributes);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> connect = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        channelInterceptor.preSend(connect, null);
+
+        assertThat(accessor.getUser()).isNotNull();
+        assertThat(accessor.getUser().getName()).isEqualTo("connect@example.com");
+        verify(chatUserInfoCache, times(1)).get(7L);
+    }
+
+    @Test
+    @DisplayName("2. 유효하지 않은 토큰이면 사용자 정보를 조회하지 않고 거부한다")
+    void testRejectsInvalidTokenWithoutLookup() throws Exception {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.addHeader("Cookie", "accessToken=bad-token");
+        when(jwtTokenProvider.resolveUserId("bad-token", true)).thenReturn(Optional.empty());
+
+        boolean accepted = handshakeInterceptor.beforeHandshake(
+                new ServletServerHttpRequest(servletRequest), null, null, new HashMap<>());
+
+        assertThat(accepted).isFalse();
+        verifyNoInteractions(chatUserInfoCache);
+    }
+}
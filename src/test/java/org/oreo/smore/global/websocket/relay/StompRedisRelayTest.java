@@ -0,0 +1,103 @@
+package org.oreo.smore.global.websocket.relay;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Redis 팬아웃 모드 테스트
+ * - 두 인스턴스(A, B)를 흉내 내어 A에서 보낸 메시지가 B의 로컬 브로커로 전달되는지 확인
+ */
+class StompRedisRelayTest {
+
+    private static final String CHANNEL = "stomp:broadcast";
+
+    private StringRedisTemplate redisA;
+    private StringRedisTemplate redisB;
+    private SimpMessagingTemplate brokerA;
+    private SimpMessagingTemplate brokerB;
+
+    private StompRedisRelayPublisher publisherA;
+    private StompRedisRelayPublisher publisherB;
+    private StompRedisRelaySubscriber subscriberA;
+    private StompRedisRelaySubscriber subscriberB;
+
+    @BeforeEach
+    void setUp() {
+        WebSocketBrokerProperties nodeA = new WebSocketBrokerProperties();
+        WebSocketBrokerProperties nodeB = new WebSocketBrokerProperties();
+
+        redisA = mock(StringRedisTemplate.class);
+        redisB = mock(StringRedisTemplate.class);
+        brokerA = mock(SimpMessagingTemplate.class);
+        brokerB = mock(SimpMessagingTemplate.class);
+
+        publisherA = new StompRedisRelayPublisher(redisA, nodeA);
+        publisherB = new StompRedisRelayPublisher(redisB, nodeB);
+        subscriberA = new StompRedisRelaySubscriber(brokerA, nodeA);
+        subscriberB = new StompRedisRelaySubscriber(brokerB, nodeB);
+    }
+
+    @Test
+    @DisplayName("1. A 인스턴스의 채팅 브로드캐스트가 B 인스턴스 브로커로 전달된다")
+    void testTopicMessageIsDeliveredToOtherNode() {
+        Message<byte[]> chat = brokerMessage("/topic/study-rooms/1/chat", "{\"content\":\"안녕하세요\"}");
+
+        // A: 로컬 전달 + Redis 발행
+        assertThat(publisherA.preSend(chat, null)).isSameAs(chat);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisA).convertAndSend(eq(CHANNEL), published.capture());
+
+        // Redis가 모든 구독자에게 전달
+        subscriberA.deliver(published.getValue());
+        subscriberB.deliver(published.getValue());
+
+        // A는 이미 로컬로 보냈으므로 다시 보내지 않음
+        verify(brokerA, never()).send(anyString(), any(Message.class));
+
+        // B는 같은 목적지/페이로드로 로컬 브로커에 전달
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<byte[]>> delivered = ArgumentCaptor.forClass(Message.class);
+        verify(brokerB).send(eq("/topic/study-rooms/1/chat"), delivered.capture());
+        assertThat(new String(delivered.getValue().getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"content\":\"안녕하세요\"}");
+        assertThat(delivered.getValue().getHeaders())
+                .containsKey(StompRedisRelayPublisher.RELAYED_HEADER);
+
+        // B에서 중계된 메시지는 다시 발행되지 않음 (무한 루프 방지)
+        publisherB.preSend(delivered.getValue(), null);
+        verify(redisB, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("2. /user 목적지도 다른 인스턴스로 전달되고, 변환된 /queue 세션 목적지는 발행하지 않는다")
+    void testUserDestinationRelay() {
+        publisherA.preSend(brokerMessage("/user/test@example.com/queue/chat/error", "{}"), null);
+        publisherA.preSend(brokerMessage("/queue/chat/error-usersession1", "{}"), null);
+
+        verify(redisA, times(1)).convertAndSend(eq(CHANNEL), anyString());
+    }
+
+    private Message<byte[]> brokerMessage(String destination, String json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}